@@ -0,0 +1,51 @@
+package codezap.benchmark;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+public record BenchmarkResult(
+        long templateCount,
+        SearchScenario scenario,
+        int iterations,
+        double p50Millis,
+        double p90Millis,
+        double p99Millis,
+        double maxMillis,
+        double statementsPerQuery,
+        double rowsPerQuery
+) {
+    public static final String CSV_HEADER = "templates,scenario,iterations,p50_ms,p90_ms,p99_ms,max_ms,statements,rows";
+
+    public static BenchmarkResult of(
+            long templateCount, SearchScenario scenario, long[] latencyNanos, long statementCount, long rowCount
+    ) {
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+        return new BenchmarkResult(
+                templateCount,
+                scenario,
+                sorted.length,
+                percentile(sorted, 50),
+                percentile(sorted, 90),
+                percentile(sorted, 99),
+                toMillis(sorted[sorted.length - 1]),
+                (double) statementCount / sorted.length,
+                (double) rowCount / sorted.length
+        );
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return toMillis(sorted[Math.max(rank, 1) - 1]);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public String toCsv() {
+        return String.format(Locale.ROOT, "%d,%s,%d,%.3f,%.3f,%.3f,%.3f,%.2f,%.2f",
+                templateCount, scenario, iterations, p50Millis, p90Millis, p99Millis, maxMillis,
+                statementsPerQuery, rowsPerQuery);
+    }
+}
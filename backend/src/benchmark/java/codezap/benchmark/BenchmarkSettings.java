@@ -0,0 +1,30 @@
+package codezap.benchmark;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public record BenchmarkSettings(
+        List<Long> templateCounts,
+        int warmupIterations,
+        int iterations,
+        long seed,
+        Path output
+) {
+    private static final String DEFAULT_TEMPLATE_COUNTS = "10000,100000,1000000";
+    private static final String DEFAULT_OUTPUT = "build/reports/benchmark/template-search.csv";
+
+    public static BenchmarkSettings fromSystemProperties() {
+        return new BenchmarkSettings(
+                Arrays.stream(System.getProperty("benchmark.templates", DEFAULT_TEMPLATE_COUNTS).split(","))
+                        .map(String::trim)
+                        .map(Long::parseLong)
+                        .sorted()
+                        .toList(),
+                Integer.getInteger("benchmark.warmup", 100),
+                Integer.getInteger("benchmark.iterations", 1000),
+                Long.getLong("benchmark.seed", 20240701L),
+                Path.of(System.getProperty("benchmark.output", DEFAULT_OUTPUT))
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package codezap.benchmark;
+
+import java.util.List;
+import java.util.function.Function;
+
+import codezap.template.dto.TemplateFilter;
+
+public enum SearchScenario {
+    KEYWORD(generator -> TemplateFilter.of(null, generator.randomKeyword(), null, null)),
+    TAG(generator -> TemplateFilter.of(null, null, null, List.of(generator.randomTagId()))),
+    CATEGORY(generator -> TemplateFilter.of(null, null, generator.randomCategoryId(), null)),
+    COMBINED(generator -> TemplateFilter.of(
+            generator.randomMemberId(),
+            generator.randomKeyword(),
+            null,
+            List.of(generator.randomTagId(), generator.randomTagId())
+    ));
+
+    private final Function<SyntheticCorpusGenerator, TemplateFilter> filterFactory;
+
+    SearchScenario(Function<SyntheticCorpusGenerator, TemplateFilter> filterFactory) {
+        this.filterFactory = filterFactory;
+    }
+
+    public TemplateFilter createFilter(SyntheticCorpusGenerator generator) {
+        return filterFactory.apply(generator);
+    }
+}
@@ -0,0 +1,161 @@
+package codezap.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import codezap.benchmark.SyntheticText.GeneratedSourceCode;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SyntheticCorpusGenerator {
+
+    private static final List<String> CORPUS_TABLES = List.of(
+            "template_event", "template_related", "template_summary", "thumbnail", "tag_stats", "template_tag",
+            "source_code", "template", "tag", "category", "member"
+    );
+    private static final int TEMPLATES_PER_MEMBER = 50;
+    private static final int CATEGORIES_PER_MEMBER = 5;
+    private static final int TAG_COUNT = 2_000;
+    private static final double TAG_POPULARITY_EXPONENT = 1.07;
+    private static final int MAX_TAGS_PER_TEMPLATE = 5;
+    private static final int MAX_SOURCE_CODES_PER_TEMPLATE = 3;
+    private static final int INSERT_BATCH_SIZE = 1_000;
+    private static final int CREATED_AT_RANGE_SECONDS = 365 * 24 * 60 * 60;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random;
+    private final SyntheticText syntheticText;
+    private final ZipfDistribution tagDistribution = new ZipfDistribution(TAG_COUNT, TAG_POPULARITY_EXPONENT);
+    private long memberCount;
+    private long templateCount;
+    private long sourceCodeCount;
+
+    public SyntheticCorpusGenerator(JdbcTemplate jdbcTemplate, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.random = new Random(seed);
+        this.syntheticText = new SyntheticText(random);
+    }
+
+    public void reset() {
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
+        CORPUS_TABLES.forEach(table -> jdbcTemplate.execute("TRUNCATE TABLE " + table));
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1");
+        memberCount = 0;
+        templateCount = 0;
+        sourceCodeCount = 0;
+        insertTags();
+    }
+
+    private void insertTags() {
+        List<Object[]> tags = new ArrayList<>();
+        for (int tagId = 1; tagId <= TAG_COUNT; tagId++) {
+            tags.add(new Object[]{tagId, "tag-" + tagId, BASE_TIME, BASE_TIME});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tag (id, name, created_at, modified_at) VALUES (?, ?, ?, ?)", tags);
+    }
+
+    public void growTo(long targetTemplateCount) {
+        long start = System.currentTimeMillis();
+        insertMembers((targetTemplateCount + TEMPLATES_PER_MEMBER - 1) / TEMPLATES_PER_MEMBER);
+        while (templateCount < targetTemplateCount) {
+            insertTemplates((int) Math.min(INSERT_BATCH_SIZE, targetTemplateCount - templateCount));
+        }
+        log.info("[SyntheticCorpusGenerator] 템플릿 {}개, 소스 코드 {}개, 회원 {}명을 {}ms 동안 생성했습니다.",
+                templateCount, sourceCodeCount, memberCount, System.currentTimeMillis() - start);
+    }
+
+    private void insertMembers(long targetMemberCount) {
+        List<Object[]> members = new ArrayList<>();
+        List<Object[]> categories = new ArrayList<>();
+        for (long memberId = memberCount + 1; memberId <= targetMemberCount; memberId++) {
+            members.add(new Object[]{memberId, "member-" + memberId, "password", "salt", BASE_TIME, BASE_TIME});
+            for (int ordinal = 0; ordinal < CATEGORIES_PER_MEMBER; ordinal++) {
+                String name = ordinal == 0 ? "카테고리 없음" : "카테고리 " + ordinal;
+                categories.add(new Object[]{
+                        categoryIdOf(memberId, ordinal), memberId, name, ordinal == 0, BASE_TIME, BASE_TIME});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO member (id, name, password, salt, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                members);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO category (id, member_id, name, is_default, created_at, modified_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, categories);
+        memberCount = Math.max(memberCount, targetMemberCount);
+    }
+
+    private void insertTemplates(int size) {
+        List<Object[]> templates = new ArrayList<>();
+        List<Object[]> sourceCodes = new ArrayList<>();
+        List<Object[]> templateTags = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            long templateId = ++templateCount;
+            long memberId = randomMemberId();
+            LocalDateTime createdAt = BASE_TIME.plusSeconds(random.nextInt(CREATED_AT_RANGE_SECONDS));
+            LocalDateTime modifiedAt = createdAt.plusSeconds(random.nextInt(CREATED_AT_RANGE_SECONDS / 12));
+            templates.add(new Object[]{
+                    templateId, memberId, categoryIdOf(memberId, random.nextInt(CATEGORIES_PER_MEMBER)),
+                    syntheticText.title(), syntheticText.description(), createdAt, modifiedAt
+            });
+            int sourceCodeSize = 1 + random.nextInt(MAX_SOURCE_CODES_PER_TEMPLATE);
+            for (int ordinal = 1; ordinal <= sourceCodeSize; ordinal++) {
+                GeneratedSourceCode sourceCode = syntheticText.sourceCode();
+                sourceCodes.add(new Object[]{
+                        ++sourceCodeCount, templateId, ordinal, sourceCode.filename(), sourceCode.content(),
+                        sourceCode.thumbnailContent(), createdAt, modifiedAt
+                });
+            }
+            randomTagIds().forEach(tagId -> templateTags.add(new Object[]{templateId, tagId, createdAt, modifiedAt}));
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO template (id, member_id, category_id, title, description, created_at, modified_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, templates);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO source_code
+                    (id, template_id, ordinal, filename, content, thumbnail_content, created_at, modified_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, sourceCodes);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO template_tag (template_id, tag_id, created_at, modified_at)
+                VALUES (?, ?, ?, ?)
+                """, templateTags);
+    }
+
+    private Set<Long> randomTagIds() {
+        int tagSize = 1 + random.nextInt(MAX_TAGS_PER_TEMPLATE);
+        Set<Long> tagIds = new LinkedHashSet<>();
+        while (tagIds.size() < tagSize) {
+            tagIds.add(randomTagId());
+        }
+        return tagIds;
+    }
+
+    private long categoryIdOf(long memberId, int ordinal) {
+        return (memberId - 1) * CATEGORIES_PER_MEMBER + ordinal + 1;
+    }
+
+    public long randomMemberId() {
+        return 1 + (long) (random.nextDouble() * memberCount);
+    }
+
+    public long randomCategoryId() {
+        return categoryIdOf(randomMemberId(), random.nextInt(CATEGORIES_PER_MEMBER));
+    }
+
+    public long randomTagId() {
+        return tagDistribution.sample(random);
+    }
+
+    public String randomKeyword() {
+        return syntheticText.keyword();
+    }
+}
@@ -0,0 +1,175 @@
+package codezap.benchmark;
+
+import java.util.List;
+import java.util.Random;
+
+public class SyntheticText {
+
+    private static final List<String> ENTITIES = List.of(
+            "Member", "Template", "Order", "Payment", "Category", "Session", "Token", "Invoice", "Product", "Cart",
+            "Review", "Comment", "Notification", "Schedule", "Report", "Account", "Coupon", "Delivery", "Inventory",
+            "Message", "Article", "Image", "Upload", "Refund", "Address", "Profile", "Follow", "Bookmark", "Alarm",
+            "Subscription"
+    );
+    private static final List<String> FIELDS = List.of(
+            "id", "name", "email", "title", "status", "price", "amount", "count", "createdAt", "modifiedAt",
+            "description", "ownerId", "expiredAt", "position", "version"
+    );
+    private static final List<String> ACTIONS = List.of(
+            "조회", "저장", "수정", "삭제", "검증", "변환", "정렬", "페이징", "캐싱", "인증", "암호화", "재시도"
+    );
+    private static final List<String> KINDS = List.of(
+            "예제", "유틸", "템플릿", "스니펫", "쿼리", "컴포넌트", "설정", "테스트"
+    );
+    private static final List<String> SENTENCES = List.of(
+            "자주 사용하는 %s %s 코드를 정리했습니다.",
+            "%s 도메인에서 %s 로직을 재사용하기 위한 코드입니다.",
+            "프로젝트에서 %s %s 처리를 할 때 참고하세요.",
+            "%s 관련 %s 작업을 간단하게 구현한 예시입니다."
+    );
+    private static final List<SourceCodeForm> FORMS = List.of(
+            new SourceCodeForm("%1$sService.java", """
+                    @Service
+                    @RequiredArgsConstructor
+                    public class %1$sService {
+
+                        private final %1$sRepository %2$sRepository;
+
+                        @Transactional(readOnly = true)
+                        public %1$s getById(Long id) {
+                            return %2$sRepository.findById(id)
+                                    .orElseThrow(() -> new IllegalArgumentException("%1$s not found: " + id));
+                        }
+
+                        @Transactional
+                        public void update%3$s(Long id, String %4$s) {
+                            %1$s %2$s = getById(id);
+                            %2$s.update%3$s(%4$s);
+                        }
+                    }
+                    """),
+            new SourceCodeForm("%1$sRepository.java", """
+                    public interface %1$sRepository extends JpaRepository<%1$s, Long> {
+
+                        @Query("SELECT e FROM %1$s e WHERE e.%4$s = :%4$s ORDER BY e.id DESC")
+                        List<%1$s> findAllBy%3$s(String %4$s, Pageable pageable);
+
+                        boolean existsBy%3$s(String %4$s);
+                    }
+                    """),
+            new SourceCodeForm("use%1$s.ts", """
+                    export const use%1$s = (id: number) => {
+                      const [%2$s, set%1$s] = useState<%1$s | null>(null);
+
+                      useEffect(() => {
+                        fetch(`/api/%2$ss/${id}`)
+                          .then((response) => response.json())
+                          .then((data) => set%1$s({ ...data, %4$s: data.%4$s ?? '' }));
+                      }, [id]);
+
+                      return { %2$s, is%1$sLoading: %2$s === null };
+                    };
+                    """),
+            new SourceCodeForm("%1$sCard.tsx", """
+                    interface %1$sCardProps {
+                      %2$s: %1$s;
+                      onSelect: (id: number) => void;
+                    }
+
+                    const %1$sCard = ({ %2$s, onSelect }: %1$sCardProps) => (
+                      <S.CardContainer onClick={() => onSelect(%2$s.id)}>
+                        <S.Title>{%2$s.%4$s}</S.Title>
+                      </S.CardContainer>
+                    );
+
+                    export default %1$sCard;
+                    """),
+            new SourceCodeForm("%2$s.sql", """
+                    SELECT e.id, e.%4$s, COUNT(*) AS total
+                    FROM %2$s e
+                             JOIN member m ON m.id = e.member_id
+                    WHERE e.%4$s IS NOT NULL
+                    GROUP BY e.id, e.%4$s
+                    ORDER BY total DESC
+                    LIMIT 20;
+                    """),
+            new SourceCodeForm("%2$s.css", """
+                    .%2$s-container {
+                      display: flex;
+                      flex-direction: column;
+                      gap: 0.75rem;
+                      padding: 1rem;
+                    }
+
+                    .%2$s-container .%4$s {
+                      font-weight: 600;
+                      color: var(--primary-color);
+                    }
+                    """),
+            new SourceCodeForm("%2$s_client.py", """
+                    class %1$sClient:
+                        def __init__(self, session):
+                            self.session = session
+
+                        def find_%2$s(self, %2$s_id):
+                            response = self.session.get(f"/api/%2$ss/{%2$s_id}")
+                            response.raise_for_status()
+                            return response.json()["%4$s"]
+                    """)
+    );
+
+    private final Random random;
+
+    public SyntheticText(Random random) {
+        this.random = random;
+    }
+
+    public String title() {
+        return pick(ENTITIES) + " " + pick(ACTIONS) + " " + pick(KINDS);
+    }
+
+    public String description() {
+        String first = String.format(pick(SENTENCES), pick(ENTITIES), pick(ACTIONS));
+        if (random.nextBoolean()) {
+            return first;
+        }
+        return first + " " + String.format(pick(SENTENCES), pick(ENTITIES), pick(ACTIONS));
+    }
+
+    public GeneratedSourceCode sourceCode() {
+        SourceCodeForm form = pick(FORMS);
+        String entity = pick(ENTITIES);
+        String field = pick(FIELDS);
+        String variable = Character.toLowerCase(entity.charAt(0)) + entity.substring(1);
+        String capitalizedField = Character.toUpperCase(field.charAt(0)) + field.substring(1);
+        return new GeneratedSourceCode(
+                String.format(form.filename(), entity, variable),
+                String.format(form.content(), entity, variable, capitalizedField, field)
+        );
+    }
+
+    public String keyword() {
+        return switch (random.nextInt(3)) {
+            case 0 -> pick(ENTITIES);
+            case 1 -> pick(ACTIONS);
+            default -> pick(ENTITIES) + " " + pick(ACTIONS);
+        };
+    }
+
+    private <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private record SourceCodeForm(String filename, String content) {
+    }
+
+    public record GeneratedSourceCode(String filename, String content) {
+
+        public String thumbnailContent() {
+            return content.lines()
+                    .limit(5)
+                    .reduce((first, second) -> first + "\n" + second)
+                    .orElse("");
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package codezap.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Tuple;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import codezap.search.service.SourceCodeSearchService;
+import codezap.search.service.TemplateBitmapSearchService;
+import codezap.template.dto.TemplateFilter;
+import codezap.template.service.TemplateService;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "spring.profiles.active=benchmark")
+class TemplateSearchBenchmark {
+
+    private static final Pageable PAGEABLE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "modifiedAt"));
+    private static final List<String> ATTRIBUTES = List.of("id", "title", "modifiedAt");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TemplateService templateService;
+
+    @Autowired
+    private TemplateBitmapSearchService templateBitmapSearchService;
+
+    @Autowired
+    private SourceCodeSearchService sourceCodeSearchService;
+
+    @Test
+    @DisplayName("템플릿 수와 검색 조건별 TemplateService.findAll 지연 시간 및 쿼리 수 측정")
+    void findAll() throws IOException {
+        BenchmarkSettings settings = BenchmarkSettings.fromSystemProperties();
+        SyntheticCorpusGenerator generator = new SyntheticCorpusGenerator(jdbcTemplate, settings.seed());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<BenchmarkResult> results = new ArrayList<>();
+
+        generator.reset();
+        for (long templateCount : settings.templateCounts()) {
+            generator.growTo(templateCount);
+            templateBitmapSearchService.load();
+            sourceCodeSearchService.load();
+            for (SearchScenario scenario : SearchScenario.values()) {
+                BenchmarkResult result = measure(templateCount, scenario, generator, statistics, settings);
+                log.info("[TemplateSearchBenchmark] {}", result.toCsv());
+                results.add(result);
+            }
+        }
+
+        write(results, settings);
+    }
+
+    private BenchmarkResult measure(
+            long templateCount,
+            SearchScenario scenario,
+            SyntheticCorpusGenerator generator,
+            Statistics statistics,
+            BenchmarkSettings settings
+    ) {
+        for (int i = 0; i < settings.warmupIterations(); i++) {
+            templateService.findAll(scenario.createFilter(generator), PAGEABLE, ATTRIBUTES);
+        }
+        long[] latencyNanos = new long[settings.iterations()];
+        long rowCount = 0;
+        statistics.clear();
+        for (int i = 0; i < settings.iterations(); i++) {
+            TemplateFilter templateFilter = scenario.createFilter(generator);
+            long start = System.nanoTime();
+            Slice<Tuple> templates = templateService.findAll(templateFilter, PAGEABLE, ATTRIBUTES);
+            latencyNanos[i] = System.nanoTime() - start;
+            rowCount += templates.getNumberOfElements();
+        }
+        return BenchmarkResult.of(
+                templateCount, scenario, latencyNanos, statistics.getPrepareStatementCount(), rowCount);
+    }
+
+    private void write(List<BenchmarkResult> results, BenchmarkSettings settings) throws IOException {
+        Files.createDirectories(settings.output().toAbsolutePath().getParent());
+        Files.write(settings.output(), Stream.concat(
+                Stream.of(BenchmarkResult.CSV_HEADER),
+                results.stream().map(BenchmarkResult::toCsv)
+        ).toList());
+        log.info("[TemplateSearchBenchmark] 결과를 {}에 저장했습니다.", settings.output().toAbsolutePath());
+    }
+}
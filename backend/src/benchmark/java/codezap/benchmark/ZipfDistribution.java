@@ -0,0 +1,29 @@
+package codezap.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class ZipfDistribution {
+
+    private final double[] cumulativeProbabilities;
+
+    public ZipfDistribution(int size, double exponent) {
+        cumulativeProbabilities = new double[size];
+        double sum = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            sum += 1 / Math.pow(rank, exponent);
+            cumulativeProbabilities[rank - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulativeProbabilities[i] /= sum;
+        }
+    }
+
+    public int sample(Random random) {
+        int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Math.min(index, cumulativeProbabilities.length - 1) + 1;
+    }
+}
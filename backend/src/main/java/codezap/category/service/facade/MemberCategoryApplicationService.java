@@ -1,5 +1,7 @@
 package codezap.category.service.facade;
 
+import java.util.List;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +13,10 @@ import codezap.category.service.CategoryService;
 import codezap.member.domain.Member;
 import codezap.member.dto.MemberDto;
 import codezap.member.service.MemberService;
+import codezap.template.domain.TemplateEventType;
+import codezap.template.service.TemplateEventService;
+import codezap.template.service.TemplateSearchGeneration;
+import codezap.template.service.TemplateSummaryService;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -18,6 +24,9 @@ import lombok.RequiredArgsConstructor;
 public class MemberCategoryApplicationService {
     private final MemberService memberService;
     private final CategoryService categoryService;
+    private final TemplateSummaryService templateSummaryService;
+    private final TemplateEventService templateEventService;
+    private final TemplateSearchGeneration templateSearchGeneration;
 
     @Transactional
     public CreateCategoryResponse create(MemberDto memberDto, CreateCategoryRequest createCategoryRequest) {
@@ -34,5 +43,8 @@ public class MemberCategoryApplicationService {
     public void update(MemberDto memberDto, Long id, UpdateCategoryRequest updateCategoryRequest) {
         Member member = memberService.getById(memberDto.id());
         categoryService.update(member, id, updateCategoryRequest);
+        List<Long> templateIds = templateSummaryService.touchAllByCategoryId(id);
+        templateEventService.publishAll(member, templateIds, TemplateEventType.UPDATED);
+        templateSearchGeneration.advance(member.getId());
     }
 }
@@ -0,0 +1,47 @@
+package codezap.global.cache;
+
+import java.time.Duration;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    public static final String TEMPLATE_COUNT = "templateCount";
+    public static final String MEMBER_PROFILE = "memberProfile";
+    public static final String TEMPLATE_SEARCH_RESULT = "templateSearchResult";
+    public static final String MEMBER_TAGS = "memberTags";
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(TEMPLATE_COUNT, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(30))
+                .maximumSize(10_000)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(MEMBER_PROFILE, Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(TEMPLATE_SEARCH_RESULT, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(5))
+                .maximumSize(10_000)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(MEMBER_TAGS, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(1))
+                .maximumSize(10_000)
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,17 @@
+package codezap.global.debug;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "debug-headers")
+public class DebugHeaderProperties {
+    private final boolean enabled;
+
+    public DebugHeaderProperties(@DefaultValue(value = "false") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
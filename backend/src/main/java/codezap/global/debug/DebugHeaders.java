@@ -0,0 +1,32 @@
+package codezap.global.debug;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@Component
+@EnableConfigurationProperties(DebugHeaderProperties.class)
+public class DebugHeaders {
+
+    public static final String TEMPLATE_SEARCH_PLAN = "X-Template-Search-Plan";
+
+    private final DebugHeaderProperties debugHeaderProperties;
+
+    public DebugHeaders(DebugHeaderProperties debugHeaderProperties) {
+        this.debugHeaderProperties = debugHeaderProperties;
+    }
+
+    public void set(String name, String value) {
+        if (!debugHeaderProperties.isEnabled()
+                || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && value != null) {
+            response.setHeader(name, value);
+        }
+    }
+}
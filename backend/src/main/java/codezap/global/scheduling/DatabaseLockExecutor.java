@@ -0,0 +1,57 @@
+package codezap.global.scheduling;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import codezap.global.exception.CodeZapException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MySQL 네임드 락(GET_LOCK)을 얻은 인스턴스 하나에서만 작업을 실행합니다.
+ * 락은 커넥션 세션에 묶이므로 작업 동안 커넥션 하나를 따로 붙잡아 두며, 인스턴스가 죽어 커넥션이 끊기면 함께 풀립니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseLockExecutor {
+
+    private final DataSource dataSource;
+
+    public boolean executeIfAcquired(String lockName, Runnable action) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!acquire(connection, lockName)) {
+                return false;
+            }
+            try {
+                action.run();
+                return true;
+            } finally {
+                release(connection, lockName);
+            }
+        } catch (SQLException e) {
+            throw new CodeZapException(HttpStatus.INTERNAL_SERVER_ERROR, "데이터베이스 락을 처리하지 못했습니다.");
+        }
+    }
+
+    private boolean acquire(Connection connection, String lockName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            statement.setString(1, lockName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void release(Connection connection, String lockName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, lockName);
+            statement.executeQuery().close();
+        }
+    }
+}
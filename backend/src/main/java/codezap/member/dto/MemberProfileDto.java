@@ -0,0 +1,12 @@
+package codezap.member.dto;
+
+import codezap.member.domain.Member;
+
+public record MemberProfileDto(
+        Long id,
+        String name
+) {
+    public static MemberProfileDto from(Member member) {
+        return new MemberProfileDto(member.getId(), member.getName());
+    }
+}
@@ -2,6 +2,7 @@ package codezap.member.service;
 
 import java.util.Objects;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -9,9 +10,11 @@ import codezap.auth.encryption.PasswordEncryptor;
 import codezap.auth.encryption.SaltGenerator;
 import codezap.category.domain.Category;
 import codezap.category.repository.CategoryRepository;
+import codezap.global.cache.CacheConfiguration;
 import codezap.global.exception.CodeZapException;
 import codezap.member.domain.Member;
 import codezap.member.dto.MemberDto;
+import codezap.member.dto.MemberProfileDto;
 import codezap.member.dto.request.SignupRequest;
 import codezap.member.dto.response.FindMemberResponse;
 import codezap.member.repository.MemberRepository;
@@ -46,8 +49,9 @@ public class MemberService {
         return FindMemberResponse.from(memberRepository.fetchById(id));
     }
 
-    public Member getByTemplateId(Long templateId) {
-        return memberRepository.fetchByTemplateId(templateId);
+    @Cacheable(cacheNames = CacheConfiguration.MEMBER_PROFILE, key = "#id")
+    public MemberProfileDto getProfileById(Long id) {
+        return MemberProfileDto.from(memberRepository.fetchById(id));
     }
 
     private void checkSameMember(MemberDto memberDto, Long id) {
@@ -0,0 +1,39 @@
+package codezap.search.domain;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+
+public enum CodeLanguage {
+    JVM(Set.of("java", "kt", "kts", "groovy", "scala"), "_$"),
+    JAVASCRIPT(Set.of("js", "jsx", "mjs", "cjs", "ts", "tsx", "vue", "svelte"), "_$"),
+    PHP(Set.of("php"), "_$"),
+    STYLESHEET(Set.of("css", "scss", "sass", "less"), "_-"),
+    MARKUP(Set.of("html", "htm", "xml", "svg"), "_-"),
+    LISP(Set.of("clj", "cljs", "edn", "lisp", "el", "scm"), "_-?!*"),
+    PLAIN_TEXT(Set.of(), "_");
+
+    private final Set<String> extensions;
+    private final String identifierSymbols;
+
+    CodeLanguage(Set<String> extensions, String identifierSymbols) {
+        this.extensions = extensions;
+        this.identifierSymbols = identifierSymbols;
+    }
+
+    public static CodeLanguage fromFilename(String filename) {
+        int extensionIndex = filename.lastIndexOf('.');
+        if (extensionIndex < 0) {
+            return PLAIN_TEXT;
+        }
+        String extension = filename.substring(extensionIndex + 1).toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(language -> language.extensions.contains(extension))
+                .findFirst()
+                .orElse(PLAIN_TEXT);
+    }
+
+    public boolean isIdentifierCharacter(char character) {
+        return Character.isLetterOrDigit(character) || identifierSymbols.indexOf(character) >= 0;
+    }
+}
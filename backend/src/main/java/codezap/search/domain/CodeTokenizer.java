@@ -0,0 +1,93 @@
+package codezap.search.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class CodeTokenizer implements Tokenizer {
+
+    private final CodeLanguage language;
+
+    public CodeTokenizer() {
+        this(CodeLanguage.PLAIN_TEXT);
+    }
+
+    public CodeTokenizer(CodeLanguage language) {
+        this.language = language;
+    }
+
+    public static CodeTokenizer forFilename(String filename) {
+        return new CodeTokenizer(CodeLanguage.fromFilename(filename));
+    }
+
+    @Override
+    public List<Token> tokenize(String text) {
+        return splitIdentifiers(text).stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    public List<Identifier> tokenizeIdentifiers(String text) {
+        return splitIdentifiers(text).stream()
+                .map(parts -> new Identifier(parts.stream().map(Token::term).toList()))
+                .toList();
+    }
+
+    private List<List<Token>> splitIdentifiers(String text) {
+        List<List<Token>> identifiers = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isIdentifierCharacter = i < text.length() && language.isIdentifierCharacter(text.charAt(i));
+            if (isIdentifierCharacter && start < 0) {
+                start = i;
+            }
+            if (!isIdentifierCharacter && start >= 0) {
+                List<Token> parts = new ArrayList<>();
+                splitParts(text, start, i, parts);
+                if (!parts.isEmpty()) {
+                    identifiers.add(parts);
+                }
+                start = -1;
+            }
+        }
+        return identifiers;
+    }
+
+    private void splitParts(String text, int start, int end, List<Token> parts) {
+        int partStart = -1;
+        for (int i = start; i < end; i++) {
+            char character = text.charAt(i);
+            if (!Character.isLetterOrDigit(character)) {
+                addPart(text, partStart, i, parts);
+                partStart = -1;
+                continue;
+            }
+            if (partStart >= 0 && isPartBoundary(text, i, end)) {
+                addPart(text, partStart, i, parts);
+                partStart = i;
+            }
+            if (partStart < 0) {
+                partStart = i;
+            }
+        }
+        addPart(text, partStart, end, parts);
+    }
+
+    private boolean isPartBoundary(String text, int index, int end) {
+        char previous = text.charAt(index - 1);
+        char current = text.charAt(index);
+        if (!Character.isUpperCase(current)) {
+            return false;
+        }
+        if (Character.isLowerCase(previous) || Character.isDigit(previous)) {
+            return true;
+        }
+        return Character.isUpperCase(previous) && index + 1 < end && Character.isLowerCase(text.charAt(index + 1));
+    }
+
+    private void addPart(String text, int start, int end, List<Token> parts) {
+        if (start >= 0 && start < end) {
+            parts.add(new Token(text.substring(start, end).toLowerCase(Locale.ROOT), start, end));
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package codezap.search.domain;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class CompressedBitmap {
+
+    private static final int CONTAINER_BITS = 16;
+    private static final int LOW_MASK = (1 << CONTAINER_BITS) - 1;
+    private static final int ARRAY_CONTAINER_MAX_SIZE = 4096;
+    private static final int BITMAP_WORD_COUNT = (1 << CONTAINER_BITS) / Long.SIZE;
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private long[] keys;
+    private Container[] containers;
+    private int size;
+
+    public CompressedBitmap() {
+        this(new long[DEFAULT_CAPACITY], new Container[DEFAULT_CAPACITY], 0);
+    }
+
+    private CompressedBitmap(long[] keys, Container[] containers, int size) {
+        this.keys = keys;
+        this.containers = containers;
+        this.size = size;
+    }
+
+    public static CompressedBitmap of(long... values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (long value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    public boolean add(long value) {
+        long key = value >>> CONTAINER_BITS;
+        char low = (char) (value & LOW_MASK);
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            insertContainer(-index - 1, key, new ArrayContainer().add(low));
+            return true;
+        }
+        if (containers[index].contains(low)) {
+            return false;
+        }
+        containers[index] = containers[index].add(low);
+        return true;
+    }
+
+    public boolean remove(long value) {
+        long key = value >>> CONTAINER_BITS;
+        char low = (char) (value & LOW_MASK);
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0 || !containers[index].contains(low)) {
+            return false;
+        }
+        containers[index] = containers[index].remove(low);
+        if (containers[index].cardinality() == 0) {
+            removeContainer(index);
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        int index = Arrays.binarySearch(keys, 0, size, value >>> CONTAINER_BITS);
+        return index >= 0 && containers[index].contains((char) (value & LOW_MASK));
+    }
+
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] == other.keys[j]) {
+                Container container = containers[i].and(other.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.insertContainer(result.size, keys[i], container);
+                }
+                i++;
+                j++;
+            } else if (keys[i] < other.keys[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long[] toArray() {
+        long[] values = new long[Math.toIntExact(cardinality())];
+        int offset = 0;
+        for (int i = 0; i < size; i++) {
+            offset = containers[i].fill(keys[i] << CONTAINER_BITS, values, offset);
+        }
+        return values;
+    }
+
+    public List<Long> toList() {
+        return Arrays.stream(toArray()).boxed().toList();
+    }
+
+    private void insertContainer(int index, long key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    private interface Container {
+
+        Container add(char value);
+
+        Container remove(char value);
+
+        boolean contains(char value);
+
+        Container and(Container other);
+
+        int cardinality();
+
+        int fill(long high, long[] values, int offset);
+    }
+
+    private static final class ArrayContainer implements Container {
+
+        private char[] values;
+        private int cardinality;
+
+        private ArrayContainer() {
+            this(new char[DEFAULT_CAPACITY], 0);
+        }
+
+        private ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public Container add(char value) {
+            if (cardinality == ARRAY_CONTAINER_MAX_SIZE) {
+                return toBitmapContainer().add(value);
+            }
+            int insertionPoint = -Arrays.binarySearch(values, 0, cardinality, value) - 1;
+            if (cardinality == values.length) {
+                int capacity = Math.max(DEFAULT_CAPACITY, cardinality * 2);
+                values = Arrays.copyOf(values, Math.min(ARRAY_CONTAINER_MAX_SIZE, capacity));
+            }
+            System.arraycopy(values, insertionPoint, values, insertionPoint + 1, cardinality - insertionPoint);
+            values[insertionPoint] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+            return this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        public Container and(Container other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public int fill(long high, long[] target, int offset) {
+            for (int i = 0; i < cardinality; i++) {
+                target[offset++] = high | values[i];
+            }
+            return offset;
+        }
+
+        private BitmapContainer toBitmapContainer() {
+            BitmapContainer bitmapContainer = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmapContainer.add(values[i]);
+            }
+            return bitmapContainer;
+        }
+    }
+
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        private BitmapContainer() {
+            this(new long[BITMAP_WORD_COUNT], 0);
+        }
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public Container add(char value) {
+            words[value >>> 6] |= 1L << value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            words[value >>> 6] &= ~(1L << value);
+            cardinality--;
+            if (cardinality <= ARRAY_CONTAINER_MAX_SIZE) {
+                return toArrayContainer();
+            }
+            return this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            BitmapContainer bitmapContainer = (BitmapContainer) other;
+            long[] result = new long[BITMAP_WORD_COUNT];
+            int resultCardinality = 0;
+            for (int i = 0; i < BITMAP_WORD_COUNT; i++) {
+                result[i] = words[i] & bitmapContainer.words[i];
+                resultCardinality += Long.bitCount(result[i]);
+            }
+            BitmapContainer intersection = new BitmapContainer(result, resultCardinality);
+            if (resultCardinality <= ARRAY_CONTAINER_MAX_SIZE) {
+                return intersection.toArrayContainer();
+            }
+            return intersection;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public int fill(long high, long[] target, int offset) {
+            for (int i = 0; i < BITMAP_WORD_COUNT; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    target[offset++] = high | ((long) i << 6) | Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return offset;
+        }
+
+        private ArrayContainer toArrayContainer() {
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORD_COUNT; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, count);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package codezap.search.domain;
+
+import java.util.List;
+
+public record Highlight(
+        SearchField field,
+        String filename,
+        String snippet,
+        List<HighlightRange> ranges
+) {
+}
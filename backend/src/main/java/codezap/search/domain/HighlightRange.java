@@ -0,0 +1,7 @@
+package codezap.search.domain;
+
+public record HighlightRange(
+        int start,
+        int end
+) {
+}
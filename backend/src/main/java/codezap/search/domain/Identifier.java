@@ -0,0 +1,17 @@
+package codezap.search.domain;
+
+import java.util.List;
+
+public record Identifier(
+        List<String> parts
+) {
+    public boolean contains(Identifier other) {
+        int otherSize = other.parts.size();
+        for (int start = 0; start + otherSize <= parts.size(); start++) {
+            if (parts.subList(start, start + otherSize).equals(other.parts)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,168 @@
+package codezap.search.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import codezap.template.dto.SourceCodeDocument;
+
+public class IdentifierIndex {
+
+    private final Map<String, LongPostingList> postings = new HashMap<>();
+    private final Map<Long, IndexedSourceCode> sourceCodes = new HashMap<>();
+    private final Map<Long, LongPostingList> templateSourceCodeIds = new HashMap<>();
+    private final CodeTokenizer queryTokenizer = new CodeTokenizer();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(SourceCodeDocument document) {
+        IndexedSourceCode indexedSourceCode = IndexedSourceCode.from(document);
+        lock.writeLock().lock();
+        try {
+            IndexedSourceCode previous = sourceCodes.get(document.id());
+            if (previous != null && previous.isNewerThan(indexedSourceCode)) {
+                return;
+            }
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(indexedSourceCode);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long sourceCodeId) {
+        lock.writeLock().lock();
+        try {
+            IndexedSourceCode previous = sourceCodes.get(sourceCodeId);
+            if (previous != null) {
+                unindex(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeByTemplateId(long templateId) {
+        lock.writeLock().lock();
+        try {
+            LongPostingList sourceCodeIds = templateSourceCodeIds.get(templateId);
+            if (sourceCodeIds == null) {
+                return;
+            }
+            for (long sourceCodeId : sourceCodeIds.toArray()) {
+                unindex(sourceCodes.get(sourceCodeId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public LongPostingList findTemplateIds(String keyword) {
+        List<Identifier> queryIdentifiers = queryTokenizer.tokenizeIdentifiers(keyword);
+        LongPostingList templateIds = new LongPostingList();
+        if (queryIdentifiers.isEmpty()) {
+            return templateIds;
+        }
+        lock.readLock().lock();
+        try {
+            for (long sourceCodeId : findCandidates(queryIdentifiers)) {
+                IndexedSourceCode indexedSourceCode = sourceCodes.get(sourceCodeId);
+                if (indexedSourceCode.containsAll(queryIdentifiers)) {
+                    templateIds.add(indexedSourceCode.templateId());
+                }
+            }
+            return templateIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return sourceCodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] findCandidates(List<Identifier> queryIdentifiers) {
+        Set<String> parts = new LinkedHashSet<>();
+        queryIdentifiers.forEach(identifier -> parts.addAll(identifier.parts()));
+        List<LongPostingList> postingLists = new ArrayList<>();
+        for (String part : parts) {
+            LongPostingList posting = postings.get(part);
+            if (posting == null) {
+                return new long[0];
+            }
+            postingLists.add(posting);
+        }
+        postingLists.sort(Comparator.comparingInt(LongPostingList::size));
+        LongPostingList candidates = postingLists.get(0);
+        for (int i = 1; i < postingLists.size() && !candidates.isEmpty(); i++) {
+            candidates = candidates.intersect(postingLists.get(i));
+        }
+        return candidates.toArray();
+    }
+
+    private void index(IndexedSourceCode indexedSourceCode) {
+        sourceCodes.put(indexedSourceCode.id(), indexedSourceCode);
+        templateSourceCodeIds.computeIfAbsent(indexedSourceCode.templateId(), key -> new LongPostingList())
+                .add(indexedSourceCode.id());
+        for (String part : indexedSourceCode.parts()) {
+            postings.computeIfAbsent(part, key -> new LongPostingList()).add(indexedSourceCode.id());
+        }
+    }
+
+    private void unindex(IndexedSourceCode indexedSourceCode) {
+        sourceCodes.remove(indexedSourceCode.id());
+        LongPostingList sourceCodeIds = templateSourceCodeIds.get(indexedSourceCode.templateId());
+        sourceCodeIds.remove(indexedSourceCode.id());
+        if (sourceCodeIds.isEmpty()) {
+            templateSourceCodeIds.remove(indexedSourceCode.templateId());
+        }
+        for (String part : indexedSourceCode.parts()) {
+            LongPostingList posting = postings.get(part);
+            posting.remove(indexedSourceCode.id());
+            if (posting.isEmpty()) {
+                postings.remove(part);
+            }
+        }
+    }
+
+    private record IndexedSourceCode(
+            long id,
+            long templateId,
+            LocalDateTime modifiedAt,
+            List<Identifier> identifiers,
+            Set<String> parts
+    ) {
+        static IndexedSourceCode from(SourceCodeDocument document) {
+            CodeTokenizer tokenizer = CodeTokenizer.forFilename(document.filename());
+            List<Identifier> identifiers = List.copyOf(new LinkedHashSet<>(
+                    tokenizer.tokenizeIdentifiers(document.content())));
+            Set<String> parts = new LinkedHashSet<>();
+            identifiers.forEach(identifier -> parts.addAll(identifier.parts()));
+            return new IndexedSourceCode(
+                    document.id(), document.templateId(), document.modifiedAt(), identifiers, Set.copyOf(parts));
+        }
+
+        boolean containsAll(List<Identifier> queryIdentifiers) {
+            return queryIdentifiers.stream()
+                    .allMatch(queryIdentifier -> identifiers.stream()
+                            .anyMatch(identifier -> identifier.contains(queryIdentifier)));
+        }
+
+        boolean isNewerThan(IndexedSourceCode other) {
+            return modifiedAt != null && other.modifiedAt != null && modifiedAt.isAfter(other.modifiedAt);
+        }
+    }
+}
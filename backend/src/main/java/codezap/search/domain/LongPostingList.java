@@ -0,0 +1,126 @@
+package codezap.search.domain;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+public class LongPostingList {
+
+    private static final int DEFAULT_CAPACITY = 4;
+    private static final int GALLOPING_RATIO = 32;
+
+    private long[] values;
+    private int size;
+
+    public LongPostingList() {
+        this(new long[DEFAULT_CAPACITY], 0);
+    }
+
+    private LongPostingList(long[] values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    public static LongPostingList of(long... values) {
+        long[] sorted = Arrays.stream(values).sorted().distinct().toArray();
+        return new LongPostingList(sorted, sorted.length);
+    }
+
+    public boolean add(long value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index >= 0) {
+            return false;
+        }
+        int insertionPoint = -index - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(DEFAULT_CAPACITY, size * 2));
+        }
+        System.arraycopy(values, insertionPoint, values, insertionPoint + 1, size - insertionPoint);
+        values[insertionPoint] = value;
+        size++;
+        return true;
+    }
+
+    public boolean remove(long value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    public boolean contains(long value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    public LongPostingList intersect(LongPostingList other) {
+        if (size > other.size) {
+            return other.intersect(this);
+        }
+        if ((long) size * GALLOPING_RATIO < other.size) {
+            return intersectBySearch(other);
+        }
+        return intersectByMerge(other);
+    }
+
+    private LongPostingList intersectBySearch(LongPostingList larger) {
+        long[] result = new long[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (larger.contains(values[i])) {
+                result[count++] = values[i];
+            }
+        }
+        return new LongPostingList(result, count);
+    }
+
+    private LongPostingList intersectByMerge(LongPostingList other) {
+        long[] result = new long[size];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (values[i] == other.values[j]) {
+                result[count++] = values[i];
+                i++;
+                j++;
+            } else if (values[i] < other.values[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return new LongPostingList(result, count);
+    }
+
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(LongConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            consumer.accept(values[i]);
+        }
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    public List<Long> toList() {
+        return Arrays.stream(values, 0, size).boxed().toList();
+    }
+}
@@ -0,0 +1,10 @@
+package codezap.search.domain;
+
+import java.util.List;
+
+public record RelevanceHit(
+        long templateId,
+        double score,
+        List<Highlight> highlights
+) {
+}
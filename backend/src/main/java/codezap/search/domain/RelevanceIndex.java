@@ -0,0 +1,252 @@
+package codezap.search.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import codezap.search.dto.TemplateSearchDocument;
+import codezap.template.dto.SourceCodeDocument;
+
+public class RelevanceIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int SNIPPET_CONTEXT_LENGTH = 40;
+    private static final int SNIPPET_LENGTH = 160;
+    private static final int MAX_HIGHLIGHT_COUNT = 3;
+    private static final int FIELD_COUNT = SearchField.values().length;
+
+    private final Tokenizer tokenizer;
+    private final Map<String, LongPostingList> postings = new HashMap<>();
+    private final Map<Long, IndexedTemplate> templates = new HashMap<>();
+    private final long[] totalFieldLengths = new long[FIELD_COUNT];
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public RelevanceIndex(Tokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    public void put(TemplateSearchDocument document) {
+        IndexedTemplate indexedTemplate = IndexedTemplate.of(document, tokenizer);
+        lock.writeLock().lock();
+        try {
+            unindex(document.templateId());
+            templates.put(indexedTemplate.id(), indexedTemplate);
+            for (int i = 0; i < FIELD_COUNT; i++) {
+                totalFieldLengths[i] += indexedTemplate.fieldLengths()[i];
+            }
+            indexedTemplate.termFrequencies().keySet().forEach(term ->
+                    postings.computeIfAbsent(term, key -> new LongPostingList()).add(indexedTemplate.id()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long templateId) {
+        lock.writeLock().lock();
+        try {
+            unindex(templateId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public RelevancePage search(
+            String keyword, Long memberId, Long categoryId, List<Long> tagIds, long offset, int limit
+    ) {
+        Set<String> terms = tokenizer.tokenize(keyword).stream()
+                .map(Token::term)
+                .collect(Collectors.toSet());
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = score(terms, memberId, categoryId, tagIds);
+            List<RelevanceHit> hits = scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                    .skip(offset)
+                    .limit(limit)
+                    .map(entry -> new RelevanceHit(
+                            entry.getKey(), entry.getValue(), templates.get(entry.getKey()).highlight(terms)))
+                    .toList();
+            return new RelevancePage(hits, scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return templates.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> score(Set<String> terms, Long memberId, Long categoryId, List<Long> tagIds) {
+        double[] averageFieldLengths = calculateAverageFieldLengths();
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : terms) {
+            LongPostingList posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (templates.size() - posting.size() + 0.5) / (posting.size() + 0.5));
+            posting.forEach(templateId -> {
+                IndexedTemplate indexedTemplate = templates.get(templateId);
+                if (indexedTemplate.matches(memberId, categoryId, tagIds)) {
+                    double termFrequency = indexedTemplate.weightedTermFrequency(term, averageFieldLengths);
+                    double score = idf * termFrequency * (K1 + 1) / (termFrequency + K1);
+                    scores.merge(templateId, score, Double::sum);
+                }
+            });
+        }
+        return scores;
+    }
+
+    private double[] calculateAverageFieldLengths() {
+        double[] averageFieldLengths = new double[FIELD_COUNT];
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            averageFieldLengths[i] = templates.isEmpty() ? 0 : (double) totalFieldLengths[i] / templates.size();
+        }
+        return averageFieldLengths;
+    }
+
+    private void unindex(long templateId) {
+        IndexedTemplate previous = templates.remove(templateId);
+        if (previous == null) {
+            return;
+        }
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            totalFieldLengths[i] -= previous.fieldLengths()[i];
+        }
+        previous.termFrequencies().keySet().forEach(term -> {
+            LongPostingList posting = postings.get(term);
+            posting.remove(templateId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+    }
+
+    private record IndexedField(SearchField field, String filename, String text, int[] offsets) {
+
+        static IndexedField of(SearchField field, String filename, String text, List<Token> tokens) {
+            int[] offsets = new int[tokens.size() * 2];
+            for (int i = 0; i < tokens.size(); i++) {
+                offsets[i * 2] = tokens.get(i).start();
+                offsets[i * 2 + 1] = tokens.get(i).end();
+            }
+            return new IndexedField(field, filename, text, offsets);
+        }
+
+        Highlight highlight(Set<String> terms) {
+            List<int[]> matches = new ArrayList<>();
+            for (int i = 0; i < offsets.length; i += 2) {
+                String term = text.substring(offsets[i], offsets[i + 1]).toLowerCase(Locale.ROOT);
+                if (terms.contains(term)) {
+                    matches.add(new int[]{offsets[i], offsets[i + 1]});
+                }
+            }
+            if (matches.isEmpty()) {
+                return null;
+            }
+            int snippetStart = Math.max(0, matches.get(0)[0] - SNIPPET_CONTEXT_LENGTH);
+            int snippetEnd = Math.min(text.length(), snippetStart + SNIPPET_LENGTH);
+            List<HighlightRange> ranges = matches.stream()
+                    .filter(match -> match[1] <= snippetEnd)
+                    .map(match -> new HighlightRange(match[0] - snippetStart, match[1] - snippetStart))
+                    .toList();
+            return new Highlight(field, filename, text.substring(snippetStart, snippetEnd), ranges);
+        }
+    }
+
+    private record IndexedTemplate(
+            long id,
+            long memberId,
+            long categoryId,
+            long[] tagIds,
+            List<IndexedField> fields,
+            Map<String, int[]> termFrequencies,
+            int[] fieldLengths
+    ) {
+
+        static IndexedTemplate of(TemplateSearchDocument document, Tokenizer tokenizer) {
+            List<IndexedField> fields = new ArrayList<>();
+            Map<String, int[]> termFrequencies = new HashMap<>();
+            int[] fieldLengths = new int[FIELD_COUNT];
+            addField(fields, termFrequencies, fieldLengths, tokenizer, SearchField.TITLE, null, document.title());
+            addField(fields, termFrequencies, fieldLengths, tokenizer,
+                    SearchField.DESCRIPTION, null, document.description());
+            for (SourceCodeDocument sourceCode : document.sourceCodes()) {
+                addField(fields, termFrequencies, fieldLengths, tokenizer,
+                        SearchField.FILENAME, sourceCode.filename(), sourceCode.filename());
+                addField(fields, termFrequencies, fieldLengths, tokenizer,
+                        SearchField.CONTENT, sourceCode.filename(), sourceCode.content());
+            }
+            long[] tagIds = document.tagIds().stream().mapToLong(Long::longValue).sorted().toArray();
+            return new IndexedTemplate(document.templateId(), document.memberId(), document.categoryId(), tagIds,
+                    fields, termFrequencies, fieldLengths);
+        }
+
+        private static void addField(
+                List<IndexedField> fields,
+                Map<String, int[]> termFrequencies,
+                int[] fieldLengths,
+                Tokenizer tokenizer,
+                SearchField field,
+                String filename,
+                String text
+        ) {
+            if (text == null) {
+                return;
+            }
+            List<Token> tokens = tokenizer.tokenize(text);
+            tokens.forEach(token -> termFrequencies.computeIfAbsent(token.term(), key -> new int[FIELD_COUNT])
+                    [field.ordinal()]++);
+            fieldLengths[field.ordinal()] += tokens.size();
+            fields.add(IndexedField.of(field, filename, text, tokens));
+        }
+
+        boolean matches(Long memberId, Long categoryId, List<Long> tagIds) {
+            if (memberId != null && memberId != this.memberId) {
+                return false;
+            }
+            if (categoryId != null && categoryId != this.categoryId) {
+                return false;
+            }
+            return tagIds == null || tagIds.stream().allMatch(tagId -> Arrays.binarySearch(this.tagIds, tagId) >= 0);
+        }
+
+        double weightedTermFrequency(String term, double[] averageFieldLengths) {
+            int[] frequencies = termFrequencies.get(term);
+            double weightedFrequency = 0;
+            for (SearchField field : SearchField.values()) {
+                int frequency = frequencies[field.ordinal()];
+                if (frequency == 0) {
+                    continue;
+                }
+                double averageLength = averageFieldLengths[field.ordinal()];
+                double lengthRatio = averageLength == 0 ? 1 : fieldLengths[field.ordinal()] / averageLength;
+                weightedFrequency += field.getBoost() * frequency / (1 - B + B * lengthRatio);
+            }
+            return weightedFrequency;
+        }
+
+        List<Highlight> highlight(Set<String> terms) {
+            return fields.stream()
+                    .map(field -> field.highlight(terms))
+                    .filter(Objects::nonNull)
+                    .limit(MAX_HIGHLIGHT_COUNT)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package codezap.search.domain;
+
+import java.util.List;
+
+public record RelevancePage(
+        List<RelevanceHit> hits,
+        long totalElements
+) {
+}
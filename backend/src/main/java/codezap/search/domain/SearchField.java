@@ -0,0 +1,24 @@
+package codezap.search.domain;
+
+public enum SearchField {
+    TITLE("title", 3.0),
+    DESCRIPTION("description", 1.5),
+    FILENAME("filename", 2.0),
+    CONTENT("content", 1.0);
+
+    private final String name;
+    private final double boost;
+
+    SearchField(String name, double boost) {
+        this.name = name;
+        this.boost = boost;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getBoost() {
+        return boost;
+    }
+}
@@ -0,0 +1,133 @@
+package codezap.search.domain;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class SuggestIndex {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final Map<Long, NavigableMap<String, Suggestion>> memberTitles = new HashMap<>();
+    private final Map<Long, NavigableMap<String, Suggestion>> memberTags = new HashMap<>();
+    private final Map<Long, Map<Long, Integer>> memberTagCounts = new HashMap<>();
+    private final Map<Long, IndexedTemplate> templates = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(long templateId, long memberId, String title, List<Suggestion> tags) {
+        IndexedTemplate indexedTemplate = new IndexedTemplate(
+                memberId, new Suggestion(templateId, title), tags.stream().distinct().toList());
+        lock.writeLock().lock();
+        try {
+            unindex(templateId);
+            templates.put(templateId, indexedTemplate);
+            addEntry(memberTitles, memberId, indexedTemplate.title());
+            Map<Long, Integer> tagCounts = memberTagCounts.computeIfAbsent(memberId, key -> new HashMap<>());
+            for (Suggestion tag : indexedTemplate.tags()) {
+                if (tagCounts.merge(tag.id(), 1, Integer::sum) == 1) {
+                    addEntry(memberTags, memberId, tag);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long templateId) {
+        lock.writeLock().lock();
+        try {
+            unindex(templateId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Suggestion> findTitles(long memberId, String prefix, int limit) {
+        return find(memberTitles, memberId, prefix, limit);
+    }
+
+    public List<Suggestion> findTags(long memberId, String prefix, int limit) {
+        return find(memberTags, memberId, prefix, limit);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return templates.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Suggestion> find(
+            Map<Long, NavigableMap<String, Suggestion>> memberEntries, long memberId, String prefix, int limit
+    ) {
+        String normalizedPrefix = normalize(prefix);
+        if (normalizedPrefix.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            NavigableMap<String, Suggestion> entries = memberEntries.get(memberId);
+            if (entries == null) {
+                return List.of();
+            }
+            return entries.subMap(normalizedPrefix, true, normalizedPrefix + Character.MAX_VALUE, false)
+                    .values()
+                    .stream()
+                    .limit(limit)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unindex(long templateId) {
+        IndexedTemplate indexedTemplate = templates.remove(templateId);
+        if (indexedTemplate == null) {
+            return;
+        }
+        long memberId = indexedTemplate.memberId();
+        removeEntry(memberTitles, memberId, indexedTemplate.title());
+        Map<Long, Integer> tagCounts = memberTagCounts.get(memberId);
+        for (Suggestion tag : indexedTemplate.tags()) {
+            if (tagCounts.merge(tag.id(), -1, Integer::sum) == 0) {
+                tagCounts.remove(tag.id());
+                removeEntry(memberTags, memberId, tag);
+            }
+        }
+        if (tagCounts.isEmpty()) {
+            memberTagCounts.remove(memberId);
+        }
+    }
+
+    private void addEntry(Map<Long, NavigableMap<String, Suggestion>> memberEntries, long memberId, Suggestion entry) {
+        memberEntries.computeIfAbsent(memberId, key -> new TreeMap<>()).put(toKey(entry), entry);
+    }
+
+    private void removeEntry(
+            Map<Long, NavigableMap<String, Suggestion>> memberEntries, long memberId, Suggestion entry
+    ) {
+        NavigableMap<String, Suggestion> entries = memberEntries.get(memberId);
+        entries.remove(toKey(entry));
+        if (entries.isEmpty()) {
+            memberEntries.remove(memberId);
+        }
+    }
+
+    private String toKey(Suggestion suggestion) {
+        return normalize(suggestion.value()) + KEY_SEPARATOR + suggestion.id();
+    }
+
+    private String normalize(String value) {
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private record IndexedTemplate(long memberId, Suggestion title, List<Suggestion> tags) {
+    }
+}
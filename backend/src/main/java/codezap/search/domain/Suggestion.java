@@ -0,0 +1,7 @@
+package codezap.search.domain;
+
+public record Suggestion(
+        long id,
+        String value
+) {
+}
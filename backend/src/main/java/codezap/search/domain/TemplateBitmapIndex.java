@@ -0,0 +1,193 @@
+package codezap.search.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+public class TemplateBitmapIndex {
+
+    private final Map<Long, CompressedBitmap> memberTemplateIds = new HashMap<>();
+    private final Map<Long, CompressedBitmap> categoryTemplateIds = new HashMap<>();
+    private final Map<Long, CompressedBitmap> tagTemplateIds = new HashMap<>();
+    private final Map<Long, TemplateScope> templateScopes = new HashMap<>();
+    private final Map<Long, LongPostingList> templateTagIds = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void putTemplate(long templateId, long memberId, long categoryId) {
+        lock.writeLock().lock();
+        try {
+            removeScope(templateId);
+            templateScopes.put(templateId, new TemplateScope(memberId, categoryId));
+            add(memberTemplateIds, memberId, templateId);
+            add(categoryTemplateIds, categoryId, templateId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addTags(long templateId, List<Long> tagIds) {
+        lock.writeLock().lock();
+        try {
+            LongPostingList indexedTagIds = templateTagIds.computeIfAbsent(templateId, key -> new LongPostingList());
+            for (Long tagId : tagIds) {
+                indexedTagIds.add(tagId);
+                add(tagTemplateIds, tagId, templateId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeTags(long templateId) {
+        lock.writeLock().lock();
+        try {
+            LongPostingList indexedTagIds = templateTagIds.remove(templateId);
+            if (indexedTagIds == null) {
+                return;
+            }
+            for (long tagId : indexedTagIds.toArray()) {
+                remove(tagTemplateIds, tagId, templateId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void replaceTags(long templateId, List<Long> tagIds) {
+        lock.writeLock().lock();
+        try {
+            removeTags(templateId);
+            addTags(templateId, tagIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeTemplate(long templateId) {
+        lock.writeLock().lock();
+        try {
+            removeScope(templateId);
+            removeTags(templateId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long[] findTemplateIds(Long memberId, Long categoryId, List<Long> tagIds) {
+        lock.readLock().lock();
+        try {
+            List<CompressedBitmap> bitmaps = new ArrayList<>();
+            if (memberId != null) {
+                bitmaps.add(memberTemplateIds.get(memberId));
+            }
+            if (categoryId != null) {
+                bitmaps.add(categoryTemplateIds.get(categoryId));
+            }
+            if (tagIds != null) {
+                tagIds.forEach(tagId -> bitmaps.add(tagTemplateIds.get(tagId)));
+            }
+            return intersect(bitmaps);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public TemplateSearchPlan plan(
+            Long memberId, Long categoryId, List<Long> tagIds, boolean hasKeyword, int maxCandidateSize
+    ) {
+        lock.readLock().lock();
+        try {
+            List<FilterBitmap> filterBitmaps = new ArrayList<>();
+            if (memberId != null) {
+                filterBitmaps.add(new FilterBitmap("member:" + memberId, memberTemplateIds.get(memberId)));
+            }
+            if (categoryId != null) {
+                filterBitmaps.add(new FilterBitmap("category:" + categoryId, categoryTemplateIds.get(categoryId)));
+            }
+            if (tagIds != null) {
+                tagIds.forEach(tagId -> filterBitmaps.add(new FilterBitmap("tag:" + tagId, tagTemplateIds.get(tagId))));
+            }
+            if (filterBitmaps.isEmpty()) {
+                return TemplateSearchPlan.database("no-filter");
+            }
+            filterBitmaps.sort(Comparator.comparingLong(FilterBitmap::cardinality));
+            String statistics = filterBitmaps.stream()
+                    .map(FilterBitmap::describe)
+                    .collect(Collectors.joining(","));
+            if (hasKeyword && filterBitmaps.get(0).cardinality() > maxCandidateSize) {
+                return TemplateSearchPlan.database("keyword-first; " + statistics);
+            }
+            long[] templateIds = intersect(filterBitmaps.stream().map(FilterBitmap::bitmap).toList());
+            if (templateIds.length > maxCandidateSize) {
+                return TemplateSearchPlan.database("candidates=" + templateIds.length + "; " + statistics);
+            }
+            return TemplateSearchPlan.templateIds(templateIds, statistics);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return templateScopes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] intersect(List<CompressedBitmap> bitmaps) {
+        if (bitmaps.isEmpty() || bitmaps.contains(null)) {
+            return new long[0];
+        }
+        List<CompressedBitmap> sortedBitmaps = new ArrayList<>(bitmaps);
+        sortedBitmaps.sort(Comparator.comparingLong(CompressedBitmap::cardinality));
+        CompressedBitmap result = sortedBitmaps.get(0);
+        for (int i = 1; i < sortedBitmaps.size() && !result.isEmpty(); i++) {
+            result = result.and(sortedBitmaps.get(i));
+        }
+        return result.toArray();
+    }
+
+    private void removeScope(long templateId) {
+        TemplateScope previous = templateScopes.remove(templateId);
+        if (previous != null) {
+            remove(memberTemplateIds, previous.memberId(), templateId);
+            remove(categoryTemplateIds, previous.categoryId(), templateId);
+        }
+    }
+
+    private void add(Map<Long, CompressedBitmap> bitmaps, long key, long templateId) {
+        bitmaps.computeIfAbsent(key, ignored -> new CompressedBitmap()).add(templateId);
+    }
+
+    private void remove(Map<Long, CompressedBitmap> bitmaps, long key, long templateId) {
+        CompressedBitmap bitmap = bitmaps.get(key);
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.remove(templateId);
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(key);
+        }
+    }
+
+    private record TemplateScope(long memberId, long categoryId) {
+    }
+
+    private record FilterBitmap(String filter, CompressedBitmap bitmap) {
+
+        long cardinality() {
+            return bitmap == null ? 0 : bitmap.cardinality();
+        }
+
+        String describe() {
+            return filter + "=" + cardinality();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package codezap.search.domain;
+
+import java.util.Arrays;
+import java.util.List;
+
+public record TemplateSearchPlan(
+        List<Long> templateIds,
+        String description
+) {
+    public static TemplateSearchPlan database(String reason) {
+        return new TemplateSearchPlan(null, "database(" + reason + ")");
+    }
+
+    public static TemplateSearchPlan templateIds(long[] templateIds, String statistics) {
+        return new TemplateSearchPlan(
+                Arrays.stream(templateIds).boxed().toList(),
+                "ids(" + templateIds.length + "; " + statistics + ")"
+        );
+    }
+
+    public boolean usesTemplateIds() {
+        return templateIds != null;
+    }
+}
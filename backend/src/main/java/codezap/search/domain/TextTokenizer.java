@@ -0,0 +1,32 @@
+package codezap.search.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class TextTokenizer implements Tokenizer {
+
+    @Override
+    public List<Token> tokenize(String text) {
+        List<Token> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < text.length(); i++) {
+            boolean isWordCharacter = Character.isLetterOrDigit(text.charAt(i));
+            if (isWordCharacter && start < 0) {
+                start = i;
+            }
+            if (!isWordCharacter && start >= 0) {
+                tokens.add(createToken(text, start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(createToken(text, start, text.length()));
+        }
+        return tokens;
+    }
+
+    private Token createToken(String text, int start, int end) {
+        return new Token(text.substring(start, end).toLowerCase(Locale.ROOT), start, end);
+    }
+}
@@ -0,0 +1,8 @@
+package codezap.search.domain;
+
+public record Token(
+        String term,
+        int start,
+        int end
+) {
+}
@@ -0,0 +1,8 @@
+package codezap.search.domain;
+
+import java.util.List;
+
+public interface Tokenizer {
+
+    List<Token> tokenize(String text);
+}
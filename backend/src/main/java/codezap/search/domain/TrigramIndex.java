@@ -0,0 +1,168 @@
+package codezap.search.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.LongStream;
+
+import codezap.template.dto.SourceCodeDocument;
+
+public class TrigramIndex {
+
+    private static final int GRAM_SIZE = 3;
+
+    private final Map<Long, LongPostingList> postings = new HashMap<>();
+    private final Map<Long, IndexedSourceCode> sourceCodes = new HashMap<>();
+    private final Map<Long, LongPostingList> templateSourceCodeIds = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(SourceCodeDocument document) {
+        IndexedSourceCode indexedSourceCode = IndexedSourceCode.from(document);
+        lock.writeLock().lock();
+        try {
+            IndexedSourceCode previous = sourceCodes.get(document.id());
+            if (previous != null && previous.isNewerThan(indexedSourceCode)) {
+                return;
+            }
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(indexedSourceCode);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long sourceCodeId) {
+        lock.writeLock().lock();
+        try {
+            IndexedSourceCode previous = sourceCodes.get(sourceCodeId);
+            if (previous != null) {
+                unindex(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeByTemplateId(long templateId) {
+        lock.writeLock().lock();
+        try {
+            LongPostingList sourceCodeIds = templateSourceCodeIds.get(templateId);
+            if (sourceCodeIds == null) {
+                return;
+            }
+            for (long sourceCodeId : sourceCodeIds.toArray()) {
+                unindex(sourceCodes.get(sourceCodeId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<LongPostingList> findSourceCodeIds(String keyword, int maxSize) {
+        String normalizedKeyword = normalize(keyword);
+        if (normalizedKeyword.length() < GRAM_SIZE) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            LongPostingList candidates = findCandidates(normalizedKeyword);
+            if (candidates.size() > maxSize) {
+                return Optional.empty();
+            }
+            return Optional.of(LongPostingList.of(candidates.toArray()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return sourceCodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private LongPostingList findCandidates(String normalizedKeyword) {
+        List<LongPostingList> postingLists = new ArrayList<>();
+        for (long trigram : extractTrigrams(normalizedKeyword)) {
+            LongPostingList posting = postings.get(trigram);
+            if (posting == null) {
+                return new LongPostingList();
+            }
+            postingLists.add(posting);
+        }
+        postingLists.sort(Comparator.comparingInt(LongPostingList::size));
+        LongPostingList candidates = postingLists.get(0);
+        for (int i = 1; i < postingLists.size() && !candidates.isEmpty(); i++) {
+            candidates = candidates.intersect(postingLists.get(i));
+        }
+        return candidates;
+    }
+
+    private void index(IndexedSourceCode indexedSourceCode) {
+        sourceCodes.put(indexedSourceCode.id(), indexedSourceCode);
+        templateSourceCodeIds.computeIfAbsent(indexedSourceCode.templateId(), key -> new LongPostingList())
+                .add(indexedSourceCode.id());
+        for (long trigram : indexedSourceCode.trigrams().toArray()) {
+            postings.computeIfAbsent(trigram, key -> new LongPostingList()).add(indexedSourceCode.id());
+        }
+    }
+
+    private void unindex(IndexedSourceCode indexedSourceCode) {
+        sourceCodes.remove(indexedSourceCode.id());
+        LongPostingList sourceCodeIds = templateSourceCodeIds.get(indexedSourceCode.templateId());
+        sourceCodeIds.remove(indexedSourceCode.id());
+        if (sourceCodeIds.isEmpty()) {
+            templateSourceCodeIds.remove(indexedSourceCode.templateId());
+        }
+        for (long trigram : indexedSourceCode.trigrams().toArray()) {
+            LongPostingList posting = postings.get(trigram);
+            posting.remove(indexedSourceCode.id());
+            if (posting.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static long[] extractTrigrams(String normalizedText) {
+        long[] trigrams = new long[Math.max(0, normalizedText.length() - GRAM_SIZE + 1)];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = ((long) normalizedText.charAt(i) << 32)
+                    | ((long) normalizedText.charAt(i + 1) << 16)
+                    | normalizedText.charAt(i + 2);
+        }
+        return trigrams;
+    }
+
+    private record IndexedSourceCode(long id, long templateId, LocalDateTime modifiedAt, LongPostingList trigrams) {
+
+        static IndexedSourceCode from(SourceCodeDocument document) {
+            LongPostingList trigrams = LongPostingList.of(
+                    LongStream.concat(
+                            LongStream.of(extractTrigrams(normalize(document.filename()))),
+                            LongStream.of(extractTrigrams(normalize(document.content())))
+                    ).toArray()
+            );
+            return new IndexedSourceCode(document.id(), document.templateId(), document.modifiedAt(), trigrams);
+        }
+
+        boolean isNewerThan(IndexedSourceCode other) {
+            return modifiedAt != null && other.modifiedAt != null && modifiedAt.isAfter(other.modifiedAt);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package codezap.search.dto;
+
+import java.util.List;
+
+import codezap.template.dto.SourceCodeDocument;
+
+public record TemplateSearchDocument(
+        Long templateId,
+        Long memberId,
+        Long categoryId,
+        List<Long> tagIds,
+        String title,
+        String description,
+        List<SourceCodeDocument> sourceCodes
+) {
+}
@@ -0,0 +1,109 @@
+package codezap.search.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import codezap.search.domain.RelevanceIndex;
+import codezap.search.domain.RelevancePage;
+import codezap.search.domain.TextTokenizer;
+import codezap.search.dto.TemplateSearchDocument;
+import codezap.tag.dto.TemplateTagIdDto;
+import codezap.tag.repository.TemplateTagRepository;
+import codezap.template.domain.Template;
+import codezap.template.domain.TemplateEvent;
+import codezap.template.dto.SourceCodeDocument;
+import codezap.template.dto.TemplateFilter;
+import codezap.template.repository.SourceCodeRepository;
+import codezap.template.repository.TemplateRepository;
+import codezap.template.service.TemplateEventConsumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RelevanceSearchService implements TemplateEventConsumer {
+
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final TemplateRepository templateRepository;
+    private final TemplateTagRepository templateTagRepository;
+    private final SourceCodeRepository sourceCodeRepository;
+    private final RelevanceIndex relevanceIndex = new RelevanceIndex(new TextTokenizer());
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastId = 0L;
+        List<Template> templates;
+        do {
+            templates = templateRepository.findAllWithMemberAfter(lastId, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            if (!templates.isEmpty()) {
+                loadBatch(templates);
+                lastId = templates.get(templates.size() - 1).getId();
+            }
+        } while (templates.size() == LOAD_BATCH_SIZE);
+        loaded = true;
+        log.info("[RelevanceIndex] 템플릿 {}개의 인덱스를 적재했습니다.", relevanceIndex.size());
+    }
+
+    private void loadBatch(List<Template> templates) {
+        List<Long> templateIds = templates.stream().map(Template::getId).toList();
+        Map<Long, List<Long>> tagIdsByTemplateId = templateTagRepository.findAllTagIdsByTemplateIdsIn(templateIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        TemplateTagIdDto::templateId,
+                        Collectors.mapping(TemplateTagIdDto::tagId, Collectors.toList())
+                ));
+        Map<Long, List<SourceCodeDocument>> sourceCodesByTemplateId = sourceCodeRepository
+                .findAllDocumentsByTemplateIdIn(templateIds)
+                .stream()
+                .collect(Collectors.groupingBy(SourceCodeDocument::templateId));
+        templates.forEach(template -> relevanceIndex.put(new TemplateSearchDocument(
+                template.getId(),
+                template.getMember().getId(),
+                template.getCategory().getId(),
+                tagIdsByTemplateId.getOrDefault(template.getId(), List.of()),
+                template.getTitle(),
+                template.getDescription(),
+                sourceCodesByTemplateId.getOrDefault(template.getId(), List.of())
+        )));
+    }
+
+    public Optional<RelevancePage> search(TemplateFilter templateFilter, Pageable pageable) {
+        if (!loaded) {
+            return Optional.empty();
+        }
+        return Optional.of(relevanceIndex.search(
+                templateFilter.keyword(),
+                templateFilter.memberId(),
+                templateFilter.categoryId(),
+                templateFilter.tagIds(),
+                pageable.getOffset(),
+                pageable.getPageSize()
+        ));
+    }
+
+    @Override
+    public void consume(List<TemplateEvent> templateEvents) {
+        List<Long> templateIds = templateEvents.stream()
+                .map(TemplateEvent::getTemplateId)
+                .distinct()
+                .toList();
+        List<Template> templates = templateRepository.findAllWithMemberByIdIn(templateIds);
+        loadBatch(templates);
+        Set<Long> existingTemplateIds = templates.stream().map(Template::getId).collect(Collectors.toSet());
+        templateIds.stream()
+                .filter(templateId -> !existingTemplateIds.contains(templateId))
+                .forEach(relevanceIndex::remove);
+    }
+}
@@ -0,0 +1,105 @@
+package codezap.search.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import codezap.global.transaction.AfterCommitExecutor;
+import codezap.search.domain.IdentifierIndex;
+import codezap.search.domain.LongPostingList;
+import codezap.search.domain.TrigramIndex;
+import codezap.template.domain.SourceCode;
+import codezap.template.domain.TemplateEvent;
+import codezap.template.dto.SourceCodeDocument;
+import codezap.template.repository.SourceCodeRepository;
+import codezap.template.service.TemplateEventConsumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SourceCodeSearchService implements TemplateEventConsumer {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int MAX_CANDIDATE_SIZE = 5000;
+
+    private final SourceCodeRepository sourceCodeRepository;
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+    private final IdentifierIndex identifierIndex = new IdentifierIndex();
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastId = 0L;
+        List<SourceCodeDocument> documents;
+        do {
+            documents = sourceCodeRepository.findAllDocumentsAfter(lastId, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            documents.forEach(this::put);
+            if (!documents.isEmpty()) {
+                lastId = documents.get(documents.size() - 1).id();
+            }
+        } while (documents.size() == LOAD_BATCH_SIZE);
+        loaded = true;
+        log.info("[TrigramIndex] 소스 코드 {}개의 인덱스를 적재했습니다.", trigramIndex.size());
+        log.info("[IdentifierIndex] 소스 코드 {}개의 인덱스를 적재했습니다.", identifierIndex.size());
+    }
+
+    public Optional<List<Long>> findSourceCodeIdsContaining(String keyword) {
+        if (!loaded || keyword == null || keyword.isBlank()) {
+            return Optional.empty();
+        }
+        return trigramIndex.findSourceCodeIds(keyword.trim(), MAX_CANDIDATE_SIZE)
+                .map(LongPostingList::toList);
+    }
+
+    public Optional<List<Long>> findTemplateIdsByIdentifier(String keyword) {
+        if (!loaded || keyword == null || keyword.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(identifierIndex.findTemplateIds(keyword).toList());
+    }
+
+    public void index(List<SourceCode> sourceCodes) {
+        AfterCommitExecutor.execute(() -> sourceCodes.stream()
+                .map(SourceCodeDocument::from)
+                .forEach(this::put));
+    }
+
+    public void remove(List<Long> sourceCodeIds) {
+        AfterCommitExecutor.execute(() -> sourceCodeIds.forEach(sourceCodeId -> {
+            trigramIndex.remove(sourceCodeId);
+            identifierIndex.remove(sourceCodeId);
+        }));
+    }
+
+    public void removeByTemplateIds(List<Long> templateIds) {
+        AfterCommitExecutor.execute(() -> templateIds.forEach(templateId -> {
+            trigramIndex.removeByTemplateId(templateId);
+            identifierIndex.removeByTemplateId(templateId);
+        }));
+    }
+
+    private void put(SourceCodeDocument document) {
+        trigramIndex.put(document);
+        identifierIndex.put(document);
+    }
+
+    @Override
+    public void consume(List<TemplateEvent> templateEvents) {
+        List<Long> templateIds = templateEvents.stream()
+                .map(TemplateEvent::getTemplateId)
+                .distinct()
+                .toList();
+        List<SourceCodeDocument> documents = sourceCodeRepository.findAllDocumentsByTemplateIdIn(templateIds);
+        templateIds.forEach(templateId -> {
+            trigramIndex.removeByTemplateId(templateId);
+            identifierIndex.removeByTemplateId(templateId);
+        });
+        documents.forEach(this::put);
+    }
+}
@@ -0,0 +1,113 @@
+package codezap.search.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import codezap.global.exception.CodeZapException;
+import codezap.search.domain.SuggestIndex;
+import codezap.search.domain.Suggestion;
+import codezap.tag.domain.Tag;
+import codezap.tag.repository.TemplateTagRepository;
+import codezap.template.domain.Template;
+import codezap.template.domain.TemplateEvent;
+import codezap.template.domain.TemplateTag;
+import codezap.template.repository.TemplateRepository;
+import codezap.template.service.TemplateEventConsumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SuggestSearchService implements TemplateEventConsumer {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int MAX_SUGGESTION_SIZE = 20;
+
+    private final TemplateRepository templateRepository;
+    private final TemplateTagRepository templateTagRepository;
+    private final SuggestIndex suggestIndex = new SuggestIndex();
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastId = 0L;
+        List<Template> templates;
+        do {
+            templates = templateRepository.findAllWithMemberAfter(lastId, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            if (!templates.isEmpty()) {
+                loadBatch(templates);
+                lastId = templates.get(templates.size() - 1).getId();
+            }
+        } while (templates.size() == LOAD_BATCH_SIZE);
+        loaded = true;
+        log.info("[SuggestIndex] 템플릿 {}개의 인덱스를 적재했습니다.", suggestIndex.size());
+    }
+
+    private void loadBatch(List<Template> templates) {
+        List<Long> templateIds = templates.stream().map(Template::getId).toList();
+        Map<Long, List<Tag>> tagsByTemplateId = templateTagRepository.findAllByTemplateIdsIn(templateIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        templateTag -> templateTag.getTemplate().getId(),
+                        Collectors.mapping(TemplateTag::getTag, Collectors.toList())
+                ));
+        templates.forEach(template -> suggestIndex.put(
+                template.getId(),
+                template.getMember().getId(),
+                template.getTitle(),
+                toSuggestions(tagsByTemplateId.getOrDefault(template.getId(), List.of()))
+        ));
+    }
+
+    public List<Suggestion> findTitles(Long memberId, String prefix, int size) {
+        validateSize(size);
+        if (!loaded) {
+            return List.of();
+        }
+        return suggestIndex.findTitles(memberId, prefix, size);
+    }
+
+    public List<Suggestion> findTags(Long memberId, String prefix, int size) {
+        validateSize(size);
+        if (!loaded) {
+            return List.of();
+        }
+        return suggestIndex.findTags(memberId, prefix, size);
+    }
+
+    private void validateSize(int size) {
+        if (size < 1 || size > MAX_SUGGESTION_SIZE) {
+            throw new CodeZapException(
+                    HttpStatus.BAD_REQUEST, "추천 개수는 1 이상 " + MAX_SUGGESTION_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    @Override
+    public void consume(List<TemplateEvent> templateEvents) {
+        List<Long> templateIds = templateEvents.stream()
+                .map(TemplateEvent::getTemplateId)
+                .distinct()
+                .toList();
+        List<Template> templates = templateRepository.findAllWithMemberByIdIn(templateIds);
+        loadBatch(templates);
+        Set<Long> existingTemplateIds = templates.stream().map(Template::getId).collect(Collectors.toSet());
+        templateIds.stream()
+                .filter(templateId -> !existingTemplateIds.contains(templateId))
+                .forEach(suggestIndex::remove);
+    }
+
+    private List<Suggestion> toSuggestions(List<Tag> tags) {
+        return tags.stream()
+                .map(tag -> new Suggestion(tag.getId(), tag.getName()))
+                .toList();
+    }
+}
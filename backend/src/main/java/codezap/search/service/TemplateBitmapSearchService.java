@@ -0,0 +1,128 @@
+package codezap.search.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import codezap.global.transaction.AfterCommitExecutor;
+import codezap.search.domain.TemplateBitmapIndex;
+import codezap.search.domain.TemplateSearchPlan;
+import codezap.tag.domain.Tag;
+import codezap.tag.dto.TemplateTagIdDto;
+import codezap.tag.repository.TemplateTagRepository;
+import codezap.template.domain.Template;
+import codezap.template.domain.TemplateEvent;
+import codezap.template.dto.TemplateFilter;
+import codezap.template.dto.TemplateScopeDto;
+import codezap.template.repository.TemplateRepository;
+import codezap.template.service.TemplateEventConsumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TemplateBitmapSearchService implements TemplateEventConsumer {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int MAX_CANDIDATE_SIZE = 5000;
+
+    private final TemplateRepository templateRepository;
+    private final TemplateTagRepository templateTagRepository;
+    private final TemplateBitmapIndex templateBitmapIndex = new TemplateBitmapIndex();
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastId = 0L;
+        List<TemplateScopeDto> templateScopes;
+        do {
+            templateScopes = templateRepository.findAllScopesAfter(lastId, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            if (!templateScopes.isEmpty()) {
+                loadBatch(templateScopes);
+                lastId = templateScopes.get(templateScopes.size() - 1).templateId();
+            }
+        } while (templateScopes.size() == LOAD_BATCH_SIZE);
+        loaded = true;
+        log.info("[TemplateBitmapIndex] 템플릿 {}개의 인덱스를 적재했습니다.", templateBitmapIndex.size());
+    }
+
+    private void loadBatch(List<TemplateScopeDto> templateScopes) {
+        templateScopes.forEach(templateScope -> templateBitmapIndex.putTemplate(
+                templateScope.templateId(), templateScope.memberId(), templateScope.categoryId()));
+        List<Long> templateIds = templateScopes.stream().map(TemplateScopeDto::templateId).toList();
+        findTagIdsByTemplateId(templateIds).forEach(templateBitmapIndex::addTags);
+    }
+
+    private Map<Long, List<Long>> findTagIdsByTemplateId(List<Long> templateIds) {
+        return templateTagRepository.findAllTagIdsByTemplateIdsIn(templateIds).stream()
+                .collect(Collectors.groupingBy(
+                        TemplateTagIdDto::templateId,
+                        Collectors.mapping(TemplateTagIdDto::tagId, Collectors.toList())
+                ));
+    }
+
+    public TemplateSearchPlan plan(TemplateFilter templateFilter) {
+        if (!loaded) {
+            return TemplateSearchPlan.database("index-loading");
+        }
+        return templateBitmapIndex.plan(
+                templateFilter.memberId(),
+                templateFilter.categoryId(),
+                templateFilter.tagIds(),
+                templateFilter.keyword() != null,
+                MAX_CANDIDATE_SIZE
+        );
+    }
+
+    public void putTemplate(Template template) {
+        TemplateScopeDto templateScope = TemplateScopeDto.from(template);
+        AfterCommitExecutor.execute(() -> templateBitmapIndex.putTemplate(
+                templateScope.templateId(), templateScope.memberId(), templateScope.categoryId()));
+    }
+
+    public void addTags(Template template, List<Tag> tags) {
+        Long templateId = template.getId();
+        List<Long> tagIds = tags.stream().map(Tag::getId).toList();
+        AfterCommitExecutor.execute(() -> templateBitmapIndex.addTags(templateId, tagIds));
+    }
+
+    public void removeTags(List<Long> templateIds) {
+        AfterCommitExecutor.execute(() -> templateIds.forEach(templateBitmapIndex::removeTags));
+    }
+
+    public void removeTemplates(List<Long> templateIds) {
+        AfterCommitExecutor.execute(() -> templateIds.forEach(templateBitmapIndex::removeTemplate));
+    }
+
+    @Override
+    public void consume(List<TemplateEvent> templateEvents) {
+        List<Long> templateIds = templateEvents.stream()
+                .map(TemplateEvent::getTemplateId)
+                .distinct()
+                .toList();
+        List<TemplateScopeDto> templateScopes = templateRepository.findAllWithMemberByIdIn(templateIds).stream()
+                .map(TemplateScopeDto::from)
+                .toList();
+        Map<Long, List<Long>> tagIdsByTemplateId = findTagIdsByTemplateId(
+                templateScopes.stream().map(TemplateScopeDto::templateId).toList());
+        templateScopes.forEach(templateScope -> {
+            templateBitmapIndex.putTemplate(
+                    templateScope.templateId(), templateScope.memberId(), templateScope.categoryId());
+            templateBitmapIndex.replaceTags(
+                    templateScope.templateId(), tagIdsByTemplateId.getOrDefault(templateScope.templateId(), List.of()));
+        });
+        Set<Long> existingTemplateIds = templateScopes.stream()
+                .map(TemplateScopeDto::templateId)
+                .collect(Collectors.toSet());
+        templateIds.stream()
+                .filter(templateId -> !existingTemplateIds.contains(templateId))
+                .forEach(templateBitmapIndex::removeTemplate);
+    }
+}
@@ -1,7 +1,12 @@
 package codezap.tag.controller;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import codezap.global.swagger.error.ApiErrorResponse;
+import codezap.global.swagger.error.ErrorCase;
+import codezap.tag.dto.response.FindAllMemberTagsResponse;
+import codezap.tag.dto.response.FindAllTagStatsResponse;
 import codezap.tag.dto.response.FindAllTagsResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,7 +16,41 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "태그 API", description = "태그 조회 API")
 public interface SpringDocTagController {
     @SecurityRequirement(name = "쿠키 인증 토큰")
-    @Operation(summary = "태그 조회", description = "해당 멤버의 템플릿들에 포함된 태그를 조회합니다.")
+    @Operation(summary = "태그 조회", description = "해당 멤버의 템플릿들에 포함된 태그와 태그별 템플릿 수를 조회합니다.")
     @ApiResponse(responseCode = "200", description = "태그 조회 성공")
-    ResponseEntity<FindAllTagsResponse> getTags(Long memberId);
+    ResponseEntity<FindAllMemberTagsResponse> getTags(Long memberId);
+
+    @SecurityRequirement(name = "쿠키 인증 토큰")
+    @Operation(summary = "태그 자동 완성", description = """
+            해당 멤버의 템플릿들에 포함된 태그 중 이름이 prefix로 시작하는 태그를 이름순으로 조회합니다. \n
+            대소문자는 구분하지 않으며, 추천 개수(size)는 기본 값 10, 최대 20입니다. \n
+            """)
+    @ApiResponse(responseCode = "200", description = "태그 자동 완성 성공")
+    @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/tags/suggest?memberId=1&prefix=s&size=0",
+            errorCases = {
+                    @ErrorCase(description = "추천 개수가 범위를 벗어난 경우", exampleMessage = "추천 개수는 1 이상 20 이하여야 합니다."),
+            })
+    ResponseEntity<FindAllTagsResponse> getTagSuggestions(Long memberId, String prefix, int size);
+
+    @Operation(summary = "인기 태그 조회", description = """
+            전체 템플릿에서 가장 많이 사용된 태그를 템플릿 수 내림차순으로 조회합니다. \n
+            조회 개수(size)는 기본 값 10, 최대 50이며, 최근 변경 사항은 최대 30초 늦게 반영됩니다. \n
+            """)
+    @ApiResponse(responseCode = "200", description = "인기 태그 조회 성공")
+    @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/tags/popular?size=0",
+            errorCases = {
+                    @ErrorCase(description = "조회 개수가 범위를 벗어난 경우", exampleMessage = "조회 개수는 1 이상 50 이하여야 합니다."),
+            })
+    ResponseEntity<FindAllTagStatsResponse> getPopularTags(int size);
+
+    @Operation(summary = "급상승 태그 조회", description = """
+            최근 템플릿에 추가된 횟수를 반감기 7일로 감쇠시킨 점수가 높은 태그를 조회합니다. \n
+            조회 개수(size)는 기본 값 10, 최대 50이며, 최근 변경 사항은 최대 30초 늦게 반영됩니다. \n
+            """)
+    @ApiResponse(responseCode = "200", description = "급상승 태그 조회 성공")
+    @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/tags/trending?size=0",
+            errorCases = {
+                    @ErrorCase(description = "조회 개수가 범위를 벗어난 경우", exampleMessage = "조회 개수는 1 이상 50 이하여야 합니다."),
+            })
+    ResponseEntity<FindAllTagStatsResponse> getTrendingTags(int size);
 }
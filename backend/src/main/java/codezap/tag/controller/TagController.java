@@ -6,7 +6,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import codezap.tag.dto.response.FindAllMemberTagsResponse;
+import codezap.tag.dto.response.FindAllTagStatsResponse;
 import codezap.tag.dto.response.FindAllTagsResponse;
+import codezap.tag.service.TagStatisticsService;
 import codezap.template.service.facade.MemberTemplateApplicationService;
 import lombok.RequiredArgsConstructor;
 
@@ -16,12 +19,37 @@ import lombok.RequiredArgsConstructor;
 public class TagController implements SpringDocTagController {
 
     private final MemberTemplateApplicationService memberTemplateApplicationService;
+    private final TagStatisticsService tagStatisticsService;
 
     @GetMapping
-    public ResponseEntity<FindAllTagsResponse> getTags(
+    public ResponseEntity<FindAllMemberTagsResponse> getTags(
             @RequestParam Long memberId
     ) {
-        FindAllTagsResponse response = memberTemplateApplicationService.getAllTagsByMemberId(memberId);
+        FindAllMemberTagsResponse response = memberTemplateApplicationService.getAllTagsByMemberId(memberId);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<FindAllTagsResponse> getTagSuggestions(
+            @RequestParam Long memberId,
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        FindAllTagsResponse response = memberTemplateApplicationService.getTagSuggestions(memberId, prefix, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/popular")
+    public ResponseEntity<FindAllTagStatsResponse> getPopularTags(
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(tagStatisticsService.findPopular(size));
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<FindAllTagStatsResponse> getTrendingTags(
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(tagStatisticsService.findTrending(size));
+    }
 }
@@ -0,0 +1,43 @@
+package codezap.tag.domain;
+
+import java.util.Optional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+public class TagDictionary {
+
+    private final Cache<Long, String> namesById;
+    private final Cache<String, Long> idsByName;
+
+    public TagDictionary(long maximumSize) {
+        this.namesById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .build();
+        this.idsByName = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public void put(Tag tag) {
+        namesById.put(tag.getId(), tag.getName());
+        idsByName.put(tag.getName(), tag.getId());
+    }
+
+    public Optional<Tag> findById(Long id) {
+        return Optional.ofNullable(namesById.getIfPresent(id))
+                .map(name -> new Tag(id, name));
+    }
+
+    public Optional<Tag> findByName(String name) {
+        return Optional.ofNullable(idsByName.getIfPresent(name))
+                .map(id -> new Tag(id, name));
+    }
+
+    public long size() {
+        namesById.cleanUp();
+        return namesById.estimatedSize();
+    }
+}
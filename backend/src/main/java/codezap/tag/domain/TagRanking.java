@@ -0,0 +1,4 @@
+package codezap.tag.domain;
+
+public record TagRanking(long tagId, long usageCount, double trendScore) {
+}
@@ -0,0 +1,33 @@
+package codezap.tag.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "tag_stats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+public class TagStat {
+
+    @Id
+    private Long tagId;
+
+    @Column(nullable = false)
+    private long usageCount;
+
+    @Column(nullable = false)
+    private double trendScore;
+
+    @Column(nullable = false)
+    private LocalDateTime trendUpdatedAt;
+}
@@ -0,0 +1,4 @@
+package codezap.tag.domain;
+
+public record TagStatDelta(long tagId, long usageDelta, long additions) {
+}
@@ -0,0 +1,107 @@
+package codezap.tag.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class TagStatistics {
+
+    public static final int RANKING_SIZE = 100;
+
+    private final Duration trendHalfLife;
+    private final Map<Long, LongAdder> usageDeltas = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> additions = new ConcurrentHashMap<>();
+    private volatile List<TagRanking> popularTags = List.of();
+    private volatile List<TagRanking> trendingTags = List.of();
+
+    public TagStatistics(Duration trendHalfLife) {
+        this.trendHalfLife = trendHalfLife;
+    }
+
+    public void record(Collection<Long> removedTagIds, Collection<Long> addedTagIds) {
+        removedTagIds.forEach(tagId -> adderOf(usageDeltas, tagId).decrement());
+        addedTagIds.forEach(tagId -> {
+            adderOf(usageDeltas, tagId).increment();
+            adderOf(additions, tagId).increment();
+        });
+    }
+
+    private LongAdder adderOf(Map<Long, LongAdder> adders, Long tagId) {
+        return adders.computeIfAbsent(tagId, key -> new LongAdder());
+    }
+
+    public List<TagStatDelta> drain() {
+        Set<Long> tagIds = new HashSet<>(usageDeltas.keySet());
+        tagIds.addAll(additions.keySet());
+        List<TagStatDelta> deltas = new ArrayList<>();
+        for (Long tagId : tagIds) {
+            long usageDelta = sumThenReset(usageDeltas, tagId);
+            long addition = sumThenReset(additions, tagId);
+            if (usageDelta != 0 || addition != 0) {
+                deltas.add(new TagStatDelta(tagId, usageDelta, addition));
+            }
+        }
+        return deltas;
+    }
+
+    private long sumThenReset(Map<Long, LongAdder> adders, Long tagId) {
+        LongAdder adder = adders.get(tagId);
+        if (adder == null) {
+            return 0;
+        }
+        return adder.sumThenReset();
+    }
+
+    public void restore(List<TagStatDelta> deltas) {
+        deltas.forEach(delta -> {
+            adderOf(usageDeltas, delta.tagId()).add(delta.usageDelta());
+            adderOf(additions, delta.tagId()).add(delta.additions());
+        });
+    }
+
+    public void rebuild(List<TagStat> popularStats, List<TagStat> trendingStats, LocalDateTime now) {
+        popularTags = toRankings(popularStats, now).stream()
+                .filter(ranking -> ranking.usageCount() > 0)
+                .sorted(Comparator.comparingLong(TagRanking::usageCount).reversed()
+                        .thenComparingLong(TagRanking::tagId))
+                .limit(RANKING_SIZE)
+                .toList();
+        trendingTags = toRankings(trendingStats, now).stream()
+                .filter(ranking -> ranking.trendScore() > 0)
+                .sorted(Comparator.comparingDouble(TagRanking::trendScore).reversed()
+                        .thenComparingLong(TagRanking::tagId))
+                .limit(RANKING_SIZE)
+                .toList();
+    }
+
+    private List<TagRanking> toRankings(List<TagStat> tagStats, LocalDateTime now) {
+        return tagStats.stream()
+                .map(tagStat -> new TagRanking(
+                        tagStat.getTagId(),
+                        tagStat.getUsageCount(),
+                        decay(tagStat.getTrendScore(), tagStat.getTrendUpdatedAt(), now)
+                ))
+                .toList();
+    }
+
+    private double decay(double score, LocalDateTime from, LocalDateTime to) {
+        double elapsedSeconds = Math.max(0, Duration.between(from, to).toSeconds());
+        return score * Math.pow(0.5, elapsedSeconds / trendHalfLife.toSeconds());
+    }
+
+    public List<TagRanking> findPopular(int size) {
+        return popularTags.stream().limit(size).toList();
+    }
+
+    public List<TagRanking> findTrending(int size) {
+        return trendingTags.stream().limit(size).toList();
+    }
+}
@@ -0,0 +1,8 @@
+package codezap.tag.dto;
+
+public record TagUsageDto(
+        Long tagId,
+        String name,
+        Long templateCount
+) {
+}
@@ -0,0 +1,7 @@
+package codezap.tag.dto;
+
+public record TemplateTagIdDto(
+        Long templateId,
+        Long tagId
+) {
+}
@@ -0,0 +1,11 @@
+package codezap.tag.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record FindAllTagStatsResponse(
+        @Schema(description = "태그 목록")
+        List<FindTagStatResponse> tags
+) {
+}
@@ -0,0 +1,19 @@
+package codezap.tag.dto.response;
+
+import codezap.tag.dto.TagUsageDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record FindMemberTagResponse(
+        @Schema(description = "태그 식별자", example = "1")
+        Long id,
+
+        @Schema(description = "태그 이름", example = "스프링")
+        String name,
+
+        @Schema(description = "태그가 달린 템플릿 수", example = "3")
+        long templateCount
+) {
+    public static FindMemberTagResponse from(TagUsageDto tagUsage) {
+        return new FindMemberTagResponse(tagUsage.tagId(), tagUsage.name(), tagUsage.templateCount());
+    }
+}
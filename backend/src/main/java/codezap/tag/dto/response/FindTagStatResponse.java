@@ -0,0 +1,23 @@
+package codezap.tag.dto.response;
+
+import codezap.tag.domain.Tag;
+import codezap.tag.domain.TagRanking;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record FindTagStatResponse(
+        @Schema(description = "태그 식별자", example = "1")
+        Long id,
+
+        @Schema(description = "태그 이름", example = "스프링")
+        String name,
+
+        @Schema(description = "태그가 달린 템플릿 수", example = "120")
+        long templateCount,
+
+        @Schema(description = "최근 사용량에 가중치를 둔 인기 점수", example = "12.5")
+        double trendScore
+) {
+    public static FindTagStatResponse of(Tag tag, TagRanking tagRanking) {
+        return new FindTagStatResponse(tag.getId(), tag.getName(), tagRanking.usageCount(), tagRanking.trendScore());
+    }
+}
@@ -3,7 +3,11 @@ package codezap.tag.repository;
 import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.http.HttpStatus;
 
@@ -11,13 +15,17 @@ import codezap.global.exception.CodeZapException;
 import codezap.tag.domain.Tag;
 
 @SuppressWarnings("unused")
-public interface TagJpaRepository extends TagRepository, JpaRepository<Tag, Long> {
+public interface TagJpaRepository extends TagRepository, JpaRepository<Tag, Long>, TagQueryRepository {
 
     default Tag fetchById(Long id) {
-        return findById(id).orElseThrow(
+        return findTagById(id).orElseThrow(
                 () -> new CodeZapException(HttpStatus.NOT_FOUND, "식별자 " + id + "에 해당하는 태그가 존재하지 않습니다."));
     }
 
+    default Optional<Tag> findTagById(Long id) {
+        return findById(id);
+    }
+
     default Tag fetchByName(String name) {
         return findByName(name).orElseThrow(
                 () -> new CodeZapException(HttpStatus.NOT_FOUND, "이름이 " + name + "인 태그는 존재하지 않습니다."));
@@ -25,8 +33,28 @@ public interface TagJpaRepository extends TagRepository, JpaRepository<Tag, Long
 
     Optional<Tag> findByName(String name);
 
-    @Query("select t.name from Tag t where t.name in :names")
-    List<String> findNameByNamesIn(List<String> names);
+    @Query("""
+            SELECT t
+            FROM Tag t
+            WHERE t.name IN :names
+            """)
+    List<Tag> findAllByNameIn(List<String> names);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("""
+            SELECT t
+            FROM Tag t
+            WHERE t.name IN :names
+            """)
+    List<Tag> findAllByNameInForShare(List<String> names);
+
+    @Query("""
+            SELECT t
+            FROM Tag t
+            WHERE t.id > :lastTagId
+            ORDER BY t.id
+            """)
+    List<Tag> findAllAfter(Long lastTagId, Pageable pageable);
 
     boolean existsByName(String name);
 }
@@ -0,0 +1,8 @@
+package codezap.tag.repository;
+
+import java.util.List;
+
+public interface TagQueryRepository {
+
+    void insertAllIfAbsent(List<String> names);
+}
@@ -0,0 +1,36 @@
+package codezap.tag.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class TagQueryRepositoryImpl implements TagQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public void insertAllIfAbsent(List<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        Query query = entityManager.createNativeQuery("""
+                INSERT INTO tag (name, created_at, modified_at)
+                VALUES %s
+                ON DUPLICATE KEY UPDATE id = id
+                """.formatted(String.join(", ", Collections.nCopies(names.size(), "(?, ?, ?)"))));
+        LocalDateTime now = LocalDateTime.now();
+        int position = 1;
+        for (String name : names) {
+            query.setParameter(position++, name);
+            query.setParameter(position++, now);
+            query.setParameter(position++, now);
+        }
+        query.executeUpdate();
+    }
+}
@@ -3,17 +3,27 @@ package codezap.tag.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+
 import codezap.tag.domain.Tag;
 
 public interface TagRepository {
 
     Tag fetchById(Long id);
 
+    Optional<Tag> findTagById(Long id);
+
     Tag fetchByName(String name);
 
     Optional<Tag> findByName(String name);
 
-    List<String> findNameByNamesIn(List<String> names);
+    List<Tag> findAllByNameIn(List<String> names);
+
+    List<Tag> findAllByNameInForShare(List<String> names);
+
+    void insertAllIfAbsent(List<String> names);
+
+    List<Tag> findAllAfter(Long lastTagId, Pageable pageable);
 
     boolean existsById(Long id);
 
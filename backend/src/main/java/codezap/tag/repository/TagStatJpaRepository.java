@@ -0,0 +1,21 @@
+package codezap.tag.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import codezap.tag.domain.TagStat;
+
+@SuppressWarnings("unused")
+public interface TagStatJpaRepository extends TagStatRepository, JpaRepository<TagStat, Long>, TagStatQueryRepository {
+
+    @Query("""
+            SELECT ts
+            FROM TagStat ts
+            WHERE ts.usageCount > 0
+            ORDER BY ts.usageCount DESC, ts.tagId
+            """)
+    List<TagStat> findAllPopular(Pageable pageable);
+}
@@ -0,0 +1,15 @@
+package codezap.tag.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import codezap.tag.domain.TagStat;
+import codezap.tag.domain.TagStatDelta;
+
+public interface TagStatQueryRepository {
+
+    List<TagStat> findAllTrending(LocalDateTime now, Duration trendHalfLife, int size);
+
+    void upsertAll(List<TagStatDelta> deltas, LocalDateTime now, Duration trendHalfLife);
+}
@@ -0,0 +1,65 @@
+package codezap.tag.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import codezap.tag.domain.TagStat;
+import codezap.tag.domain.TagStatDelta;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class TagStatQueryRepositoryImpl implements TagStatQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TagStat> findAllTrending(LocalDateTime now, Duration trendHalfLife, int size) {
+        return entityManager.createNativeQuery("""
+                        SELECT tag_id, usage_count, trend_score, trend_updated_at
+                        FROM tag_stats
+                        WHERE trend_score > 0
+                        ORDER BY trend_score
+                            * POW(0.5, GREATEST(0, TIMESTAMPDIFF(SECOND, trend_updated_at, :now)) / :halfLife) DESC,
+                            tag_id
+                        """, TagStat.class)
+                .setParameter("now", now)
+                .setParameter("halfLife", trendHalfLife.toSeconds())
+                .setMaxResults(size)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public void upsertAll(List<TagStatDelta> deltas, LocalDateTime now, Duration trendHalfLife) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Query query = entityManager.createNativeQuery("""
+                INSERT INTO tag_stats (tag_id, usage_count, trend_score, trend_updated_at)
+                VALUES %s
+                ON DUPLICATE KEY UPDATE
+                    usage_count = usage_count + VALUES(usage_count),
+                    trend_score = trend_score
+                        * POW(0.5, GREATEST(0, TIMESTAMPDIFF(SECOND, trend_updated_at, VALUES(trend_updated_at))) / ?)
+                        + VALUES(trend_score),
+                    trend_updated_at = GREATEST(trend_updated_at, VALUES(trend_updated_at))
+                """.formatted(String.join(", ", Collections.nCopies(deltas.size(), "(?, ?, ?, ?)"))));
+        int position = 1;
+        for (TagStatDelta delta : deltas) {
+            query.setParameter(position++, delta.tagId());
+            query.setParameter(position++, delta.usageDelta());
+            query.setParameter(position++, (double) delta.additions());
+            query.setParameter(position++, now);
+        }
+        query.setParameter(position, trendHalfLife.toSeconds());
+        query.executeUpdate();
+    }
+}
@@ -0,0 +1,19 @@
+package codezap.tag.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+
+import codezap.tag.domain.TagStat;
+import codezap.tag.domain.TagStatDelta;
+
+public interface TagStatRepository {
+
+    List<TagStat> findAllPopular(Pageable pageable);
+
+    List<TagStat> findAllTrending(LocalDateTime now, Duration trendHalfLife, int size);
+
+    void upsertAll(List<TagStatDelta> deltas, LocalDateTime now, Duration trendHalfLife);
+}
@@ -5,14 +5,31 @@ import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import codezap.tag.dto.TagUsageDto;
+import codezap.tag.dto.TemplateTagIdDto;
 import codezap.template.domain.Template;
 import codezap.template.domain.TemplateTag;
 
 @SuppressWarnings("unused")
-public interface TemplateTagJpaRepository extends TemplateTagRepository, JpaRepository<TemplateTag, Long> {
+public interface TemplateTagJpaRepository extends TemplateTagRepository, JpaRepository<TemplateTag, Long>,
+        TemplateTagQueryRepository {
 
+    @Query("""
+            SELECT tt
+            FROM TemplateTag tt
+            JOIN FETCH tt.tag
+            WHERE tt.template = :template
+            """)
     List<TemplateTag> findAllByTemplate(Template template);
 
+    @Query("""
+            SELECT tt
+            FROM TemplateTag tt
+            JOIN FETCH tt.tag
+            WHERE tt.id.templateId IN :templateIds
+            """)
+    List<TemplateTag> findAllByTemplateIdsIn(List<Long> templateIds);
+
     @Query("""
             SELECT DISTINCT tt.id.tagId
             FROM TemplateTag tt
@@ -29,5 +46,22 @@ public interface TemplateTagJpaRepository extends TemplateTagRepository, JpaRepo
             """)
     List<Long> findAllTemplateIdInTagIds(List<Long> tagIds, long tagSize);
 
+    @Query("""
+            SELECT new codezap.tag.dto.TemplateTagIdDto(tt.id.templateId, tt.id.tagId)
+            FROM TemplateTag tt
+            WHERE tt.id.templateId IN :templateIds
+            """)
+    List<TemplateTagIdDto> findAllTagIdsByTemplateIdsIn(List<Long> templateIds);
+
+    @Query("""
+            SELECT new codezap.tag.dto.TagUsageDto(t.id, t.name, COUNT(tt.id.templateId))
+            FROM TemplateTag tt
+            JOIN tt.tag t
+            WHERE tt.template.member.id = :memberId
+            GROUP BY t.id, t.name
+            ORDER BY t.id
+            """)
+    List<TagUsageDto> findAllTagUsagesByMemberId(Long memberId);
+
     void deleteAllByTemplateId(Long id);
 }
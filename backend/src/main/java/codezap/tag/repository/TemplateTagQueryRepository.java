@@ -0,0 +1,11 @@
+package codezap.tag.repository;
+
+import java.util.List;
+
+import codezap.tag.domain.Tag;
+import codezap.template.domain.Template;
+
+public interface TemplateTagQueryRepository {
+
+    void insertAll(Template template, List<Tag> tags);
+}
@@ -0,0 +1,39 @@
+package codezap.tag.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import codezap.tag.domain.Tag;
+import codezap.template.domain.Template;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class TemplateTagQueryRepositoryImpl implements TemplateTagQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public void insertAll(Template template, List<Tag> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        Query query = entityManager.createNativeQuery("""
+                INSERT INTO template_tag (template_id, tag_id, created_at, modified_at)
+                VALUES %s
+                """.formatted(String.join(", ", Collections.nCopies(tags.size(), "(?, ?, ?, ?)"))));
+        LocalDateTime now = LocalDateTime.now();
+        int position = 1;
+        for (Tag tag : tags) {
+            query.setParameter(position++, template.getId());
+            query.setParameter(position++, tag.getId());
+            query.setParameter(position++, now);
+            query.setParameter(position++, now);
+        }
+        query.executeUpdate();
+    }
+}
@@ -2,6 +2,9 @@ package codezap.tag.repository;
 
 import java.util.List;
 
+import codezap.tag.domain.Tag;
+import codezap.tag.dto.TagUsageDto;
+import codezap.tag.dto.TemplateTagIdDto;
 import codezap.template.domain.Template;
 import codezap.template.domain.TemplateTag;
 
@@ -9,15 +12,23 @@ public interface TemplateTagRepository {
 
     List<TemplateTag> findAllByTemplate(Template template);
 
+    List<TemplateTag> findAllByTemplateIdsIn(List<Long> templateIds);
+
     List<Long> findDistinctByTemplateIn(List<Long> templateIds);
 
     List<TemplateTag> findAll();
 
     List<Long> findAllTemplateIdInTagIds(List<Long> tagIds, long tagSize);
 
+    List<TemplateTagIdDto> findAllTagIdsByTemplateIdsIn(List<Long> templateIds);
+
+    List<TagUsageDto> findAllTagUsagesByMemberId(Long memberId);
+
     TemplateTag save(TemplateTag templateTag);
 
     <S extends TemplateTag> List<S> saveAll(Iterable<S> entities);
 
+    void insertAll(Template template, List<Tag> tags);
+
     void deleteAllByTemplateId(Long id);
 }
@@ -0,0 +1,32 @@
+package codezap.tag.service;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import codezap.global.cache.CacheConfiguration;
+import codezap.template.domain.TemplateEvent;
+import codezap.template.service.TemplateEventConsumer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 다른 노드에서 변경된 템플릿의 회원 태그 캐시를 템플릿 이벤트로 비웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberTagCacheEvictor implements TemplateEventConsumer {
+
+    private final CacheManager cacheManager;
+
+    @Override
+    public void consume(List<TemplateEvent> templateEvents) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CacheConfiguration.MEMBER_TAGS));
+        templateEvents.stream()
+                .map(TemplateEvent::getMemberId)
+                .distinct()
+                .forEach(cache::evict);
+    }
+}
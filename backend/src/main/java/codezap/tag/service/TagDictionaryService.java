@@ -0,0 +1,82 @@
+package codezap.tag.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import codezap.global.transaction.AfterCommitExecutor;
+import codezap.tag.domain.Tag;
+import codezap.tag.domain.TagDictionary;
+import codezap.tag.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TagDictionaryService {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final long MAXIMUM_SIZE = 100_000;
+    private static final long REFRESH_INTERVAL_MILLIS = 30_000;
+
+    private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary = new TagDictionary(MAXIMUM_SIZE);
+    private long lastLoadedTagId;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+        log.info("[TagDictionary] 태그 {}개를 적재했습니다.", tagDictionary.size());
+    }
+
+    @Scheduled(fixedDelay = REFRESH_INTERVAL_MILLIS, initialDelay = REFRESH_INTERVAL_MILLIS)
+    public synchronized void refresh() {
+        List<Tag> tags;
+        do {
+            tags = tagRepository.findAllAfter(lastLoadedTagId, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            tags.forEach(tagDictionary::put);
+            if (!tags.isEmpty()) {
+                lastLoadedTagId = Math.max(lastLoadedTagId, tags.get(tags.size() - 1).getId());
+            }
+        } while (tags.size() == LOAD_BATCH_SIZE);
+    }
+
+    public boolean existsById(Long id) {
+        return findById(id).isPresent();
+    }
+
+    public Optional<Tag> findById(Long id) {
+        Optional<Tag> tag = tagDictionary.findById(id);
+        if (tag.isPresent()) {
+            return tag;
+        }
+        Optional<Tag> savedTag = tagRepository.findTagById(id);
+        savedTag.ifPresent(tagDictionary::put);
+        return savedTag;
+    }
+
+    public List<Tag> findAllByNames(List<String> names) {
+        List<Tag> tags = new ArrayList<>();
+        List<String> missingNames = new ArrayList<>();
+        for (String name : names) {
+            tagDictionary.findByName(name).ifPresentOrElse(tags::add, () -> missingNames.add(name));
+        }
+        if (!missingNames.isEmpty()) {
+            List<Tag> savedTags = tagRepository.findAllByNameIn(missingNames);
+            savedTags.forEach(tagDictionary::put);
+            tags.addAll(savedTags);
+        }
+        return tags;
+    }
+
+    public void register(List<Tag> tags) {
+        AfterCommitExecutor.execute(() -> tags.forEach(tagDictionary::put));
+    }
+}
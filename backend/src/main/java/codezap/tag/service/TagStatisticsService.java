@@ -0,0 +1,117 @@
+package codezap.tag.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import codezap.global.exception.CodeZapException;
+import codezap.global.transaction.AfterCommitExecutor;
+import codezap.tag.domain.TagRanking;
+import codezap.tag.domain.TagStatDelta;
+import codezap.tag.domain.TagStatistics;
+import codezap.tag.dto.response.FindAllTagStatsResponse;
+import codezap.tag.dto.response.FindTagStatResponse;
+import codezap.tag.repository.TagStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TagStatisticsService {
+
+    private static final Duration TREND_HALF_LIFE = Duration.ofDays(7);
+    private static final long FLUSH_INTERVAL_MILLIS = 30_000;
+    private static final long REFRESH_INTERVAL_MILLIS = 300_000;
+    private static final int MAX_RANKING_SIZE = 50;
+
+    private final TagStatRepository tagStatRepository;
+    private final TagDictionaryService tagDictionaryService;
+    private final TagStatistics tagStatistics = new TagStatistics(TREND_HALF_LIFE);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild(LocalDateTime.now());
+        log.info("[TagStatistics] 태그 통계를 적재했습니다.");
+    }
+
+    public void record(List<Long> previousTagIds, List<Long> currentTagIds) {
+        Set<Long> previous = new HashSet<>(previousTagIds);
+        Set<Long> current = new HashSet<>(currentTagIds);
+        List<Long> removedTagIds = previousTagIds.stream()
+                .filter(tagId -> !current.contains(tagId))
+                .toList();
+        List<Long> addedTagIds = currentTagIds.stream()
+                .filter(tagId -> !previous.contains(tagId))
+                .toList();
+        if (removedTagIds.isEmpty() && addedTagIds.isEmpty()) {
+            return;
+        }
+        AfterCommitExecutor.execute(() -> tagStatistics.record(removedTagIds, addedTagIds));
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS, initialDelay = FLUSH_INTERVAL_MILLIS)
+    public synchronized void flush() {
+        List<TagStatDelta> deltas = tagStatistics.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            tagStatRepository.upsertAll(deltas, now, TREND_HALF_LIFE);
+        } catch (RuntimeException e) {
+            tagStatistics.restore(deltas);
+            log.warn("[TagStatistics] 태그 {}개의 통계를 반영하지 못해 다음 주기에 다시 시도합니다.", deltas.size(), e);
+            return;
+        }
+        rebuild(now);
+    }
+
+    @Scheduled(fixedDelay = REFRESH_INTERVAL_MILLIS, initialDelay = REFRESH_INTERVAL_MILLIS)
+    public synchronized void refresh() {
+        rebuild(LocalDateTime.now());
+    }
+
+    private void rebuild(LocalDateTime now) {
+        tagStatistics.rebuild(
+                tagStatRepository.findAllPopular(PageRequest.ofSize(TagStatistics.RANKING_SIZE)),
+                tagStatRepository.findAllTrending(now, TREND_HALF_LIFE, TagStatistics.RANKING_SIZE),
+                now
+        );
+    }
+
+    public FindAllTagStatsResponse findPopular(int size) {
+        validateSize(size);
+        return toResponse(tagStatistics.findPopular(size));
+    }
+
+    public FindAllTagStatsResponse findTrending(int size) {
+        validateSize(size);
+        return toResponse(tagStatistics.findTrending(size));
+    }
+
+    private void validateSize(int size) {
+        if (size < 1 || size > MAX_RANKING_SIZE) {
+            throw new CodeZapException(
+                    HttpStatus.BAD_REQUEST, "조회 개수는 1 이상 " + MAX_RANKING_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    private FindAllTagStatsResponse toResponse(List<TagRanking> tagRankings) {
+        return new FindAllTagStatsResponse(tagRankings.stream()
+                .flatMap(tagRanking -> tagDictionaryService.findById(tagRanking.tagId())
+                        .map(tag -> FindTagStatResponse.of(tag, tagRanking))
+                        .stream())
+                .toList());
+    }
+}
@@ -1,15 +1,25 @@
 package codezap.tag.service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import codezap.global.cache.CacheConfiguration;
 import codezap.global.exception.CodeZapException;
+import codezap.member.domain.Member;
+import codezap.search.service.TemplateBitmapSearchService;
 import codezap.tag.domain.Tag;
-import codezap.tag.dto.response.FindAllTagsResponse;
-import codezap.tag.dto.response.FindTagResponse;
+import codezap.tag.dto.TemplateTagIdDto;
+import codezap.tag.dto.response.FindAllMemberTagsResponse;
+import codezap.tag.dto.response.FindMemberTagResponse;
 import codezap.tag.repository.TagRepository;
 import codezap.tag.repository.TemplateTagRepository;
 import codezap.template.domain.Template;
@@ -21,28 +31,54 @@ import lombok.RequiredArgsConstructor;
 public class TemplateTagService {
     private final TagRepository tagRepository;
     private final TemplateTagRepository templateTagRepository;
+    private final TemplateBitmapSearchService templateBitmapSearchService;
+    private final TagDictionaryService tagDictionaryService;
+    private final TagStatisticsService tagStatisticsService;
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.MEMBER_TAGS, key = "#template.member.id")
     public void createTags(Template template, List<String> tagNames) {
-        List<String> existingTags = tagRepository.findNameByNamesIn(tagNames);
-        templateTagRepository.saveAll(
-                existingTags.stream()
-                        .map(tagRepository::fetchByName)
-                        .map(tag -> new TemplateTag(template, tag))
-                        .toList()
-        );
+        List<Tag> tags = saveTags(template, tagNames);
+        tagStatisticsService.record(List.of(), toIds(tags));
+    }
 
-        List<Tag> newTags = tagRepository.saveAll(
-                tagNames.stream()
-                        .filter(tagName -> !existingTags.contains(tagName))
-                        .map(Tag::new)
-                        .toList()
-        );
-        templateTagRepository.saveAll(
-                newTags.stream()
-                        .map(tag -> new TemplateTag(template, tag))
-                        .toList()
-        );
+    private List<Tag> saveTags(Template template, List<String> tagNames) {
+        List<String> distinctTagNames = tagNames.stream().distinct().toList();
+        if (distinctTagNames.isEmpty()) {
+            return List.of();
+        }
+        List<Tag> tags = new ArrayList<>(tagDictionaryService.findAllByNames(distinctTagNames));
+        List<String> newTagNames = findMissingTagNames(distinctTagNames, tags);
+        if (!newTagNames.isEmpty()) {
+            tagRepository.insertAllIfAbsent(newTagNames);
+            List<Tag> newTags = tagRepository.findAllByNameInForShare(newTagNames);
+            tagDictionaryService.register(newTags);
+            tags.addAll(newTags);
+        }
+        templateTagRepository.insertAll(template, tags);
+        templateBitmapSearchService.addTags(template, tags);
+        return tags;
+    }
+
+    private List<Long> toIds(List<Tag> tags) {
+        return tags.stream()
+                .map(Tag::getId)
+                .toList();
+    }
+
+    private List<Long> findTagIdsByTemplateIds(List<Long> templateIds) {
+        return templateTagRepository.findAllTagIdsByTemplateIdsIn(templateIds).stream()
+                .map(TemplateTagIdDto::tagId)
+                .toList();
+    }
+
+    private List<String> findMissingTagNames(List<String> tagNames, List<Tag> existingTags) {
+        Set<String> existingTagNames = existingTags.stream()
+                .map(Tag::getName)
+                .collect(Collectors.toSet());
+        return tagNames.stream()
+                .filter(tagName -> !existingTagNames.contains(tagName))
+                .toList();
     }
 
     public List<Tag> getByTemplate(Template template) {
@@ -51,6 +87,14 @@ public class TemplateTagService {
                 .toList();
     }
 
+    public Map<Long, List<Tag>> getAllByTemplateIds(List<Long> templateIds) {
+        return templateTagRepository.findAllByTemplateIdsIn(templateIds).stream()
+                .collect(Collectors.groupingBy(
+                        templateTag -> templateTag.getTemplate().getId(),
+                        Collectors.mapping(TemplateTag::getTag, Collectors.toList())
+                ));
+    }
+
     public List<Long> getTemplateIdContainTagIds(List<Long> tagIds) {
         if (tagIds.isEmpty()) {
             throw new CodeZapException(HttpStatus.BAD_REQUEST, "태그 ID가 0개입니다. 필터링 하지 않을 경우 null로 전달해주세요.");
@@ -60,28 +104,35 @@ public class TemplateTagService {
     }
 
     private void validateTagId(Long tagId) {
-        if (!tagRepository.existsById(tagId)) {
+        if (!tagDictionaryService.existsById(tagId)) {
             throw new CodeZapException(HttpStatus.NOT_FOUND, "식별자 " + tagId + "에 해당하는 태그가 존재하지 않습니다.");
         }
     }
 
-    public FindAllTagsResponse findAllByTemplates(List<Template> templates) {
-        List<Long> templateIds = templates.stream().map(Template::getId).toList();
-        List<Long> templateTagIds = templateTagRepository.findDistinctByTemplateIn(templateIds);
-        return new FindAllTagsResponse(
-                templateTagIds.stream()
-                        .map(id -> FindTagResponse.from(tagRepository.fetchById(id)))
+    @Cacheable(cacheNames = CacheConfiguration.MEMBER_TAGS, key = "#memberId")
+    public FindAllMemberTagsResponse findAllByMemberId(Long memberId) {
+        return new FindAllMemberTagsResponse(
+                templateTagRepository.findAllTagUsagesByMemberId(memberId).stream()
+                        .map(FindMemberTagResponse::from)
                         .toList()
         );
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.MEMBER_TAGS, key = "#template.member.id")
     public void updateTags(Template template, List<String> tags) {
+        List<Long> previousTagIds = findTagIdsByTemplateIds(List.of(template.getId()));
         templateTagRepository.deleteAllByTemplateId(template.getId());
-        createTags(template, tags);
+        templateBitmapSearchService.removeTags(List.of(template.getId()));
+        List<Tag> savedTags = saveTags(template, tags);
+        tagStatisticsService.record(previousTagIds, toIds(savedTags));
     }
 
-    public void deleteByIds(List<Long> templateIds) {
+    @CacheEvict(cacheNames = CacheConfiguration.MEMBER_TAGS, key = "#member.id")
+    public void deleteByMemberAndIds(Member member, List<Long> templateIds) {
+        List<Long> previousTagIds = findTagIdsByTemplateIds(templateIds);
         templateIds.forEach(templateTagRepository::deleteAllByTemplateId);
+        templateBitmapSearchService.removeTags(templateIds);
+        tagStatisticsService.record(previousTagIds, List.of());
     }
 }
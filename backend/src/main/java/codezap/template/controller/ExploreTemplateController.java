@@ -0,0 +1,26 @@
+package codezap.template.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import codezap.template.service.ExploreTemplateService;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/templates/explore")
+public class ExploreTemplateController implements SpringDocExploreTemplateController {
+
+    private final ExploreTemplateService exploreTemplateService;
+
+    @GetMapping
+    public ResponseEntity<byte[]> getExploreTemplates(@RequestParam(defaultValue = "1") int page) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(exploreTemplateService.getPage(page));
+    }
+}
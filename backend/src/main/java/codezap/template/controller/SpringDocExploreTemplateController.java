@@ -0,0 +1,28 @@
+package codezap.template.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import codezap.global.swagger.error.ApiErrorResponse;
+import codezap.global.swagger.error.ErrorCase;
+import codezap.template.dto.response.ExploreTemplatesResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "템플릿 탐색 API", description = "전체 템플릿 최신순 탐색 API")
+public interface SpringDocExploreTemplateController {
+
+    @Operation(summary = "템플릿 탐색", description = """
+            전체 템플릿을 최신순으로 한 페이지에 20개씩 조회합니다. \n
+            목록은 1분마다 갱신되며, 최신 1,000개의 템플릿까지 조회할 수 있습니다. \n
+            """)
+    @ApiResponse(responseCode = "200", description = "템플릿 탐색 성공",
+            content = @Content(schema = @Schema(implementation = ExploreTemplatesResponse.class)))
+    @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/templates/explore?page=0", errorCases = {
+            @ErrorCase(description = "페이지 번호가 1보다 작을 경우", exampleMessage = "페이지 번호는 1 이상이어야 합니다."),
+    })
+    ResponseEntity<byte[]> getExploreTemplates(int page);
+}
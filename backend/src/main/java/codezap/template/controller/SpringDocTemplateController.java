@@ -5,13 +5,15 @@ import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 import codezap.global.swagger.error.ApiErrorResponse;
 import codezap.global.swagger.error.ErrorCase;
 import codezap.member.dto.MemberDto;
 import codezap.template.dto.request.CreateTemplateRequest;
 import codezap.template.dto.request.UpdateTemplateRequest;
-import codezap.template.dto.response.FindAllTemplatesResponse;
+import codezap.template.dto.response.FindAllRelatedTemplatesResponse;
+import codezap.template.dto.response.FindAllTemplateSuggestionsResponse;
 import codezap.template.dto.response.FindTemplateResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.headers.Header;
@@ -64,6 +66,11 @@ public interface SpringDocTemplateController {
               - 카테고리 ID
               - 태그 ID들 \n
               
+            mode=identifier를 주면 검색 키워드를 식별자로 보고 소스 코드에서 찾습니다. \n
+            - 식별자 검색 \n
+              - camelCase, snake_case, kebab-case를 단어 단위로 나누어 비교합니다.
+              - user_name으로 userName, USER_NAME을 찾고, ById로 findById, fetchById를 찾습니다. \n
+              
             페이징 조건을 줄 수 있습니다. 페이지 번호는 1, 템플릿 개수는 20, 정렬 방식은 최신순이 기본 값입니다. \n
             - 페이징 조건 \n
               - 페이지 번호(pageNumber)
@@ -73,12 +80,41 @@ public interface SpringDocTemplateController {
             - 정렬 방식 \n
               - 최신순 (modifiedAt,asc)
               - 오래된순 (modifiedAt,desc) \n
+              
+            - 조회 방식 \n
+              - fields: 쉼표로 구분한 필드(id, member, title, description, tags, thumbnail, createdAt, modifiedAt)만 응답
+              - count=false: 전체 개수를 세지 않고 전체 페이지 개수 대신 다음 페이지 존재 여부를 응답
+              - sort=relevance: 검색 키워드(필수)와 관련도가 높은 순서로 조회하고 일치한 위치의 발췌(highlights)를 응답
+              - cursor: 최신순 커서 기반 조회, 첫 조회는 빈 값, 이후에는 응답의 nextCursor 값 (size 기본 값 20, 최대 100) \n
+              
+            mode=identifier는 fields, count=false, cursor와 함께 쓸 수 있습니다. \n
+            - 함께 쓸 수 없는 조건 (400 응답) \n
+              - cursor와 fields, sort
+              - sort=relevance와 mode=identifier, fields, count=false
+              - fields와 count=false \n
+              
+            응답의 ETag 값을 If-None-Match 헤더로 보내면
+            멤버 범위의 템플릿이 바뀌지 않은 경우 본문 없이 304를 응답합니다. \n
+            
+            debug-headers.enabled 설정을 켠 경우 X-Template-Search-Plan 헤더로 검색에 사용한 실행 계획을 응답합니다. \n
+            - ids(후보 개수; 조건=템플릿 수,...): 템플릿 수가 적은 조건부터 메모리에서 교집합한 ID로 조회
+            - database(사유): 조건을 그대로 데이터베이스에서 조회 \n
             """)
-    @ApiResponse(responseCode = "200", description = "템플릿 검색 성공")
+    @ApiResponse(responseCode = "200", description = "템플릿 검색 성공", headers = {
+            @Header(name = "X-Template-Search-Plan", description = "검색 실행 계획 (debug-headers.enabled 설정 시)",
+                    example = "ids(3; tag:1=12,member:1=120)")})
+    @ApiResponse(responseCode = "304", description = "템플릿 목록이 바뀌지 않음")
     @ApiErrorResponse(status = HttpStatus.BAD_REQUEST,
             instance = "/templates?memberId=1&keyword=\"java\"&tagIds=", errorCases = {
             @ErrorCase(description = "태그 ID가 0개인 경우", exampleMessage = "태그 ID가 0개입니다. 필터링 하지 않을 경우 null로 전달해주세요."),
             @ErrorCase(description = "페이지 번호가 1보다 작을 경우", exampleMessage = "페이지 번호는 1 이상이어야 합니다."),
+            @ErrorCase(description = "지원하지 않는 검색 방식인 경우", exampleMessage = "지원하지 않는 검색 방식 regex 입니다."),
+            @ErrorCase(description = "함께 쓸 수 없는 조회 조건인 경우", exampleMessage = "cursor와 fields는 함께 사용할 수 없습니다."),
+            @ErrorCase(description = "지원하지 않는 필드인 경우", exampleMessage = "지원하지 않는 필드 name 입니다."),
+            @ErrorCase(description = "관련도순 정렬에 검색 키워드가 없는 경우", exampleMessage = "관련도순 정렬에는 검색 키워드가 필요합니다."),
+            @ErrorCase(description = "커서 형식이 잘못된 경우", exampleMessage = "잘못된 커서입니다."),
+            @ErrorCase(description = "커서 조회의 템플릿 개수가 범위를 벗어난 경우",
+                    exampleMessage = "템플릿 개수는 1 이상 100 이하여야 합니다."),
     })
     @ApiErrorResponse(status = HttpStatus.NOT_FOUND,
             instance = "/templates?memberId=1&keyword=\"java\"&categoryId=1&tagIds=1,2", errorCases = {
@@ -86,21 +122,52 @@ public interface SpringDocTemplateController {
             @ErrorCase(description = "카테고리가 없는 경우", exampleMessage = "식별자 1에 해당하는 카테고리가 존재하지 않습니다."),
             @ErrorCase(description = "태그가 없는 경우", exampleMessage = "식별자 1에 해당하는 태그가 존재하지 않습니다."),
     })
-    ResponseEntity<FindAllTemplatesResponse> getTemplates(
+    ResponseEntity<?> getTemplates(
             Long memberId,
             String keyword,
             Long categoryId,
             List<Long> tagIds,
-            Pageable pageable
+            String mode,
+            String fields,
+            Boolean count,
+            String cursor,
+            int size,
+            Pageable pageable,
+            WebRequest webRequest
     );
 
     @SecurityRequirement(name = "쿠키 인증 토큰")
-    @Operation(summary = "템플릿 단건 조회", description = "해당하는 식별자의 템플릿을 조회합니다.")
+    @Operation(summary = "템플릿명 자동 완성", description = """
+            해당 멤버의 템플릿 중 템플릿명이 prefix로 시작하는 템플릿을 템플릿명 순으로 조회합니다. \n
+            대소문자는 구분하지 않으며, 추천 개수(size)는 기본 값 10, 최대 20입니다. \n
+            """)
+    @ApiResponse(responseCode = "200", description = "템플릿명 자동 완성 성공")
+    @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/templates/suggest?memberId=1&prefix=s&size=0",
+            errorCases = {
+                    @ErrorCase(description = "추천 개수가 범위를 벗어난 경우", exampleMessage = "추천 개수는 1 이상 20 이하여야 합니다."),
+            })
+    ResponseEntity<FindAllTemplateSuggestionsResponse> getTemplateSuggestions(Long memberId, String prefix, int size);
+
+    @SecurityRequirement(name = "쿠키 인증 토큰")
+    @Operation(summary = "템플릿 단건 조회", description = """
+            해당하는 식별자의 템플릿을 조회합니다. \n
+            응답의 ETag, Last-Modified 값을 If-None-Match, If-Modified-Since 헤더로 보내면
+            템플릿이 바뀌지 않은 경우 본문 없이 304를 응답합니다. \n
+            """)
     @ApiResponse(responseCode = "200", description = "템플릿 단건 조회 성공")
+    @ApiResponse(responseCode = "304", description = "템플릿이 바뀌지 않음")
     @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/templates/1", errorCases = {
             @ErrorCase(description = "해당하는 ID 값인 템플릿이 없는 경우", exampleMessage = "식별자 1에 해당하는 템플릿이 존재하지 않습니다."),
     })
-    ResponseEntity<FindTemplateResponse> getTemplateById(Long id);
+    ResponseEntity<FindTemplateResponse> getTemplateById(Long id, WebRequest webRequest);
+
+    @SecurityRequirement(name = "쿠키 인증 토큰")
+    @Operation(summary = "연관 템플릿 조회", description = """
+            해당하는 식별자의 템플릿과 태그가 많이 겹치는 템플릿을 유사도 순으로 최대 10개 조회합니다. \n
+            유사도는 태그별 희소성(IDF)으로 가중치를 둔 자카드 유사도이며, 1시간마다 다시 계산됩니다. \n
+            """)
+    @ApiResponse(responseCode = "200", description = "연관 템플릿 조회 성공")
+    ResponseEntity<FindAllRelatedTemplatesResponse> getRelatedTemplates(Long id);
 
     @SecurityRequirement(name = "쿠키 인증 토큰")
     @Operation(summary = "템플릿 수정", description = "해당하는 식별자의 템플릿을 수정합니다.")
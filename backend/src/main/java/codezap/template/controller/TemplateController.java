@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,14 +16,19 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import codezap.auth.configuration.AuthenticationPrinciple;
 import codezap.global.validation.ValidationSequence;
 import codezap.member.dto.MemberDto;
+import codezap.template.dto.TemplateListRequest;
+import codezap.template.dto.TemplateListVersion;
 import codezap.template.dto.request.CreateTemplateRequest;
 import codezap.template.dto.request.UpdateTemplateRequest;
-import codezap.template.dto.response.FindAllTemplatesResponse;
+import codezap.template.dto.response.FindAllRelatedTemplatesResponse;
+import codezap.template.dto.response.FindAllTemplateSuggestionsResponse;
 import codezap.template.dto.response.FindTemplateResponse;
+import codezap.template.service.RelatedTemplateService;
 import codezap.template.service.facade.MemberTemplateApplicationService;
 import codezap.template.service.facade.TemplateApplicationService;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +40,7 @@ public class TemplateController implements SpringDocTemplateController {
 
     private final MemberTemplateApplicationService memberTemplateApplicationService;
     private final TemplateApplicationService templateApplicationService;
+    private final RelatedTemplateService relatedTemplateService;
 
     @PostMapping
     public ResponseEntity<Void> createTemplate(
@@ -46,23 +53,76 @@ public class TemplateController implements SpringDocTemplateController {
     }
 
     @GetMapping
-    public ResponseEntity<FindAllTemplatesResponse> getTemplates(
+    public ResponseEntity<?> getTemplates(
             @RequestParam(required = false) Long memberId,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) List<Long> tagIds,
-            @PageableDefault(size = 20, page = 1) Pageable pageable
+            @RequestParam(required = false) String mode,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Boolean count,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @PageableDefault(size = 20, page = 1) Pageable pageable,
+            WebRequest webRequest
     ) {
-        FindAllTemplatesResponse response = memberTemplateApplicationService.getAllTemplatesBy(
-                memberId, keyword, categoryId, tagIds, pageable);
+        TemplateListRequest request = TemplateListRequest.of(
+                memberId, keyword, categoryId, tagIds, mode, fields, count, cursor, size, pageable);
+        if (isListNotModified(memberId, webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(findAllTemplates(request));
+    }
+
+    private Object findAllTemplates(TemplateListRequest request) {
+        return switch (request.listType()) {
+            case PAGE -> memberTemplateApplicationService.getAllTemplatesBy(request);
+            case FIELDS -> memberTemplateApplicationService.getAllTemplateFieldsBy(request);
+            case SLICE -> memberTemplateApplicationService.getAllTemplateSliceBy(request);
+            case RELEVANCE -> memberTemplateApplicationService.getAllTemplatesByRelevance(request);
+            case CURSOR -> memberTemplateApplicationService.getAllTemplatesByCursor(request);
+        };
+    }
+
+    private boolean isListNotModified(Long memberId, WebRequest webRequest) {
+        TemplateListVersion version = memberTemplateApplicationService.getTemplateListVersion(memberId);
+        return webRequest.checkNotModified(version.eTag());
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<FindAllTemplateSuggestionsResponse> getTemplateSuggestions(
+            @RequestParam Long memberId,
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        FindAllTemplateSuggestionsResponse response =
+                memberTemplateApplicationService.getTemplateSuggestions(memberId, prefix, size);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<FindTemplateResponse> getTemplateById(
+            @PathVariable Long id,
+            WebRequest webRequest
+    ) {
+        boolean isNotModified = memberTemplateApplicationService.findTemplateVersion(id)
+                .map(version -> webRequest.checkNotModified(version.eTag(), version.lastModified()))
+                .orElse(false);
+        if (isNotModified) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(memberTemplateApplicationService.getTemplateById(id));
+    }
+
+    @GetMapping("/{id}/related")
+    public ResponseEntity<FindAllRelatedTemplatesResponse> getRelatedTemplates(
             @PathVariable Long id
     ) {
-        return ResponseEntity.ok(memberTemplateApplicationService.getTemplateById(id));
+        return ResponseEntity.ok(relatedTemplateService.findAllByTemplateId(id));
     }
 
     @PostMapping("/{id}")
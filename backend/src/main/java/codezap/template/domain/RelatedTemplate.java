@@ -0,0 +1,9 @@
+package codezap.template.domain;
+
+public record RelatedTemplate(
+        long templateId,
+        int ranking,
+        long relatedTemplateId,
+        double score
+) {
+}
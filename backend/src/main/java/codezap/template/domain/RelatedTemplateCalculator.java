@@ -0,0 +1,210 @@
+package codezap.template.domain;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class RelatedTemplateCalculator {
+
+    private static final int SEQUENTIAL_THRESHOLD = 512;
+
+    private final int maxRelatedSize;
+    private final int maxTagFrequency;
+    private final ForkJoinPool forkJoinPool;
+
+    public RelatedTemplateCalculator(int maxRelatedSize, int maxTagFrequency, ForkJoinPool forkJoinPool) {
+        this.maxRelatedSize = maxRelatedSize;
+        this.maxTagFrequency = maxTagFrequency;
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    public RelatedTemplates calculate(Map<Long, List<Long>> tagIdsByTemplateId) {
+        long[] templateIds = tagIdsByTemplateId.keySet().stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        TagVectors tagVectors = TagVectors.of(templateIds, tagIdsByTemplateId);
+        RelatedTemplates relatedTemplates = new RelatedTemplates(templateIds, maxRelatedSize);
+        ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(() -> new Workspace(templateIds.length));
+        forkJoinPool.invoke(new CalculateAction(tagVectors, relatedTemplates, workspaces, 0, templateIds.length));
+        return relatedTemplates;
+    }
+
+    private class CalculateAction extends RecursiveAction {
+
+        private final TagVectors tagVectors;
+        private final RelatedTemplates relatedTemplates;
+        private final ThreadLocal<Workspace> workspaces;
+        private final int from;
+        private final int to;
+
+        private CalculateAction(
+                TagVectors tagVectors,
+                RelatedTemplates relatedTemplates,
+                ThreadLocal<Workspace> workspaces,
+                int from,
+                int to
+        ) {
+            this.tagVectors = tagVectors;
+            this.relatedTemplates = relatedTemplates;
+            this.workspaces = workspaces;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                Workspace workspace = workspaces.get();
+                for (int index = from; index < to; index++) {
+                    int size = findTopRelated(index, workspace);
+                    relatedTemplates.put(index, workspace.relatedIndexes, workspace.relatedScores, size);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                    new CalculateAction(tagVectors, relatedTemplates, workspaces, from, middle),
+                    new CalculateAction(tagVectors, relatedTemplates, workspaces, middle, to)
+            );
+        }
+
+        private int findTopRelated(int index, Workspace workspace) {
+            int touchedSize = accumulateIntersections(index, workspace);
+            int size = 0;
+            for (int i = 0; i < touchedSize; i++) {
+                int candidate = workspace.touched[i];
+                double intersection = workspace.intersections[candidate] + frequentTagIntersection(index, candidate);
+                double union = tagVectors.weights[index] + tagVectors.weights[candidate] - intersection;
+                size = offer(candidate, intersection / union, workspace, size);
+            }
+            return size;
+        }
+
+        private int accumulateIntersections(int index, Workspace workspace) {
+            int mark = index + 1;
+            int touchedSize = 0;
+            workspace.marks[index] = mark;
+            for (int tag : tagVectors.tagsOf[index]) {
+                int[] posting = tagVectors.postings[tag];
+                if (posting.length > maxTagFrequency) {
+                    continue;
+                }
+                for (int candidate : posting) {
+                    if (workspace.marks[candidate] != mark) {
+                        workspace.marks[candidate] = mark;
+                        workspace.intersections[candidate] = 0;
+                        workspace.touched[touchedSize++] = candidate;
+                    }
+                    workspace.intersections[candidate] += tagVectors.idfs[tag];
+                }
+            }
+            return touchedSize;
+        }
+
+        private double frequentTagIntersection(int index, int candidate) {
+            double intersection = 0;
+            for (int tag : tagVectors.tagsOf[index]) {
+                if (tagVectors.postings[tag].length > maxTagFrequency
+                        && Arrays.binarySearch(tagVectors.tagsOf[candidate], tag) >= 0) {
+                    intersection += tagVectors.idfs[tag];
+                }
+            }
+            return intersection;
+        }
+
+        private int offer(int candidate, double score, Workspace workspace, int size) {
+            int[] relatedIndexes = workspace.relatedIndexes;
+            double[] relatedScores = workspace.relatedScores;
+            int last = size - 1;
+            if (size == maxRelatedSize && !isBetter(candidate, score, relatedIndexes[last], relatedScores[last])) {
+                return size;
+            }
+            int position = Math.min(size, maxRelatedSize - 1);
+            while (position > 0) {
+                int previous = position - 1;
+                if (!isBetter(candidate, score, relatedIndexes[previous], relatedScores[previous])) {
+                    break;
+                }
+                relatedIndexes[position] = relatedIndexes[previous];
+                relatedScores[position] = relatedScores[previous];
+                position--;
+            }
+            relatedIndexes[position] = candidate;
+            relatedScores[position] = score;
+            return Math.min(size + 1, maxRelatedSize);
+        }
+
+        private boolean isBetter(int candidate, double score, int otherCandidate, double otherScore) {
+            return score > otherScore || (score == otherScore && candidate < otherCandidate);
+        }
+    }
+
+    private class Workspace {
+
+        private final int[] marks;
+        private final double[] intersections;
+        private final int[] touched;
+        private final int[] relatedIndexes;
+        private final double[] relatedScores;
+
+        private Workspace(int templateSize) {
+            this.marks = new int[templateSize];
+            this.intersections = new double[templateSize];
+            this.touched = new int[templateSize];
+            this.relatedIndexes = new int[maxRelatedSize];
+            this.relatedScores = new double[maxRelatedSize];
+        }
+    }
+
+    private static class TagVectors {
+
+        private final int[][] tagsOf;
+        private final int[][] postings;
+        private final double[] idfs;
+        private final double[] weights;
+
+        private TagVectors(int[][] tagsOf, int[][] postings, double[] idfs, double[] weights) {
+            this.tagsOf = tagsOf;
+            this.postings = postings;
+            this.idfs = idfs;
+            this.weights = weights;
+        }
+
+        private static TagVectors of(long[] templateIds, Map<Long, List<Long>> tagIdsByTemplateId) {
+            Map<Long, Integer> tagIndexes = new HashMap<>();
+            int[][] tagsOf = new int[templateIds.length][];
+            for (int index = 0; index < templateIds.length; index++) {
+                tagsOf[index] = tagIdsByTemplateId.get(templateIds[index]).stream()
+                        .mapToInt(tagId -> tagIndexes.computeIfAbsent(tagId, key -> tagIndexes.size()))
+                        .distinct()
+                        .sorted()
+                        .toArray();
+            }
+            int[] frequencies = new int[tagIndexes.size()];
+            for (int[] tags : tagsOf) {
+                for (int tag : tags) {
+                    frequencies[tag]++;
+                }
+            }
+            int[][] postings = new int[frequencies.length][];
+            double[] idfs = new double[frequencies.length];
+            for (int tag = 0; tag < frequencies.length; tag++) {
+                postings[tag] = new int[frequencies[tag]];
+                idfs[tag] = Math.log(1 + (double) templateIds.length / frequencies[tag]);
+            }
+            int[] postingSizes = new int[frequencies.length];
+            double[] weights = new double[templateIds.length];
+            for (int index = 0; index < tagsOf.length; index++) {
+                for (int tag : tagsOf[index]) {
+                    postings[tag][postingSizes[tag]++] = index;
+                    weights[index] += idfs[tag];
+                }
+            }
+            return new TagVectors(tagsOf, postings, idfs, weights);
+        }
+    }
+}
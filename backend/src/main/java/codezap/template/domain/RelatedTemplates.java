@@ -0,0 +1,48 @@
+package codezap.template.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RelatedTemplates {
+
+    private final long[] templateIds;
+    private final int maxRelatedSize;
+    private final long[] relatedTemplateIds;
+    private final double[] scores;
+    private final int[] sizes;
+
+    RelatedTemplates(long[] templateIds, int maxRelatedSize) {
+        this.templateIds = templateIds;
+        this.maxRelatedSize = maxRelatedSize;
+        this.relatedTemplateIds = new long[templateIds.length * maxRelatedSize];
+        this.scores = new double[templateIds.length * maxRelatedSize];
+        this.sizes = new int[templateIds.length];
+    }
+
+    void put(int index, int[] relatedIndexes, double[] relatedScores, int size) {
+        int offset = index * maxRelatedSize;
+        for (int ranking = 0; ranking < size; ranking++) {
+            relatedTemplateIds[offset + ranking] = templateIds[relatedIndexes[ranking]];
+            scores[offset + ranking] = relatedScores[ranking];
+        }
+        sizes[index] = size;
+    }
+
+    public int size() {
+        return templateIds.length;
+    }
+
+    public long templateIdAt(int index) {
+        return templateIds[index];
+    }
+
+    public List<RelatedTemplate> findAllAt(int index) {
+        int offset = index * maxRelatedSize;
+        List<RelatedTemplate> relatedTemplates = new ArrayList<>(sizes[index]);
+        for (int ranking = 0; ranking < sizes[index]; ranking++) {
+            relatedTemplates.add(new RelatedTemplate(
+                    templateIds[index], ranking + 1, relatedTemplateIds[offset + ranking], scores[offset + ranking]));
+        }
+        return relatedTemplates;
+    }
+}
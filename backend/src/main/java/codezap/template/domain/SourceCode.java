@@ -1,8 +1,6 @@
 package codezap.template.domain;
 
-import java.util.Arrays;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -14,13 +12,11 @@ import jakarta.persistence.ManyToOne;
 
 import codezap.global.auditing.BaseTimeEntity;
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor
 @Getter
 public class SourceCode extends BaseTimeEntity {
 
@@ -40,28 +36,43 @@ public class SourceCode extends BaseTimeEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String thumbnailContent;
+
     @Column(nullable = false)
     private Integer ordinal;
 
-    public SourceCode(Template template, String filename, String content, Integer ordinal) {
+    public SourceCode(Long id, Template template, String filename, String content, Integer ordinal) {
+        this.id = id;
         this.template = template;
         this.filename = filename;
         this.content = content;
+        this.thumbnailContent = extractThumbnailContent(content);
         this.ordinal = ordinal;
     }
 
-    public String getThumbnailContent() {
-        return Arrays.stream(content.split(LINE_BREAK))
-                .limit(THUMBNAIL_LINE_HEIGHT)
-                .collect(Collectors.joining(LINE_BREAK));
+    public SourceCode(Template template, String filename, String content, Integer ordinal) {
+        this(null, template, filename, content, ordinal);
     }
 
     public void updateSourceCode(String filename, String content, Integer ordinal) {
         this.filename = filename;
         this.content = content;
+        this.thumbnailContent = extractThumbnailContent(content);
         this.ordinal = ordinal;
     }
 
+    private static String extractThumbnailContent(String content) {
+        int endIndex = -1;
+        for (int line = 0; line < THUMBNAIL_LINE_HEIGHT; line++) {
+            endIndex = content.indexOf(LINE_BREAK, endIndex + 1);
+            if (endIndex == -1) {
+                return content;
+            }
+        }
+        return content.substring(0, endIndex);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -12,6 +12,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 
 import org.springframework.http.HttpStatus;
 
@@ -43,10 +44,11 @@ public class Template extends BaseTimeEntity {
     @Column(columnDefinition = "TEXT")
     private String description;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     private Category category;
 
     @OneToMany(mappedBy = "template")
+    @OrderBy("ordinal")
     private List<SourceCode> sourceCodes = new ArrayList<>();
 
     public Template(Member member, String title, String description, Category category) {
@@ -0,0 +1,47 @@
+package codezap.template.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+public class TemplateEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long templateId;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TemplateEventType eventType;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public TemplateEvent(Long templateId, Long memberId, TemplateEventType eventType) {
+        this.templateId = templateId;
+        this.memberId = memberId;
+        this.eventType = eventType;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,90 @@
+package codezap.template.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+public class TemplateEventSequence {
+
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final NavigableMap<Long, PendingEvent> pendingEvents = new TreeMap<>();
+    private long lastReadId;
+
+    public TemplateEventSequence(long lastEventId, Duration initialBackoff, Duration maxBackoff) {
+        this.lastReadId = lastEventId;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    public void read(List<TemplateEvent> templateEvents, LocalDateTime now) {
+        for (TemplateEvent templateEvent : templateEvents) {
+            for (long missingEventId = lastReadId + 1; missingEventId < templateEvent.getId(); missingEventId++) {
+                deferGap(missingEventId, now);
+            }
+            lastReadId = Math.max(lastReadId, templateEvent.getId());
+        }
+    }
+
+    public List<Long> findDueEventIds(LocalDateTime now) {
+        return pendingEvents.entrySet().stream()
+                .filter(entry -> !entry.getValue().nextAttemptAt().isAfter(now))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public int deferGap(long eventId, LocalDateTime now) {
+        return defer(eventId, true, now);
+    }
+
+    public int park(long eventId, LocalDateTime now) {
+        return defer(eventId, false, now);
+    }
+
+    private int defer(long eventId, boolean missing, LocalDateTime now) {
+        PendingEvent previous = pendingEvents.get(eventId);
+        int attempts = previous == null ? 1 : previous.attempts() + 1;
+        pendingEvents.put(eventId, new PendingEvent(missing, attempts, now.plus(backoff(attempts))));
+        return attempts;
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = initialBackoff;
+        for (int i = 1; i < attempts && backoff.compareTo(maxBackoff) < 0; i++) {
+            backoff = backoff.multipliedBy(2);
+        }
+        return backoff.compareTo(maxBackoff) < 0 ? backoff : maxBackoff;
+    }
+
+    public void applied(long eventId) {
+        pendingEvents.remove(eventId);
+    }
+
+    public long lastReadId() {
+        return lastReadId;
+    }
+
+    /**
+     * 빈 번호나 보류된 이벤트가 있으면 그 바로 앞까지만 전달한 것으로 보고 오프셋을 돌려줍니다.
+     */
+    public long lastEventId() {
+        if (pendingEvents.isEmpty()) {
+            return lastReadId;
+        }
+        return Math.min(lastReadId, pendingEvents.firstKey() - 1);
+    }
+
+    public long countGaps() {
+        return pendingEvents.values().stream().filter(PendingEvent::missing).count();
+    }
+
+    public long countParked() {
+        return pendingEvents.values().stream().filter(pendingEvent -> !pendingEvent.missing()).count();
+    }
+
+    private record PendingEvent(boolean missing, int attempts, LocalDateTime nextAttemptAt) {
+    }
+}
@@ -0,0 +1,7 @@
+package codezap.template.domain;
+
+public enum TemplateEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
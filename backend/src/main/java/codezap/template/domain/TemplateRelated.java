@@ -0,0 +1,60 @@
+package codezap.template.domain;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class TemplateRelated {
+
+    @Embeddable
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    @Getter
+    private static class TemplateRelatedId implements Serializable {
+        private Long templateId;
+        private Integer ranking;
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TemplateRelatedId that = (TemplateRelatedId) o;
+            return Objects.equals(getTemplateId(), that.getTemplateId())
+                    && Objects.equals(getRanking(), that.getRanking());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getTemplateId(), getRanking());
+        }
+    }
+
+    @EmbeddedId
+    private TemplateRelatedId id;
+
+    @Column(nullable = false)
+    private Long relatedTemplateId;
+
+    @Column(nullable = false)
+    private Double score;
+
+    @Column(nullable = false)
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,115 @@
+package codezap.template.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import codezap.tag.domain.Tag;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class TemplateSummary {
+
+    private static final int DESCRIPTION_EXCERPT_LENGTH = 255;
+
+    @Id
+    private Long templateId;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private String memberName;
+
+    @Column(nullable = false)
+    private Long categoryId;
+
+    @Column(nullable = false)
+    private String title;
+
+    private String descriptionExcerpt;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private List<TemplateSummaryTag> tags;
+
+    private String thumbnailFilename;
+
+    @Column(columnDefinition = "TEXT")
+    private String thumbnailContent;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime modifiedAt;
+
+    @Column(nullable = false)
+    private Long revision;
+
+    @Column(nullable = false)
+    private LocalDateTime syncedAt;
+
+    public TemplateSummary(Template template, List<Tag> tags, String thumbnailFilename, String thumbnailContent) {
+        this.templateId = template.getId();
+        this.revision = 0L;
+        update(template, tags, thumbnailFilename, thumbnailContent);
+    }
+
+    public void update(Template template, List<Tag> tags, String thumbnailFilename, String thumbnailContent) {
+        this.memberId = template.getMember().getId();
+        this.memberName = template.getMember().getName();
+        this.categoryId = template.getCategory().getId();
+        this.title = template.getTitle();
+        this.descriptionExcerpt = excerpt(template.getDescription());
+        this.tags = tags.stream()
+                .map(tag -> new TemplateSummaryTag(tag.getId(), tag.getName()))
+                .toList();
+        this.thumbnailFilename = thumbnailFilename;
+        this.thumbnailContent = thumbnailContent;
+        this.createdAt = template.getCreatedAt();
+        this.modifiedAt = template.getModifiedAt();
+        this.revision = revision + 1;
+        this.syncedAt = LocalDateTime.now();
+    }
+
+    public void touch() {
+        this.revision = revision + 1;
+        this.syncedAt = LocalDateTime.now();
+    }
+
+    private static String excerpt(String description) {
+        if (description == null || description.codePointCount(0, description.length()) <= DESCRIPTION_EXCERPT_LENGTH) {
+            return description;
+        }
+        return description.substring(0, description.offsetByCodePoints(0, DESCRIPTION_EXCERPT_LENGTH));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TemplateSummary that = (TemplateSummary) o;
+        return Objects.equals(getTemplateId(), that.getTemplateId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getTemplateId());
+    }
+}
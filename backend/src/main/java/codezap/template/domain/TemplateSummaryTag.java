@@ -0,0 +1,7 @@
+package codezap.template.domain;
+
+public record TemplateSummaryTag(
+        Long id,
+        String name
+) {
+}
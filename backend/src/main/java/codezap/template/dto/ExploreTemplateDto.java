@@ -0,0 +1,12 @@
+package codezap.template.dto;
+
+import java.time.LocalDateTime;
+
+public record ExploreTemplateDto(
+        Long templateId,
+        String title,
+        String filename,
+        String thumbnailContent,
+        LocalDateTime modifiedAt
+) {
+}
@@ -0,0 +1,8 @@
+package codezap.template.dto;
+
+public record RelatedTemplateDto(
+        Long templateId,
+        String title,
+        Double score
+) {
+}
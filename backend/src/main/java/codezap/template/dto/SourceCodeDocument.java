@@ -0,0 +1,23 @@
+package codezap.template.dto;
+
+import java.time.LocalDateTime;
+
+import codezap.template.domain.SourceCode;
+
+public record SourceCodeDocument(
+        Long id,
+        Long templateId,
+        String filename,
+        String content,
+        LocalDateTime modifiedAt
+) {
+    public static SourceCodeDocument from(SourceCode sourceCode) {
+        return new SourceCodeDocument(
+                sourceCode.getId(),
+                sourceCode.getTemplate().getId(),
+                sourceCode.getFilename(),
+                sourceCode.getContent(),
+                sourceCode.getModifiedAt()
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package codezap.template.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.http.HttpStatus;
+
+import codezap.global.exception.CodeZapException;
+import codezap.template.domain.Template;
+
+public record TemplateCursor(
+        LocalDateTime modifiedAt,
+        Long id
+) {
+    private static final String CURSOR_SEPARATOR = "_";
+    private static final int CURSOR_LENGTH = 2;
+
+    public static TemplateCursor from(Template template) {
+        return new TemplateCursor(template.getModifiedAt(), template.getId());
+    }
+
+    public static TemplateCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(CURSOR_SEPARATOR, CURSOR_LENGTH);
+            if (values.length != CURSOR_LENGTH) {
+                throw new IllegalArgumentException();
+            }
+            return new TemplateCursor(LocalDateTime.parse(values[0]), Long.parseLong(values[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CodeZapException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String value = modifiedAt + CURSOR_SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
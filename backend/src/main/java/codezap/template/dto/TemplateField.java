@@ -0,0 +1,45 @@
+package codezap.template.dto;
+
+import java.util.Arrays;
+
+import org.springframework.http.HttpStatus;
+
+import codezap.global.exception.CodeZapException;
+
+public enum TemplateField {
+    ID("id", "id"),
+    MEMBER("member", null),
+    TITLE("title", "title"),
+    DESCRIPTION("description", null),
+    TAGS("tags", null),
+    THUMBNAIL("thumbnail", null),
+    CREATED_AT("createdAt", "createdAt"),
+    MODIFIED_AT("modifiedAt", "modifiedAt");
+
+    private final String name;
+    private final String attribute;
+
+    TemplateField(String name, String attribute) {
+        this.name = name;
+        this.attribute = attribute;
+    }
+
+    public static TemplateField from(String name) {
+        return Arrays.stream(values())
+                .filter(field -> field.name.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new CodeZapException(HttpStatus.BAD_REQUEST, "지원하지 않는 필드 " + name + " 입니다."));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public boolean isTemplateAttribute() {
+        return attribute != null;
+    }
+}
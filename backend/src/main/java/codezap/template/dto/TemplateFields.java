@@ -0,0 +1,67 @@
+package codezap.template.dto;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import jakarta.persistence.Tuple;
+
+import codezap.template.domain.TemplateSummary;
+import codezap.template.dto.response.FindAllTemplateItemResponse;
+
+public record TemplateFields(
+        List<TemplateField> fields
+) {
+    private static final String FIELD_SEPARATOR = ",";
+
+    public static TemplateFields from(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return new TemplateFields(List.of(TemplateField.values()));
+        }
+        return new TemplateFields(Arrays.stream(fields.split(FIELD_SEPARATOR))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .map(TemplateField::from)
+                .distinct()
+                .toList());
+    }
+
+    public List<String> templateAttributes() {
+        return Stream.concat(Stream.of(TemplateField.ID), fields.stream())
+                .filter(TemplateField::isTemplateAttribute)
+                .map(TemplateField::getAttribute)
+                .distinct()
+                .toList();
+    }
+
+    public boolean requiresSummary() {
+        return fields.stream().anyMatch(field -> !field.isTemplateAttribute());
+    }
+
+    public Map<String, Object> toItem(Tuple row, TemplateSummary templateSummary) {
+        FindAllTemplateItemResponse summaryItem = templateSummary == null
+                ? null
+                : FindAllTemplateItemResponse.from(templateSummary);
+        Map<String, Object> item = new LinkedHashMap<>();
+        fields.forEach(field -> item.put(field.getName(), getValue(field, row, summaryItem)));
+        return item;
+    }
+
+    private Object getValue(TemplateField field, Tuple row, FindAllTemplateItemResponse summaryItem) {
+        if (field.isTemplateAttribute()) {
+            return row.get(field.getAttribute());
+        }
+        if (summaryItem == null) {
+            return null;
+        }
+        return switch (field) {
+            case MEMBER -> summaryItem.member();
+            case DESCRIPTION -> summaryItem.description();
+            case TAGS -> summaryItem.tags();
+            case THUMBNAIL -> summaryItem.thumbnail();
+            default -> throw new IllegalStateException("Unexpected template field: " + field);
+        };
+    }
+}
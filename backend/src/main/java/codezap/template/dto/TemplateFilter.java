@@ -0,0 +1,58 @@
+package codezap.template.dto;
+
+import java.util.List;
+
+import codezap.template.repository.KeywordSearchMode;
+import codezap.template.repository.TemplateSpecification;
+
+public record TemplateFilter(
+        Long memberId,
+        String keyword,
+        Long categoryId,
+        List<Long> tagIds,
+        TemplateSearchMode searchMode
+) {
+    public TemplateFilter(Long memberId, String keyword, Long categoryId, List<Long> tagIds) {
+        this(memberId, keyword, categoryId, tagIds, TemplateSearchMode.KEYWORD);
+    }
+
+    public static TemplateFilter of(Long memberId, String keyword, Long categoryId, List<Long> tagIds) {
+        return of(memberId, keyword, categoryId, tagIds, TemplateSearchMode.KEYWORD);
+    }
+
+    public static TemplateFilter of(
+            Long memberId, String keyword, Long categoryId, List<Long> tagIds, TemplateSearchMode searchMode
+    ) {
+        return new TemplateFilter(memberId, normalizeKeyword(keyword), categoryId, normalizeTagIds(tagIds), searchMode);
+    }
+
+    private static String normalizeKeyword(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        return keyword.trim();
+    }
+
+    private static List<Long> normalizeTagIds(List<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return null;
+        }
+        return tagIds.stream()
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    public TemplateFilter withoutKeyword() {
+        return new TemplateFilter(memberId, null, categoryId, tagIds);
+    }
+
+    public boolean isIdentifierSearch() {
+        return searchMode == TemplateSearchMode.IDENTIFIER && keyword != null;
+    }
+
+    public TemplateSpecification toSpecification(List<Long> sourceCodeIds) {
+        return new TemplateSpecification(
+                memberId, keyword, categoryId, tagIds, KeywordSearchMode.FULLTEXT, sourceCodeIds);
+    }
+}
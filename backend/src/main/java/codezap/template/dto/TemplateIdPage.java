@@ -0,0 +1,10 @@
+package codezap.template.dto;
+
+import java.util.List;
+
+public record TemplateIdPage(
+        List<Long> templateIds,
+        boolean hasNext,
+        String searchPlan
+) {
+}
@@ -0,0 +1,90 @@
+package codezap.template.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+
+import codezap.global.exception.CodeZapException;
+
+public record TemplateListRequest(
+        Long memberId,
+        String keyword,
+        Long categoryId,
+        List<Long> tagIds,
+        TemplateSearchMode searchMode,
+        TemplateListType listType,
+        String fields,
+        String cursor,
+        int size,
+        Pageable pageable
+) {
+    private static final String RELEVANCE_SORT = "relevance";
+
+    public static TemplateListRequest of(
+            Long memberId,
+            String keyword,
+            Long categoryId,
+            List<Long> tagIds,
+            String mode,
+            String fields,
+            Boolean count,
+            String cursor,
+            int size,
+            Pageable pageable
+    ) {
+        TemplateSearchMode searchMode = TemplateSearchMode.from(mode);
+        boolean withoutCount = Boolean.FALSE.equals(count);
+        boolean relevance = pageable.getSort().getOrderFor(RELEVANCE_SORT) != null;
+        TemplateListType listType = decideListType(fields, withoutCount, relevance, cursor);
+        validateCombination(listType, searchMode, fields, withoutCount, pageable);
+        return new TemplateListRequest(
+                memberId, keyword, categoryId, tagIds, searchMode, listType, fields, cursor, size, pageable);
+    }
+
+    private static TemplateListType decideListType(
+            String fields, boolean withoutCount, boolean relevance, String cursor
+    ) {
+        if (cursor != null) {
+            return TemplateListType.CURSOR;
+        }
+        if (relevance) {
+            return TemplateListType.RELEVANCE;
+        }
+        if (fields != null) {
+            return TemplateListType.FIELDS;
+        }
+        if (withoutCount) {
+            return TemplateListType.SLICE;
+        }
+        return TemplateListType.PAGE;
+    }
+
+    private static void validateCombination(
+            TemplateListType listType,
+            TemplateSearchMode searchMode,
+            String fields,
+            boolean withoutCount,
+            Pageable pageable
+    ) {
+        if (listType == TemplateListType.CURSOR) {
+            rejectIf(fields != null, "cursor", "fields");
+            rejectIf(pageable.getSort().isSorted(), "cursor", "sort");
+        }
+        if (listType == TemplateListType.RELEVANCE) {
+            rejectIf(searchMode == TemplateSearchMode.IDENTIFIER, "sort=relevance", "mode=identifier");
+            rejectIf(fields != null, "sort=relevance", "fields");
+            rejectIf(withoutCount, "sort=relevance", "count=false");
+        }
+        if (listType == TemplateListType.FIELDS) {
+            rejectIf(withoutCount, "fields", "count=false");
+        }
+    }
+
+    private static void rejectIf(boolean conflicted, String parameter, String otherParameter) {
+        if (conflicted) {
+            throw new CodeZapException(
+                    HttpStatus.BAD_REQUEST, parameter + "와 " + otherParameter + "는 함께 사용할 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package codezap.template.dto;
+
+public enum TemplateListType {
+    PAGE,
+    FIELDS,
+    SLICE,
+    RELEVANCE,
+    CURSOR
+}
@@ -0,0 +1,10 @@
+package codezap.template.dto;
+
+public record TemplateListVersion(
+        String epoch,
+        long generation
+) {
+    public String eTag() {
+        return "\"" + epoch + "-" + generation + "\"";
+    }
+}
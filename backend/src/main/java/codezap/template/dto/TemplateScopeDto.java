@@ -0,0 +1,13 @@
+package codezap.template.dto;
+
+import codezap.template.domain.Template;
+
+public record TemplateScopeDto(
+        Long templateId,
+        Long memberId,
+        Long categoryId
+) {
+    public static TemplateScopeDto from(Template template) {
+        return new TemplateScopeDto(template.getId(), template.getMember().getId(), template.getCategory().getId());
+    }
+}
@@ -0,0 +1,22 @@
+package codezap.template.dto;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+public record TemplateSearchKey(
+        TemplateFilter templateFilter,
+        Sort sort,
+        int page,
+        int size,
+        long generation
+) {
+    public static TemplateSearchKey of(TemplateFilter templateFilter, Pageable pageable, long generation) {
+        return new TemplateSearchKey(
+                templateFilter, pageable.getSort(), pageable.getPageNumber(), pageable.getPageSize(), generation);
+    }
+
+    public Pageable toPageable() {
+        return PageRequest.of(page, size, sort);
+    }
+}
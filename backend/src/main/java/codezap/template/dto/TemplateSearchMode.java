@@ -0,0 +1,32 @@
+package codezap.template.dto;
+
+import java.util.Arrays;
+
+import org.springframework.http.HttpStatus;
+
+import codezap.global.exception.CodeZapException;
+
+public enum TemplateSearchMode {
+    KEYWORD("keyword"),
+    IDENTIFIER("identifier");
+
+    private final String name;
+
+    TemplateSearchMode(String name) {
+        this.name = name;
+    }
+
+    public static TemplateSearchMode from(String name) {
+        if (name == null || name.isBlank()) {
+            return KEYWORD;
+        }
+        return Arrays.stream(values())
+                .filter(mode -> mode.name.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new CodeZapException(HttpStatus.BAD_REQUEST, "지원하지 않는 검색 방식 " + name + " 입니다."));
+    }
+
+    public String getName() {
+        return name;
+    }
+}
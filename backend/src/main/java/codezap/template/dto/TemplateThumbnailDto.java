@@ -0,0 +1,8 @@
+package codezap.template.dto;
+
+public record TemplateThumbnailDto(
+        Long templateId,
+        String filename,
+        String thumbnailContent
+) {
+}
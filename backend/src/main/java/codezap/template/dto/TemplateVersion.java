@@ -0,0 +1,18 @@
+package codezap.template.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+public record TemplateVersion(
+        Long templateId,
+        Long revision,
+        LocalDateTime syncedAt
+) {
+    public String eTag() {
+        return "\"" + templateId + "-" + revision + "\"";
+    }
+
+    public long lastModified() {
+        return syncedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
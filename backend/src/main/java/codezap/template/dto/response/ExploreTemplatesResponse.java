@@ -3,18 +3,20 @@ package codezap.template.dto.response;
 import java.time.LocalDateTime;
 import java.util.List;
 
-import codezap.template.domain.Thumbnail;
+import codezap.template.dto.ExploreTemplateDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 public record ExploreTemplatesResponse(
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext,
         @Schema(description = "템플릿 목록")
         List<ItemResponse> templates
 ) {
-    public static ExploreTemplatesResponse from(List<Thumbnail> thumbnails) {
-        List<ItemResponse> templatesBySummaryResponse = thumbnails.stream()
+    public static ExploreTemplatesResponse of(List<ExploreTemplateDto> exploreTemplates, boolean hasNext) {
+        List<ItemResponse> templatesBySummaryResponse = exploreTemplates.stream()
                 .map(ItemResponse::from)
                 .toList();
-        return new ExploreTemplatesResponse(templatesBySummaryResponse);
+        return new ExploreTemplatesResponse(hasNext, templatesBySummaryResponse);
     }
 
     public record ItemResponse(
@@ -27,12 +29,12 @@ public record ExploreTemplatesResponse(
             @Schema(description = "템플릿 수정 시간", example = "2024-11-11 12:00", type = "string")
             LocalDateTime modifiedAt
     ) {
-        public static ItemResponse from(Thumbnail thumbnail) {
+        public static ItemResponse from(ExploreTemplateDto exploreTemplate) {
             return new ItemResponse(
-                    thumbnail.getTemplate().getId(),
-                    thumbnail.getTemplate().getTitle(),
-                    FindThumbnailResponse.from(thumbnail.getSourceCode()),
-                    thumbnail.getModifiedAt()
+                    exploreTemplate.templateId(),
+                    exploreTemplate.title(),
+                    new FindThumbnailResponse(exploreTemplate.filename(), exploreTemplate.thumbnailContent()),
+                    exploreTemplate.modifiedAt()
             );
         }
     }
@@ -0,0 +1,11 @@
+package codezap.template.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record FindAllRelatedTemplatesResponse(
+        @Schema(description = "연관 템플릿 목록")
+        List<FindRelatedTemplateResponse> templates
+) {
+}
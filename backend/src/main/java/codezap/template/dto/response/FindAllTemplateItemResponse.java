@@ -3,11 +3,8 @@ package codezap.template.dto.response;
 import java.time.LocalDateTime;
 import java.util.List;
 
-import codezap.member.domain.Member;
-import codezap.tag.domain.Tag;
 import codezap.tag.dto.response.FindTagResponse;
-import codezap.template.domain.SourceCode;
-import codezap.template.domain.Template;
+import codezap.template.domain.TemplateSummary;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 public record FindAllTemplateItemResponse(
@@ -28,33 +25,18 @@ public record FindAllTemplateItemResponse(
         @Schema(description = "템플릿 수정 시간", example = "2024-11-11 12:00:00", type = "string")
         LocalDateTime modifiedAt
 ) {
-    public static FindAllTemplateItemResponse of(
-            Template template, List<Tag> templateTags, SourceCode thumbnailSourceCode
-    ) {
+    public static FindAllTemplateItemResponse from(TemplateSummary templateSummary) {
         return new FindAllTemplateItemResponse(
-                template.getId(),
-                null,
-                template.getTitle(),
-                template.getDescription(),
-                templateTags.stream()
-                        .map(tag -> new FindTagResponse(tag.getId(), tag.getName()))
+                templateSummary.getTemplateId(),
+                new FindMemberResponse(templateSummary.getMemberId(), templateSummary.getMemberName()),
+                templateSummary.getTitle(),
+                templateSummary.getDescriptionExcerpt(),
+                templateSummary.getTags().stream()
+                        .map(tag -> new FindTagResponse(tag.id(), tag.name()))
                         .toList(),
-                FindThumbnailResponse.from(thumbnailSourceCode),
-                template.getCreatedAt(),
-                template.getModifiedAt()
-        );
-    }
-
-    public FindAllTemplateItemResponse updateMember(Member member) {
-        return new FindAllTemplateItemResponse(
-                id,
-                new FindMemberResponse(member.getId(), member.getName()),
-                title,
-                description,
-                tags,
-                thumbnail,
-                createdAt,
-                modifiedAt
+                new FindThumbnailResponse(templateSummary.getThumbnailFilename(), templateSummary.getThumbnailContent()),
+                templateSummary.getCreatedAt(),
+                templateSummary.getModifiedAt()
         );
     }
 }
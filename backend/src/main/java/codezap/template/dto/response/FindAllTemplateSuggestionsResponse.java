@@ -0,0 +1,11 @@
+package codezap.template.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record FindAllTemplateSuggestionsResponse(
+        @Schema(description = "템플릿명 추천 목록")
+        List<FindTemplateSuggestionResponse> templates
+) {
+}
@@ -0,0 +1,13 @@
+package codezap.template.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record FindAllTemplatesCursorResponse(
+        @Schema(description = "다음 목록 조회에 사용할 커서, 마지막 목록이면 null", example = "MjAyNC0xMS0xMVQxMjowMF8xMzQ")
+        String nextCursor,
+        @Schema(description = "템플릿 목록")
+        List<FindAllTemplateItemResponse> templates
+) {
+}
@@ -0,0 +1,16 @@
+package codezap.template.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record FindAllTemplatesFieldsResponse(
+        @Schema(description = "전체 페이지 개수", example = "1")
+        int totalPages,
+        @Schema(description = "총 템플릿 개수", example = "134")
+        long totalElements,
+        @Schema(description = "요청한 필드만 담긴 템플릿 목록", example = "[{\"id\": 1, \"title\": \"스프링 로그인 구현\"}]")
+        List<Map<String, Object>> templates
+) {
+}
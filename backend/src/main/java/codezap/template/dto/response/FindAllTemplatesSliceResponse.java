@@ -0,0 +1,13 @@
+package codezap.template.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record FindAllTemplatesSliceResponse(
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext,
+        @Schema(description = "템플릿 목록")
+        List<FindAllTemplateItemResponse> templates
+) {
+}
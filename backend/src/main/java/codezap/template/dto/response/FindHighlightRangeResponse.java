@@ -0,0 +1,11 @@
+package codezap.template.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record FindHighlightRangeResponse(
+        @Schema(description = "강조 시작 위치 (포함)", example = "1")
+        int start,
+        @Schema(description = "강조 끝 위치 (미포함)", example = "14")
+        int end
+) {
+}
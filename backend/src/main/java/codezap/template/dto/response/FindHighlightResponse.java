@@ -0,0 +1,28 @@
+package codezap.template.dto.response;
+
+import java.util.List;
+
+import codezap.search.domain.Highlight;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record FindHighlightResponse(
+        @Schema(description = "일치한 필드", example = "content")
+        String field,
+        @Schema(description = "일치한 소스 코드 파일명", example = "Main.java", nullable = true)
+        String filename,
+        @Schema(description = "발췌문", example = "@Transactional\npublic void save()")
+        String snippet,
+        @Schema(description = "발췌문에서 강조할 구간 목록")
+        List<FindHighlightRangeResponse> ranges
+) {
+    public static FindHighlightResponse from(Highlight highlight) {
+        return new FindHighlightResponse(
+                highlight.field().getName(),
+                highlight.filename(),
+                highlight.snippet(),
+                highlight.ranges().stream()
+                        .map(range -> new FindHighlightRangeResponse(range.start(), range.end()))
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package codezap.template.dto.response;
+
+import codezap.template.dto.RelatedTemplateDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record FindRelatedTemplateResponse(
+        @Schema(description = "템플릿 식별자", example = "1")
+        Long id,
+        @Schema(description = "템플릿명", example = "스프링 트랜잭션 설정")
+        String title,
+        @Schema(description = "태그 유사도 (0 ~ 1)", example = "0.42")
+        double score
+) {
+    public static FindRelatedTemplateResponse from(RelatedTemplateDto relatedTemplate) {
+        return new FindRelatedTemplateResponse(
+                relatedTemplate.templateId(), relatedTemplate.title(), relatedTemplate.score());
+    }
+}
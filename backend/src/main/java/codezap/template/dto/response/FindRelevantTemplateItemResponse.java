@@ -0,0 +1,29 @@
+package codezap.template.dto.response;
+
+import java.util.List;
+
+import codezap.search.domain.RelevanceHit;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record FindRelevantTemplateItemResponse(
+        @Schema(description = "템플릿")
+        FindAllTemplateItemResponse template,
+        @Schema(description = "관련도 점수", example = "3.14")
+        double score,
+        @Schema(description = "검색 키워드가 강조된 발췌 목록")
+        List<FindHighlightResponse> highlights
+) {
+    public static FindRelevantTemplateItemResponse of(FindAllTemplateItemResponse template, RelevanceHit relevanceHit) {
+        return new FindRelevantTemplateItemResponse(
+                template,
+                relevanceHit.score(),
+                relevanceHit.highlights().stream()
+                        .map(FindHighlightResponse::from)
+                        .toList()
+        );
+    }
+
+    public static FindRelevantTemplateItemResponse withoutScore(FindAllTemplateItemResponse template) {
+        return new FindRelevantTemplateItemResponse(template, 0, List.of());
+    }
+}
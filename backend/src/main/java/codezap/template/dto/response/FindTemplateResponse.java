@@ -4,7 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import codezap.category.dto.response.FindCategoryResponse;
-import codezap.member.domain.Member;
+import codezap.member.dto.MemberProfileDto;
 import codezap.tag.domain.Tag;
 import codezap.tag.dto.response.FindTagResponse;
 import codezap.template.domain.SourceCode;
@@ -42,7 +42,7 @@ public record FindTemplateResponse(
     public static FindTemplateResponse of(Template template, List<SourceCode> sourceCodes, List<Tag> tags) {
         return new FindTemplateResponse(
                 template.getId(),
-                null,
+                new FindMemberResponse(template.getMember().getId(), null),
                 template.getTitle(),
                 template.getDescription(),
                 mapToFindAllSourceCodeByTemplateResponse(sourceCodes),
@@ -53,10 +53,10 @@ public record FindTemplateResponse(
         );
     }
 
-    public FindTemplateResponse updateMember(Member member) {
+    public FindTemplateResponse updateMember(MemberProfileDto memberProfile) {
         return new FindTemplateResponse(
                 id,
-                new FindMemberResponse(member.getId(), member.getName()),
+                new FindMemberResponse(memberProfile.id(), memberProfile.name()),
                 title,
                 description,
                 sourceCodes,
@@ -0,0 +1,15 @@
+package codezap.template.dto.response;
+
+import codezap.search.domain.Suggestion;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record FindTemplateSuggestionResponse(
+        @Schema(description = "템플릿 식별자", example = "1")
+        Long id,
+        @Schema(description = "템플릿명", example = "스프링 트랜잭션 설정")
+        String title
+) {
+    public static FindTemplateSuggestionResponse from(Suggestion suggestion) {
+        return new FindTemplateSuggestionResponse(suggestion.id(), suggestion.value());
+    }
+}
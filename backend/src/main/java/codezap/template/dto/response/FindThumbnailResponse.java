@@ -1,6 +1,7 @@
 package codezap.template.dto.response;
 
 import codezap.template.domain.SourceCode;
+import codezap.template.dto.TemplateThumbnailDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 public record FindThumbnailResponse(
@@ -16,4 +17,11 @@ public record FindThumbnailResponse(
                 sourceCode.getThumbnailContent()
         );
     }
+
+    public static FindThumbnailResponse from(TemplateThumbnailDto templateThumbnailDto) {
+        return new FindThumbnailResponse(
+                templateThumbnailDto.filename(),
+                templateThumbnailDto.thumbnailContent()
+        );
+    }
 }
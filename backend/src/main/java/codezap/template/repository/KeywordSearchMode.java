@@ -0,0 +1,6 @@
+package codezap.template.repository;
+
+public enum KeywordSearchMode {
+    LIKE,
+    FULLTEXT
+}
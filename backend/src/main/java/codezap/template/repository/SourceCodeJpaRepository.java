@@ -3,12 +3,15 @@ package codezap.template.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.http.HttpStatus;
 
 import codezap.global.exception.CodeZapException;
 import codezap.template.domain.SourceCode;
 import codezap.template.domain.Template;
+import codezap.template.dto.SourceCodeDocument;
 
 @SuppressWarnings("unused")
 public interface SourceCodeJpaRepository extends SourceCodeRepository, JpaRepository<SourceCode, Long> {
@@ -31,5 +34,21 @@ public interface SourceCodeJpaRepository extends SourceCodeRepository, JpaReposi
 
     int countByTemplate(Template template);
 
+    @Query("""
+            SELECT new codezap.template.dto.SourceCodeDocument(sc.id, sc.template.id, sc.filename, sc.content, sc.modifiedAt)
+            FROM SourceCode sc
+            WHERE sc.id > :lastId
+            ORDER BY sc.id
+            """)
+    List<SourceCodeDocument> findAllDocumentsAfter(Long lastId, Pageable pageable);
+
+    @Query("""
+            SELECT new codezap.template.dto.SourceCodeDocument(sc.id, sc.template.id, sc.filename, sc.content, sc.modifiedAt)
+            FROM SourceCode sc
+            WHERE sc.template.id IN :templateIds
+            ORDER BY sc.template.id, sc.ordinal
+            """)
+    List<SourceCodeDocument> findAllDocumentsByTemplateIdIn(List<Long> templateIds);
+
     void deleteByTemplateId(Long id);
 }
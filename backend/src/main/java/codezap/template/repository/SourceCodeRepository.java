@@ -3,8 +3,11 @@ package codezap.template.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+
 import codezap.template.domain.SourceCode;
 import codezap.template.domain.Template;
+import codezap.template.dto.SourceCodeDocument;
 
 public interface SourceCodeRepository {
     SourceCode fetchById(Long id);
@@ -19,6 +22,10 @@ public interface SourceCodeRepository {
 
     List<SourceCode> findAll();
 
+    List<SourceCodeDocument> findAllDocumentsAfter(Long lastId, Pageable pageable);
+
+    List<SourceCodeDocument> findAllDocumentsByTemplateIdIn(List<Long> templateIds);
+
     int countByTemplate(Template template);
 
     SourceCode save(SourceCode sourceCode);
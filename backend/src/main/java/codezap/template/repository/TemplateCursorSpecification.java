@@ -0,0 +1,37 @@
+package codezap.template.repository;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import codezap.template.domain.Template;
+import codezap.template.dto.TemplateCursor;
+
+public class TemplateCursorSpecification implements Specification<Template> {
+    private final TemplateCursor cursor;
+
+    public TemplateCursorSpecification(TemplateCursor cursor) {
+        this.cursor = cursor;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<Template> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        if (cursor == null) {
+            return criteriaBuilder.conjunction();
+        }
+        Path<LocalDateTime> modifiedAt = root.get("modifiedAt");
+        return criteriaBuilder.or(
+                criteriaBuilder.lessThan(modifiedAt, cursor.modifiedAt()),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(modifiedAt, cursor.modifiedAt()),
+                        criteriaBuilder.lessThan(root.<Long>get("id"), cursor.id())
+                )
+        );
+    }
+}
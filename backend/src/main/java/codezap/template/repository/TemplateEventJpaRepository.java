@@ -0,0 +1,38 @@
+package codezap.template.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import codezap.template.domain.TemplateEvent;
+
+@SuppressWarnings("unused")
+public interface TemplateEventJpaRepository extends TemplateEventRepository, JpaRepository<TemplateEvent, Long> {
+
+    @Query("""
+            SELECT te
+            FROM TemplateEvent te
+            WHERE te.id > :lastEventId
+            ORDER BY te.id
+            """)
+    List<TemplateEvent> findAllAfter(Long lastEventId, Pageable pageable);
+
+    @Query("""
+            SELECT MAX(te.id)
+            FROM TemplateEvent te
+            """)
+    Optional<Long> findLastId();
+
+    @Modifying
+    @Query("""
+            DELETE FROM TemplateEvent te
+            WHERE te.id <= :eventId
+            AND te.createdAt < :createdBefore
+            """)
+    int deleteAllUpTo(Long eventId, LocalDateTime createdBefore);
+}
@@ -0,0 +1,29 @@
+package codezap.template.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import codezap.template.domain.TemplateEventOffset;
+
+@SuppressWarnings("unused")
+public interface TemplateEventOffsetJpaRepository extends TemplateEventOffsetRepository,
+        JpaRepository<TemplateEventOffset, String> {
+
+    @Query("""
+            SELECT MIN(teo.lastEventId)
+            FROM TemplateEventOffset teo
+            WHERE teo.heartbeatAt > :heartbeatAt
+            """)
+    Optional<Long> findMinLastEventIdByHeartbeatAtAfter(LocalDateTime heartbeatAt);
+
+    @Modifying
+    @Query("""
+            DELETE FROM TemplateEventOffset teo
+            WHERE teo.heartbeatAt < :heartbeatAt
+            """)
+    int deleteAllByHeartbeatAtBefore(LocalDateTime heartbeatAt);
+}
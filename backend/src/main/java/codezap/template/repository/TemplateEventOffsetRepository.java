@@ -0,0 +1,17 @@
+package codezap.template.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import codezap.template.domain.TemplateEventOffset;
+
+public interface TemplateEventOffsetRepository {
+
+    Optional<Long> findMinLastEventIdByHeartbeatAtAfter(LocalDateTime heartbeatAt);
+
+    TemplateEventOffset save(TemplateEventOffset templateEventOffset);
+
+    void deleteById(String consumerId);
+
+    int deleteAllByHeartbeatAtBefore(LocalDateTime heartbeatAt);
+}
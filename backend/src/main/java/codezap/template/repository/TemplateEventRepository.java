@@ -0,0 +1,24 @@
+package codezap.template.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+
+import codezap.template.domain.TemplateEvent;
+
+public interface TemplateEventRepository {
+
+    List<TemplateEvent> findAllAfter(Long lastEventId, Pageable pageable);
+
+    List<TemplateEvent> findAllById(Iterable<Long> ids);
+
+    long countByIdGreaterThan(Long lastEventId);
+
+    Optional<Long> findLastId();
+
+    <S extends TemplateEvent> List<S> saveAll(Iterable<S> entities);
+
+    int deleteAllUpTo(Long eventId, LocalDateTime createdBefore);
+}
@@ -0,0 +1,28 @@
+package codezap.template.repository;
+
+import java.util.List;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import codezap.template.domain.Template;
+
+public class TemplateIdSpecification implements Specification<Template> {
+    private final List<Long> templateIds;
+
+    public TemplateIdSpecification(List<Long> templateIds) {
+        this.templateIds = templateIds;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<Template> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        if (templateIds.isEmpty()) {
+            return criteriaBuilder.disjunction();
+        }
+        return root.get("id").in(templateIds);
+    }
+}
@@ -1,29 +1,72 @@
 package codezap.template.repository;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.http.HttpStatus;
 
 import codezap.global.exception.CodeZapException;
 import codezap.template.domain.Template;
+import codezap.template.dto.TemplateScopeDto;
 
 @SuppressWarnings("unused")
 public interface TemplateJpaRepository extends TemplateRepository, JpaRepository<Template, Long>,
-        JpaSpecificationExecutor<Template> {
+        JpaSpecificationExecutor<Template>, TemplateQueryRepository {
 
     default Template fetchById(Long id) {
         return findById(id).orElseThrow(
                 () -> new CodeZapException(HttpStatus.NOT_FOUND, "식별자 " + id + "에 해당하는 템플릿이 존재하지 않습니다."));
     }
 
+    default Template fetchWithDetailsById(Long id) {
+        return findWithDetailsById(id).orElseThrow(
+                () -> new CodeZapException(HttpStatus.NOT_FOUND, "식별자 " + id + "에 해당하는 템플릿이 존재하지 않습니다."));
+    }
+
+    @Query("""
+            SELECT t
+            FROM Template t
+            JOIN FETCH t.category
+            LEFT JOIN FETCH t.sourceCodes
+            WHERE t.id = :id
+            """)
+    Optional<Template> findWithDetailsById(Long id);
+
     List<Template> findByMemberId(Long id);
 
     Page<Template> findAll(Specification<Template> specification, Pageable pageable);
 
+    @Query("""
+            SELECT t
+            FROM Template t
+            JOIN FETCH t.member
+            WHERE t.id > :lastTemplateId
+            ORDER BY t.id
+            """)
+    List<Template> findAllWithMemberAfter(Long lastTemplateId, Pageable pageable);
+
+    @Query("""
+            SELECT t
+            FROM Template t
+            JOIN FETCH t.member
+            WHERE t.id IN :templateIds
+            ORDER BY t.id
+            """)
+    List<Template> findAllWithMemberByIdIn(List<Long> templateIds);
+
+    @Query("""
+            SELECT new codezap.template.dto.TemplateScopeDto(t.id, t.member.id, t.category.id)
+            FROM Template t
+            WHERE t.id > :lastTemplateId
+            ORDER BY t.id
+            """)
+    List<TemplateScopeDto> findAllScopesAfter(Long lastTemplateId, Pageable pageable);
+
     boolean existsByCategoryId(Long categoryId);
 }
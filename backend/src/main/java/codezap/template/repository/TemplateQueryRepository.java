@@ -0,0 +1,21 @@
+package codezap.template.repository;
+
+import java.util.List;
+
+import jakarta.persistence.Tuple;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import codezap.template.domain.Template;
+
+public interface TemplateQueryRepository {
+
+    List<Template> findAll(Specification<Template> specification, Sort sort, int limit);
+
+    Slice<Template> findAllAsSlice(Specification<Template> specification, Pageable pageable);
+
+    Slice<Tuple> findAllAsSlice(Specification<Template> specification, Pageable pageable, List<String> attributes);
+}
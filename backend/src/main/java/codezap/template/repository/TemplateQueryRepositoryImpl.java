@@ -0,0 +1,75 @@
+package codezap.template.repository;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import codezap.template.domain.Template;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class TemplateQueryRepositoryImpl implements TemplateQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Template> findAll(Specification<Template> specification, Sort sort, int limit) {
+        return createQuery(specification, sort)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Slice<Template> findAllAsSlice(Specification<Template> specification, Pageable pageable) {
+        return toSlice(createQuery(specification, pageable.getSort()), pageable);
+    }
+
+    @Override
+    public Slice<Tuple> findAllAsSlice(
+            Specification<Template> specification, Pageable pageable, List<String> attributes
+    ) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Template> root = query.from(Template.class);
+        List<Selection<?>> selections = attributes.stream()
+                .<Selection<?>>map(attribute -> root.get(attribute).alias(attribute))
+                .toList();
+        query.multiselect(selections)
+                .where(specification.toPredicate(root, query, criteriaBuilder))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        return toSlice(entityManager.createQuery(query), pageable);
+    }
+
+    private <T> Slice<T> toSlice(TypedQuery<T> query, Pageable pageable) {
+        List<T> rows = query.setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        if (rows.size() <= pageable.getPageSize()) {
+            return new SliceImpl<>(rows, pageable, false);
+        }
+        return new SliceImpl<>(rows.subList(0, pageable.getPageSize()), pageable, true);
+    }
+
+    private TypedQuery<Template> createQuery(Specification<Template> specification, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Template> query = criteriaBuilder.createQuery(Template.class);
+        Root<Template> root = query.from(Template.class);
+        query.select(root)
+                .where(specification.toPredicate(root, query, criteriaBuilder))
+                .orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        return entityManager.createQuery(query);
+    }
+}
@@ -0,0 +1,23 @@
+package codezap.template.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import codezap.template.domain.TemplateRelated;
+import codezap.template.dto.RelatedTemplateDto;
+
+@SuppressWarnings("unused")
+public interface TemplateRelatedJpaRepository extends TemplateRelatedRepository, JpaRepository<TemplateRelated, Long>,
+        TemplateRelatedQueryRepository {
+
+    @Query("""
+            SELECT new codezap.template.dto.RelatedTemplateDto(t.id, t.title, tr.score)
+            FROM TemplateRelated tr
+            JOIN Template t ON t.id = tr.relatedTemplateId
+            WHERE tr.id.templateId = :templateId
+            ORDER BY tr.id.ranking
+            """)
+    List<RelatedTemplateDto> findAllByTemplateId(Long templateId);
+}
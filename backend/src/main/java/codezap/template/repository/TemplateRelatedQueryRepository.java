@@ -0,0 +1,13 @@
+package codezap.template.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import codezap.template.domain.RelatedTemplate;
+
+public interface TemplateRelatedQueryRepository {
+
+    void replaceAll(List<Long> templateIds, List<RelatedTemplate> relatedTemplates, LocalDateTime computedAt);
+
+    int deleteAllComputedBefore(LocalDateTime computedAt);
+}
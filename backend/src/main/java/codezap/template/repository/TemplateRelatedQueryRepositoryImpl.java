@@ -0,0 +1,54 @@
+package codezap.template.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import codezap.template.domain.RelatedTemplate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class TemplateRelatedQueryRepositoryImpl implements TemplateRelatedQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void replaceAll(List<Long> templateIds, List<RelatedTemplate> relatedTemplates, LocalDateTime computedAt) {
+        if (templateIds.isEmpty()) {
+            return;
+        }
+        entityManager.createNativeQuery("DELETE FROM template_related WHERE template_id IN (:templateIds)")
+                .setParameter("templateIds", templateIds)
+                .executeUpdate();
+        if (relatedTemplates.isEmpty()) {
+            return;
+        }
+        Query query = entityManager.createNativeQuery("""
+                INSERT INTO template_related (template_id, ranking, related_template_id, score, computed_at)
+                VALUES %s
+                """.formatted(String.join(", ", Collections.nCopies(relatedTemplates.size(), "(?, ?, ?, ?, ?)"))));
+        int position = 1;
+        for (RelatedTemplate relatedTemplate : relatedTemplates) {
+            query.setParameter(position++, relatedTemplate.templateId());
+            query.setParameter(position++, relatedTemplate.ranking());
+            query.setParameter(position++, relatedTemplate.relatedTemplateId());
+            query.setParameter(position++, relatedTemplate.score());
+            query.setParameter(position++, computedAt);
+        }
+        query.executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllComputedBefore(LocalDateTime computedAt) {
+        return entityManager.createNativeQuery("DELETE FROM template_related WHERE computed_at < :computedAt")
+                .setParameter("computedAt", computedAt)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,16 @@
+package codezap.template.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import codezap.template.domain.RelatedTemplate;
+import codezap.template.dto.RelatedTemplateDto;
+
+public interface TemplateRelatedRepository {
+
+    List<RelatedTemplateDto> findAllByTemplateId(Long templateId);
+
+    void replaceAll(List<Long> templateIds, List<RelatedTemplate> relatedTemplates, LocalDateTime computedAt);
+
+    int deleteAllComputedBefore(LocalDateTime computedAt);
+}
@@ -2,25 +2,48 @@ package codezap.template.repository;
 
 import java.util.List;
 
+import jakarta.persistence.Tuple;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import codezap.template.domain.Template;
+import codezap.template.dto.TemplateScopeDto;
 
 public interface TemplateRepository {
 
     Template fetchById(Long id);
 
+    Template fetchWithDetailsById(Long id);
+
     List<Template> findAll();
 
     List<Template> findByMemberId(Long id);
 
     Page<Template> findAll(Specification<Template> specification, Pageable pageable);
 
+    List<Template> findAll(Specification<Template> specification, Sort sort, int limit);
+
+    Slice<Template> findAllAsSlice(Specification<Template> specification, Pageable pageable);
+
+    Slice<Tuple> findAllAsSlice(Specification<Template> specification, Pageable pageable, List<String> attributes);
+
+    long count(Specification<Template> specification);
+
+    List<Template> findAllWithMemberAfter(Long lastTemplateId, Pageable pageable);
+
+    List<Template> findAllWithMemberByIdIn(List<Long> templateIds);
+
+    List<TemplateScopeDto> findAllScopesAfter(Long lastTemplateId, Pageable pageable);
+
     boolean existsByCategoryId(Long categoryId);
 
     Template save(Template template);
 
+    void flush();
+
     void deleteById(Long id);
 }
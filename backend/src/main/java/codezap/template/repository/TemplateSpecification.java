@@ -1,31 +1,57 @@
 package codezap.template.repository;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
 
 import org.springframework.data.jpa.domain.Specification;
 
+import codezap.global.hibernate.MatchAgainstFunctionContributor;
 import codezap.template.domain.SourceCode;
 import codezap.template.domain.Template;
 import codezap.template.domain.TemplateTag;
 
 public class TemplateSpecification implements Specification<Template> {
+    private static final int MIN_FULLTEXT_TOKEN_LENGTH = 2;
+
     private final Long memberId;
     private final String keyword;
     private final Long categoryId;
     private final List<Long> tagIds;
+    private final KeywordSearchMode keywordSearchMode;
+    private final List<Long> sourceCodeIds;
 
     public TemplateSpecification(Long memberId, String keyword, Long categoryId, List<Long> tagIds) {
+        this(memberId, keyword, categoryId, tagIds, KeywordSearchMode.LIKE);
+    }
+
+    public TemplateSpecification(
+            Long memberId, String keyword, Long categoryId, List<Long> tagIds, KeywordSearchMode keywordSearchMode
+    ) {
+        this(memberId, keyword, categoryId, tagIds, keywordSearchMode, null);
+    }
+
+    public TemplateSpecification(
+            Long memberId,
+            String keyword,
+            Long categoryId,
+            List<Long> tagIds,
+            KeywordSearchMode keywordSearchMode,
+            List<Long> sourceCodeIds
+    ) {
         this.memberId = memberId;
         this.keyword = keyword;
         this.categoryId = categoryId;
         this.tagIds = tagIds;
+        this.keywordSearchMode = keywordSearchMode;
+        this.sourceCodeIds = sourceCodeIds;
     }
 
     @Override
@@ -49,20 +75,84 @@ public class TemplateSpecification implements Specification<Template> {
     private void addKeywordPredicate(List<Predicate> predicates, CriteriaBuilder criteriaBuilder, Root<Template> root,
             CriteriaQuery<?> query
     ) {
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            String likeKeyword = "%" + keyword.trim() + "%";
-            Predicate titlePredicate = criteriaBuilder.like(root.get("title"), likeKeyword);
-            Predicate descriptionPredicate = criteriaBuilder.like(root.get("description"), likeKeyword);
-
-            Subquery<Long> sourceCodeSubquery = query.subquery(Long.class);
-            Root<SourceCode> sourceCodeRoot = sourceCodeSubquery.from(SourceCode.class);
-            sourceCodeSubquery.select(sourceCodeRoot.get("template").get("id"));
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return;
+        }
+        String trimmedKeyword = keyword.trim();
+        boolean fullText = keywordSearchMode == KeywordSearchMode.FULLTEXT && canSearchFullText(trimmedKeyword);
+        Predicate templatePredicate = fullText
+                ? createFullTextTemplatePredicate(criteriaBuilder, root, trimmedKeyword)
+                : createLikeTemplatePredicate(criteriaBuilder, root, trimmedKeyword);
+        predicates.add(criteriaBuilder.or(
+                templatePredicate,
+                createSourceCodePredicate(criteriaBuilder, root, query, trimmedKeyword, fullText)));
+    }
+
+    private boolean canSearchFullText(String trimmedKeyword) {
+        return Arrays.stream(toPhrase(trimmedKeyword).split("\\s+"))
+                .allMatch(token -> token.codePointCount(0, token.length()) >= MIN_FULLTEXT_TOKEN_LENGTH);
+    }
+
+    private Predicate createFullTextTemplatePredicate(
+            CriteriaBuilder criteriaBuilder, Root<Template> root, String trimmedKeyword
+    ) {
+        return criteriaBuilder.greaterThan(
+                matchAgainst(criteriaBuilder, root.get("title"), root.get("description"), trimmedKeyword), 0.0);
+    }
+
+    private Predicate createLikeTemplatePredicate(
+            CriteriaBuilder criteriaBuilder, Root<Template> root, String trimmedKeyword
+    ) {
+        String likeKeyword = "%" + trimmedKeyword + "%";
+        return criteriaBuilder.or(
+                criteriaBuilder.like(root.get("title"), likeKeyword),
+                criteriaBuilder.like(root.get("description"), likeKeyword));
+    }
+
+    private Predicate createSourceCodePredicate(
+            CriteriaBuilder criteriaBuilder,
+            Root<Template> root,
+            CriteriaQuery<?> query,
+            String trimmedKeyword,
+            boolean fullText
+    ) {
+        if (sourceCodeIds != null && sourceCodeIds.isEmpty()) {
+            return criteriaBuilder.disjunction();
+        }
+        Subquery<Long> sourceCodeSubquery = query.subquery(Long.class);
+        Root<SourceCode> sourceCodeRoot = sourceCodeSubquery.from(SourceCode.class);
+        sourceCodeSubquery.select(sourceCodeRoot.get("template").get("id"));
+        if (sourceCodeIds != null) {
+            String likeKeyword = "%" + trimmedKeyword + "%";
+            sourceCodeSubquery.where(
+                    sourceCodeRoot.get("id").in(sourceCodeIds),
+                    criteriaBuilder.or(
+                            criteriaBuilder.like(sourceCodeRoot.get("content"), likeKeyword),
+                            criteriaBuilder.like(sourceCodeRoot.get("filename"), likeKeyword)));
+        } else if (fullText) {
+            sourceCodeSubquery.where(criteriaBuilder.greaterThan(matchAgainst(
+                    criteriaBuilder, sourceCodeRoot.get("filename"), sourceCodeRoot.get("content"), trimmedKeyword),
+                    0.0));
+        } else {
+            String likeKeyword = "%" + trimmedKeyword + "%";
             sourceCodeSubquery.where(
                     criteriaBuilder.or(
                             criteriaBuilder.like(sourceCodeRoot.get("content"), likeKeyword),
                             criteriaBuilder.like(sourceCodeRoot.get("filename"), likeKeyword)));
-            predicates.add(criteriaBuilder.or(titlePredicate, descriptionPredicate, root.get("id").in(sourceCodeSubquery)));
         }
+        return root.get("id").in(sourceCodeSubquery);
+    }
+
+    private Expression<Double> matchAgainst(
+            CriteriaBuilder criteriaBuilder, Expression<String> first, Expression<String> second, String trimmedKeyword
+    ) {
+        String booleanQuery = "\"" + toPhrase(trimmedKeyword) + "\"";
+        return criteriaBuilder.function(MatchAgainstFunctionContributor.MATCH_AGAINST, Double.class,
+                first, second, criteriaBuilder.literal(booleanQuery));
+    }
+
+    private String toPhrase(String trimmedKeyword) {
+        return trimmedKeyword.replace('"', ' ').trim();
     }
 
     private void addCategoryPredicate(List<Predicate> predicates, CriteriaBuilder criteriaBuilder, Root<Template> root
@@ -0,0 +1,33 @@
+package codezap.template.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import codezap.template.domain.TemplateSummary;
+import codezap.template.dto.TemplateVersion;
+
+@SuppressWarnings("unused")
+public interface TemplateSummaryJpaRepository extends TemplateSummaryRepository, JpaRepository<TemplateSummary, Long> {
+
+    List<TemplateSummary> findAllByTemplateIdIn(List<Long> templateIds);
+
+    List<TemplateSummary> findAllByCategoryId(Long categoryId);
+
+    @Query("""
+            SELECT new codezap.template.dto.TemplateVersion(ts.templateId, ts.revision, ts.syncedAt)
+            FROM TemplateSummary ts
+            WHERE ts.templateId = :templateId
+            """)
+    Optional<TemplateVersion> findVersionByTemplateId(Long templateId);
+
+    @Modifying
+    @Query("""
+            DELETE FROM TemplateSummary ts
+            WHERE ts.templateId NOT IN (SELECT t.id FROM Template t)
+            """)
+    int deleteAllWithoutTemplate();
+}
@@ -0,0 +1,24 @@
+package codezap.template.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import codezap.template.domain.TemplateSummary;
+import codezap.template.dto.TemplateVersion;
+
+public interface TemplateSummaryRepository {
+
+    Optional<TemplateSummary> findById(Long templateId);
+
+    List<TemplateSummary> findAllByTemplateIdIn(List<Long> templateIds);
+
+    List<TemplateSummary> findAllByCategoryId(Long categoryId);
+
+    Optional<TemplateVersion> findVersionByTemplateId(Long templateId);
+
+    TemplateSummary save(TemplateSummary templateSummary);
+
+    void deleteAllByIdInBatch(Iterable<Long> templateIds);
+
+    int deleteAllWithoutTemplate();
+}
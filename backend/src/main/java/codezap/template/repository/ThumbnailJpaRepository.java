@@ -1,13 +1,18 @@
 package codezap.template.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.http.HttpStatus;
 
 import codezap.global.exception.CodeZapException;
 import codezap.template.domain.Template;
 import codezap.template.domain.Thumbnail;
+import codezap.template.dto.ExploreTemplateDto;
+import codezap.template.dto.TemplateThumbnailDto;
 
 @SuppressWarnings("unused")
 public interface ThumbnailJpaRepository extends
@@ -26,5 +31,22 @@ public interface ThumbnailJpaRepository extends
 
     Optional<Thumbnail> findByTemplate(Template template);
 
+    @Query("""
+            SELECT new codezap.template.dto.TemplateThumbnailDto(th.template.id, sc.filename, sc.thumbnailContent)
+            FROM Thumbnail th
+            JOIN th.sourceCode sc
+            WHERE th.template.id IN :templateIds
+            """)
+    List<TemplateThumbnailDto> findAllByTemplateIdsIn(List<Long> templateIds);
+
+    @Query("""
+            SELECT new codezap.template.dto.ExploreTemplateDto(t.id, t.title, sc.filename, sc.thumbnailContent, t.modifiedAt)
+            FROM Thumbnail th
+            JOIN th.template t
+            JOIN th.sourceCode sc
+            ORDER BY t.modifiedAt DESC, t.id DESC
+            """)
+    List<ExploreTemplateDto> findAllExploreTemplates(Pageable pageable);
+
     void deleteByTemplateId(Long id);
 }
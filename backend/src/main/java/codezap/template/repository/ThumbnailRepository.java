@@ -3,8 +3,12 @@ package codezap.template.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+
 import codezap.template.domain.Template;
 import codezap.template.domain.Thumbnail;
+import codezap.template.dto.ExploreTemplateDto;
+import codezap.template.dto.TemplateThumbnailDto;
 
 public interface ThumbnailRepository {
 
@@ -14,6 +18,10 @@ public interface ThumbnailRepository {
 
     Optional<Thumbnail> findByTemplate(Template template);
 
+    List<TemplateThumbnailDto> findAllByTemplateIdsIn(List<Long> templateIds);
+
+    List<ExploreTemplateDto> findAllExploreTemplates(Pageable pageable);
+
     List<Thumbnail> findAll();
 
     Thumbnail save(Thumbnail thumbnail);
@@ -0,0 +1,39 @@
+package codezap.template.runner;
+
+import java.util.List;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import codezap.template.service.TemplateSummaryService;
+import codezap.template.service.facade.TemplateApplicationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "template-summary.rebuild", havingValue = "true")
+public class TemplateSummaryRebuildRunner implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final TemplateApplicationService templateApplicationService;
+    private final TemplateSummaryService templateSummaryService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastTemplateId = 0L;
+        long rebuiltCount = 0L;
+        List<Long> templateIds = templateApplicationService.rebuildSummaries(lastTemplateId, BATCH_SIZE);
+        while (!templateIds.isEmpty()) {
+            rebuiltCount += templateIds.size();
+            lastTemplateId = templateIds.get(templateIds.size() - 1);
+            templateIds = templateApplicationService.rebuildSummaries(lastTemplateId, BATCH_SIZE);
+        }
+        int deletedCount = templateSummaryService.deleteAllWithoutTemplate();
+        log.info("템플릿 요약 재구성 완료 - 갱신: {}건, 삭제: {}건", rebuiltCount, deletedCount);
+    }
+}
@@ -0,0 +1,56 @@
+package codezap.template.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import codezap.global.exception.CodeZapException;
+import codezap.template.dto.ExploreTemplateDto;
+import codezap.template.repository.ThumbnailRepository;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class ExploreTemplateService {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_PAGE_COUNT = 50;
+    private static final long REFRESH_INTERVAL_SECONDS = 60;
+
+    private final ThumbnailRepository thumbnailRepository;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<ExploreTemplateSnapshot> snapshot;
+
+    public ExploreTemplateService(ThumbnailRepository thumbnailRepository, ObjectMapper objectMapper)
+            throws JsonProcessingException {
+        this.thumbnailRepository = thumbnailRepository;
+        this.objectMapper = objectMapper;
+        this.snapshot = new AtomicReference<>(ExploreTemplateSnapshot.empty(objectMapper));
+    }
+
+    @Scheduled(fixedDelay = REFRESH_INTERVAL_SECONDS, timeUnit = TimeUnit.SECONDS)
+    public void refresh() {
+        try {
+            List<ExploreTemplateDto> exploreTemplates = thumbnailRepository.findAllExploreTemplates(
+                    PageRequest.ofSize(PAGE_SIZE * MAX_PAGE_COUNT));
+            snapshot.set(ExploreTemplateSnapshot.of(exploreTemplates, PAGE_SIZE, objectMapper));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("[ExploreTemplateSnapshot] 탐색 템플릿 스냅샷 갱신에 실패했습니다.", e);
+        }
+    }
+
+    public byte[] getPage(int pageNumber) {
+        if (pageNumber < 1) {
+            throw new CodeZapException(HttpStatus.BAD_REQUEST, "페이지 번호는 1 이상이어야 합니다.");
+        }
+        return snapshot.get().getPage(pageNumber);
+    }
+}
@@ -0,0 +1,48 @@
+package codezap.template.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import codezap.template.dto.ExploreTemplateDto;
+import codezap.template.dto.response.ExploreTemplatesResponse;
+
+public class ExploreTemplateSnapshot {
+
+    private final List<byte[]> pages;
+    private final byte[] emptyPage;
+
+    private ExploreTemplateSnapshot(List<byte[]> pages, byte[] emptyPage) {
+        this.pages = List.copyOf(pages);
+        this.emptyPage = emptyPage;
+    }
+
+    public static ExploreTemplateSnapshot empty(ObjectMapper objectMapper) throws JsonProcessingException {
+        return of(List.of(), 1, objectMapper);
+    }
+
+    public static ExploreTemplateSnapshot of(
+            List<ExploreTemplateDto> exploreTemplates, int pageSize, ObjectMapper objectMapper
+    ) throws JsonProcessingException {
+        List<byte[]> pages = new ArrayList<>();
+        for (int start = 0; start < exploreTemplates.size(); start += pageSize) {
+            int end = Math.min(start + pageSize, exploreTemplates.size());
+            ExploreTemplatesResponse page = ExploreTemplatesResponse.of(
+                    exploreTemplates.subList(start, end),
+                    end < exploreTemplates.size()
+            );
+            pages.add(objectMapper.writeValueAsBytes(page));
+        }
+        byte[] emptyPage = objectMapper.writeValueAsBytes(ExploreTemplatesResponse.of(List.of(), false));
+        return new ExploreTemplateSnapshot(pages, emptyPage);
+    }
+
+    public byte[] getPage(int pageNumber) {
+        if (pageNumber > pages.size()) {
+            return emptyPage;
+        }
+        return pages.get(pageNumber - 1);
+    }
+}
@@ -0,0 +1,115 @@
+package codezap.template.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import codezap.global.scheduling.DatabaseLockExecutor;
+import codezap.tag.repository.TemplateTagRepository;
+import codezap.template.domain.RelatedTemplate;
+import codezap.template.domain.RelatedTemplateCalculator;
+import codezap.template.domain.RelatedTemplates;
+import codezap.template.dto.TemplateScopeDto;
+import codezap.template.dto.response.FindAllRelatedTemplatesResponse;
+import codezap.template.dto.response.FindRelatedTemplateResponse;
+import codezap.template.repository.TemplateRelatedRepository;
+import codezap.template.repository.TemplateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RelatedTemplateService {
+
+    private static final int MAX_RELATED_SIZE = 10;
+    private static final int MAX_TAG_FREQUENCY = 2_000;
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int WRITE_BATCH_SIZE = 500;
+    private static final long REFRESH_INTERVAL_MINUTES = 60;
+    private static final String REFRESH_LOCK_NAME = "template_related_refresh";
+    private static final int PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    private final TemplateRepository templateRepository;
+    private final TemplateTagRepository templateTagRepository;
+    private final TemplateRelatedRepository templateRelatedRepository;
+    private final DatabaseLockExecutor databaseLockExecutor;
+    private final ForkJoinPool calculatorPool = new ForkJoinPool(PARALLELISM);
+    private final RelatedTemplateCalculator relatedTemplateCalculator =
+            new RelatedTemplateCalculator(MAX_RELATED_SIZE, MAX_TAG_FREQUENCY, calculatorPool);
+
+    @Scheduled(fixedDelay = REFRESH_INTERVAL_MINUTES, initialDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public synchronized void refresh() {
+        try {
+            boolean refreshed = databaseLockExecutor.executeIfAcquired(REFRESH_LOCK_NAME, this::refreshAll);
+            if (!refreshed) {
+                log.info("[RelatedTemplate] 다른 인스턴스가 연관 템플릿을 계산하고 있어 건너뜁니다.");
+            }
+        } catch (RuntimeException e) {
+            log.error("[RelatedTemplate] 연관 템플릿 계산에 실패했습니다.", e);
+        }
+    }
+
+    private void refreshAll() {
+        long start = System.currentTimeMillis();
+        LocalDateTime computedAt = LocalDateTime.now();
+        RelatedTemplates relatedTemplates = relatedTemplateCalculator.calculate(loadTagIdsByTemplateId());
+        save(relatedTemplates, computedAt);
+        int deletedCount = templateRelatedRepository.deleteAllComputedBefore(computedAt);
+        log.info("[RelatedTemplate] 템플릿 {}개의 연관 템플릿을 {}ms 동안 계산했습니다. 삭제: {}건",
+                relatedTemplates.size(), System.currentTimeMillis() - start, deletedCount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        calculatorPool.shutdown();
+    }
+
+    private Map<Long, List<Long>> loadTagIdsByTemplateId() {
+        Map<Long, List<Long>> tagIdsByTemplateId = new HashMap<>();
+        long lastId = 0L;
+        List<TemplateScopeDto> templateScopes;
+        do {
+            templateScopes = templateRepository.findAllScopesAfter(lastId, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            if (!templateScopes.isEmpty()) {
+                List<Long> templateIds = templateScopes.stream().map(TemplateScopeDto::templateId).toList();
+                templateTagRepository.findAllTagIdsByTemplateIdsIn(templateIds).forEach(templateTagId ->
+                        tagIdsByTemplateId.computeIfAbsent(templateTagId.templateId(), key -> new ArrayList<>())
+                                .add(templateTagId.tagId()));
+                lastId = templateScopes.get(templateScopes.size() - 1).templateId();
+            }
+        } while (templateScopes.size() == LOAD_BATCH_SIZE);
+        return tagIdsByTemplateId;
+    }
+
+    private void save(RelatedTemplates relatedTemplates, LocalDateTime computedAt) {
+        for (int from = 0; from < relatedTemplates.size(); from += WRITE_BATCH_SIZE) {
+            int to = Math.min(from + WRITE_BATCH_SIZE, relatedTemplates.size());
+            List<Long> templateIds = new ArrayList<>(to - from);
+            List<RelatedTemplate> rows = new ArrayList<>();
+            for (int index = from; index < to; index++) {
+                templateIds.add(relatedTemplates.templateIdAt(index));
+                rows.addAll(relatedTemplates.findAllAt(index));
+            }
+            templateRelatedRepository.replaceAll(templateIds, rows, computedAt);
+        }
+    }
+
+    public FindAllRelatedTemplatesResponse findAllByTemplateId(Long templateId) {
+        return new FindAllRelatedTemplatesResponse(
+                templateRelatedRepository.findAllByTemplateId(templateId).stream()
+                        .map(FindRelatedTemplateResponse::from)
+                        .toList()
+        );
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import codezap.global.exception.CodeZapException;
+import codezap.search.service.SourceCodeSearchService;
 import codezap.template.domain.SourceCode;
 import codezap.template.domain.Template;
 import codezap.template.domain.Thumbnail;
@@ -21,14 +22,16 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SourceCodeService {
     private final SourceCodeRepository sourceCodeRepository;
+    private final SourceCodeSearchService sourceCodeSearchService;
 
     @Transactional
     public void createSourceCodes(Template template, List<CreateSourceCodeRequest> sourceCodes) {
-        sourceCodeRepository.saveAll(
+        List<SourceCode> savedSourceCodes = sourceCodeRepository.saveAll(
                 sourceCodes.stream()
                         .map(createSourceCodeRequest -> createSourceCode(template, createSourceCodeRequest))
                         .toList()
         );
+        sourceCodeSearchService.index(savedSourceCodes);
     }
 
     public SourceCode getByTemplateAndOrdinal(Template template, int ordinal) {
@@ -41,8 +44,10 @@ public class SourceCodeService {
 
     @Transactional
     public void updateSourceCodes(UpdateTemplateRequest updateTemplateRequest, Template template, Thumbnail thumbnail) {
-        updateTemplateRequest.updateSourceCodes().forEach(this::updateSourceCode);
-        sourceCodeRepository.saveAll(
+        List<SourceCode> updatedSourceCodes = updateTemplateRequest.updateSourceCodes().stream()
+                .map(this::updateSourceCode)
+                .toList();
+        List<SourceCode> savedSourceCodes = sourceCodeRepository.saveAll(
                 updateTemplateRequest.createSourceCodes().stream()
                         .map(createSourceCodeRequest -> createSourceCode(template, createSourceCodeRequest))
                         .toList()
@@ -51,6 +56,9 @@ public class SourceCodeService {
         updateThumbnail(updateTemplateRequest, template, thumbnail);
         updateTemplateRequest.deleteSourceCodeIds().forEach(sourceCodeRepository::deleteById);
         validateSourceCodesCount(template, updateTemplateRequest);
+        sourceCodeSearchService.index(updatedSourceCodes);
+        sourceCodeSearchService.index(savedSourceCodes);
+        sourceCodeSearchService.remove(updateTemplateRequest.deleteSourceCodeIds());
     }
 
     private void updateThumbnail(UpdateTemplateRequest updateTemplateRequest, Template template, Thumbnail thumbnail) {
@@ -81,13 +89,14 @@ public class SourceCodeService {
         );
     }
 
-    private void updateSourceCode(UpdateSourceCodeRequest updateSourceCodeRequest) {
+    private SourceCode updateSourceCode(UpdateSourceCodeRequest updateSourceCodeRequest) {
         SourceCode sourceCode = sourceCodeRepository.fetchById(updateSourceCodeRequest.id());
         sourceCode.updateSourceCode(
                 updateSourceCodeRequest.filename(),
                 updateSourceCodeRequest.content(),
                 updateSourceCodeRequest.ordinal()
         );
+        return sourceCode;
     }
 
     private void validateSourceCodesCount(Template template, UpdateTemplateRequest updateTemplateRequest) {
@@ -100,5 +109,6 @@ public class SourceCodeService {
     @Transactional
     public void deleteByIds(List<Long> templateIds) {
         templateIds.forEach(sourceCodeRepository::deleteByTemplateId);
+        sourceCodeSearchService.removeByTemplateIds(templateIds);
     }
 }
@@ -0,0 +1,10 @@
+package codezap.template.service;
+
+import java.util.List;
+
+import codezap.template.domain.TemplateEvent;
+
+public interface TemplateEventConsumer {
+
+    void consume(List<TemplateEvent> templateEvents);
+}
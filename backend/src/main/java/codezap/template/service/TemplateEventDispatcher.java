@@ -0,0 +1,188 @@
+package codezap.template.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import codezap.template.domain.TemplateEvent;
+import codezap.template.domain.TemplateEventSequence;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class TemplateEventDispatcher {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int GAP_WARN_ATTEMPTS = 10;
+    private static final long DISPATCH_INTERVAL_MILLIS = 1000;
+    private static final long HEARTBEAT_INTERVAL_MILLIS = 10_000;
+    private static final long PRUNE_INTERVAL_MILLIS = 60_000;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final Duration OFFSET_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration RETENTION = Duration.ofMinutes(1);
+
+    private final String consumerId = UUID.randomUUID().toString();
+    private final TemplateEventService templateEventService;
+    private final List<TemplateEventConsumer> templateEventConsumers;
+    private final TemplateSearchGeneration templateSearchGeneration;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong gapCount = new AtomicLong();
+    private final AtomicLong parkedCount = new AtomicLong();
+    private final Counter dispatchedCounter;
+    private final Counter failedCounter;
+    private TemplateEventSequence templateEventSequence;
+
+    public TemplateEventDispatcher(
+            TemplateEventService templateEventService,
+            List<TemplateEventConsumer> templateEventConsumers,
+            TemplateSearchGeneration templateSearchGeneration,
+            MeterRegistry meterRegistry
+    ) {
+        this.templateEventService = templateEventService;
+        this.templateEventConsumers = templateEventConsumers;
+        this.templateSearchGeneration = templateSearchGeneration;
+        TimeGauge.builder("template.event.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("이 인스턴스가 가장 오래 전달받지 못한 템플릿 이벤트의 대기 시간")
+                .register(meterRegistry);
+        Gauge.builder("template.event.pending", pendingCount, AtomicLong::get)
+                .description("이 인스턴스가 전달받지 못한 템플릿 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("template.event.gap", gapCount, AtomicLong::get)
+                .description("아직 커밋되지 않아 다시 확인하고 있는 템플릿 이벤트 빈 번호 수")
+                .register(meterRegistry);
+        Gauge.builder("template.event.parked", parkedCount, AtomicLong::get)
+                .description("전달에 실패해 다시 시도하기를 기다리는 템플릿 이벤트 수")
+                .register(meterRegistry);
+        this.dispatchedCounter = meterRegistry.counter("template.event.dispatched");
+        this.failedCounter = meterRegistry.counter("template.event.failed");
+    }
+
+    @PostConstruct
+    public synchronized void register() {
+        templateEventSequence =
+                new TemplateEventSequence(templateEventService.findLastEventId(), INITIAL_BACKOFF, MAX_BACKOFF);
+        templateEventService.saveOffset(consumerId, templateEventSequence.lastEventId());
+    }
+
+    @PreDestroy
+    public void unregister() {
+        templateEventService.removeOffset(consumerId);
+    }
+
+    @Scheduled(fixedDelay = DISPATCH_INTERVAL_MILLIS)
+    public void dispatch() {
+        dispatch(LocalDateTime.now());
+    }
+
+    synchronized void dispatch(LocalDateTime now) {
+        redeliverDue(now);
+        pendingCount.set(templateEventService.countAfter(templateEventSequence.lastReadId()));
+        List<TemplateEvent> templateEvents;
+        do {
+            templateEvents = templateEventService.findAllAfter(templateEventSequence.lastReadId(), BATCH_SIZE);
+            templateEventSequence.read(templateEvents, now);
+            if (!templateEvents.isEmpty()) {
+                deliver(templateEvents, now);
+            }
+        } while (templateEvents.size() == BATCH_SIZE);
+        recordLag(templateEventService.findAllAfter(templateEventSequence.lastReadId(), 1));
+        gapCount.set(templateEventSequence.countGaps());
+        parkedCount.set(templateEventSequence.countParked());
+    }
+
+    private void redeliverDue(LocalDateTime now) {
+        List<Long> dueEventIds = templateEventSequence.findDueEventIds(now);
+        if (dueEventIds.isEmpty()) {
+            return;
+        }
+        Map<Long, TemplateEvent> templateEvents = templateEventService.findAllByIds(dueEventIds).stream()
+                .collect(Collectors.toMap(TemplateEvent::getId, Function.identity()));
+        for (Long eventId : dueEventIds) {
+            TemplateEvent templateEvent = templateEvents.get(eventId);
+            if (templateEvent == null) {
+                waitForGap(eventId, now);
+                continue;
+            }
+            deliverEach(List.of(templateEvent), now);
+        }
+    }
+
+    private void waitForGap(long eventId, LocalDateTime now) {
+        int attempts = templateEventSequence.deferGap(eventId, now);
+        if (attempts == GAP_WARN_ATTEMPTS) {
+            log.warn("[TemplateEventDispatcher] 템플릿 이벤트 빈 번호 {}가 {}회 확인하는 동안 채워지지 않았습니다.",
+                    eventId, attempts);
+        }
+    }
+
+    private void recordLag(List<TemplateEvent> templateEvents) {
+        if (templateEvents.isEmpty()) {
+            lagMillis.set(0);
+            return;
+        }
+        LocalDateTime oldestCreatedAt = templateEvents.get(0).getCreatedAt();
+        lagMillis.set(Math.max(0, Duration.between(oldestCreatedAt, LocalDateTime.now()).toMillis()));
+    }
+
+    private void deliver(List<TemplateEvent> templateEvents, LocalDateTime now) {
+        try {
+            consume(templateEvents);
+        } catch (RuntimeException e) {
+            log.warn("[TemplateEventDispatcher] 템플릿 이벤트 {}개 일괄 전달에 실패하여 하나씩 전달합니다.", templateEvents.size(), e);
+            deliverEach(templateEvents, now);
+            return;
+        }
+        templateEvents.forEach(templateEvent -> templateEventSequence.applied(templateEvent.getId()));
+        dispatchedCounter.increment(templateEvents.size());
+    }
+
+    private void deliverEach(List<TemplateEvent> templateEvents, LocalDateTime now) {
+        for (TemplateEvent templateEvent : templateEvents) {
+            try {
+                consume(List.of(templateEvent));
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                int attempts = templateEventSequence.park(templateEvent.getId(), now);
+                log.warn("[TemplateEventDispatcher] 템플릿 {}의 {} 이벤트 전달에 {}회 실패하여 보류 후 다시 시도합니다.",
+                        templateEvent.getTemplateId(), templateEvent.getEventType(), attempts, e);
+                continue;
+            }
+            templateEventSequence.applied(templateEvent.getId());
+            dispatchedCounter.increment();
+        }
+    }
+
+    private void consume(List<TemplateEvent> templateEvents) {
+        templateEventConsumers.forEach(consumer -> consumer.consume(templateEvents));
+        templateEvents.forEach(templateEvent -> templateSearchGeneration.increase(templateEvent.getMemberId()));
+    }
+
+    @Scheduled(fixedDelay = HEARTBEAT_INTERVAL_MILLIS, initialDelay = HEARTBEAT_INTERVAL_MILLIS)
+    public synchronized void heartbeat() {
+        templateEventService.saveOffset(consumerId, templateEventSequence.lastEventId());
+    }
+
+    @Scheduled(fixedDelay = PRUNE_INTERVAL_MILLIS, initialDelay = PRUNE_INTERVAL_MILLIS)
+    public void prune() {
+        int prunedCount = templateEventService.prune(OFFSET_TIMEOUT, RETENTION);
+        log.debug("[TemplateEventDispatcher] 모든 인스턴스가 전달받은 템플릿 이벤트 {}개를 정리했습니다.", prunedCount);
+    }
+}
@@ -0,0 +1,77 @@
+package codezap.template.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import codezap.member.domain.Member;
+import codezap.template.domain.Template;
+import codezap.template.domain.TemplateEvent;
+import codezap.template.domain.TemplateEventOffset;
+import codezap.template.domain.TemplateEventType;
+import codezap.template.repository.TemplateEventOffsetRepository;
+import codezap.template.repository.TemplateEventRepository;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class TemplateEventService {
+
+    private final TemplateEventRepository templateEventRepository;
+    private final TemplateEventOffsetRepository templateEventOffsetRepository;
+
+    public void publish(Template template, TemplateEventType eventType) {
+        templateEventRepository.saveAll(
+                List.of(new TemplateEvent(template.getId(), template.getMember().getId(), eventType)));
+    }
+
+    public void publishAll(Member member, List<Long> templateIds, TemplateEventType eventType) {
+        templateEventRepository.saveAll(templateIds.stream()
+                .map(templateId -> new TemplateEvent(templateId, member.getId(), eventType))
+                .toList());
+    }
+
+    @Transactional(readOnly = true)
+    public long findLastEventId() {
+        return templateEventRepository.findLastId().orElse(0L);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TemplateEvent> findAllAfter(long lastEventId, int size) {
+        return templateEventRepository.findAllAfter(lastEventId, PageRequest.ofSize(size));
+    }
+
+    @Transactional(readOnly = true)
+    public List<TemplateEvent> findAllByIds(List<Long> eventIds) {
+        return templateEventRepository.findAllById(eventIds);
+    }
+
+    @Transactional(readOnly = true)
+    public long countAfter(long lastEventId) {
+        return templateEventRepository.countByIdGreaterThan(lastEventId);
+    }
+
+    @Transactional
+    public void saveOffset(String consumerId, long lastEventId) {
+        templateEventOffsetRepository.save(new TemplateEventOffset(consumerId, lastEventId, LocalDateTime.now()));
+    }
+
+    @Transactional
+    public void removeOffset(String consumerId) {
+        templateEventOffsetRepository.deleteById(consumerId);
+    }
+
+    @Transactional
+    public int prune(Duration offsetTimeout, Duration retention) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime activeSince = now.minus(offsetTimeout);
+        templateEventOffsetRepository.deleteAllByHeartbeatAtBefore(activeSince);
+        return templateEventOffsetRepository.findMinLastEventIdByHeartbeatAtAfter(activeSince)
+                .map(lastEventId -> templateEventRepository.deleteAllUpTo(lastEventId, now.minus(retention)))
+                .orElse(0);
+    }
+}
@@ -0,0 +1,43 @@
+package codezap.template.service;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import codezap.global.transaction.AfterCommitExecutor;
+import codezap.template.dto.TemplateListVersion;
+
+@Component
+public class TemplateSearchGeneration {
+
+    private final String epoch = UUID.randomUUID().toString();
+    private final AtomicLong globalGeneration = new AtomicLong();
+    private final ConcurrentMap<Long, AtomicLong> memberGenerations = new ConcurrentHashMap<>();
+
+    public long current(Long memberId) {
+        if (memberId == null) {
+            return globalGeneration.get();
+        }
+        AtomicLong memberGeneration = memberGenerations.get(memberId);
+        if (memberGeneration == null) {
+            return 0L;
+        }
+        return memberGeneration.get();
+    }
+
+    public TemplateListVersion listVersion(Long memberId) {
+        return new TemplateListVersion(epoch, current(memberId));
+    }
+
+    public void advance(Long memberId) {
+        AfterCommitExecutor.execute(() -> increase(memberId));
+    }
+
+    public void increase(Long memberId) {
+        memberGenerations.computeIfAbsent(memberId, key -> new AtomicLong()).incrementAndGet();
+        globalGeneration.incrementAndGet();
+    }
+}
@@ -2,50 +2,124 @@ package codezap.template.service;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 
-import org.springframework.data.domain.Page;
+import jakarta.persistence.Tuple;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import codezap.category.domain.Category;
+import codezap.global.cache.CacheConfiguration;
 import codezap.global.exception.CodeZapException;
 import codezap.member.domain.Member;
+import codezap.search.domain.TemplateSearchPlan;
+import codezap.search.service.SourceCodeSearchService;
+import codezap.search.service.TemplateBitmapSearchService;
 import codezap.template.domain.Template;
+import codezap.template.dto.TemplateCursor;
+import codezap.template.dto.TemplateFilter;
+import codezap.template.dto.TemplateIdPage;
+import codezap.template.dto.TemplateSearchKey;
 import codezap.template.dto.request.CreateTemplateRequest;
 import codezap.template.dto.request.UpdateTemplateRequest;
+import codezap.template.repository.TemplateCursorSpecification;
+import codezap.template.repository.TemplateIdSpecification;
 import codezap.template.repository.TemplateRepository;
-import codezap.template.repository.TemplateSpecification;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class TemplateService {
+    private static final Sort CURSOR_SORT = Sort.by(Sort.Order.desc("modifiedAt"), Sort.Order.desc("id"));
+
     private final TemplateRepository templateRepository;
+    private final SourceCodeSearchService sourceCodeSearchService;
+    private final TemplateBitmapSearchService templateBitmapSearchService;
 
+    @CacheEvict(cacheNames = CacheConfiguration.TEMPLATE_COUNT, allEntries = true)
     public Template createTemplate(Member member, CreateTemplateRequest createTemplateRequest, Category category) {
         Template template =
                 new Template(member, createTemplateRequest.title(), createTemplateRequest.description(), category);
-        return templateRepository.save(template);
+        Template savedTemplate = templateRepository.save(template);
+        templateBitmapSearchService.putTemplate(savedTemplate);
+        return savedTemplate;
     }
 
     public Template getById(Long id) {
         return templateRepository.fetchById(id);
     }
 
+    public Template getWithDetailsById(Long id) {
+        return templateRepository.fetchWithDetailsById(id);
+    }
+
     public List<Template> getByMemberId(Long memberId) {
         return templateRepository.findByMemberId(memberId);
     }
 
-    public Page<Template> findAll(
-            Long memberId, String keyword, Long categoryId, List<Long> tagIds, Pageable pageable
-    ) {
-        return templateRepository.findAll(
-                new TemplateSpecification(memberId, keyword, categoryId, tagIds), pageable
-        );
+    public Slice<Tuple> findAll(TemplateFilter templateFilter, Pageable pageable, List<String> attributes) {
+        return templateRepository.findAllAsSlice(toSpecification(templateFilter), pageable, attributes);
+    }
+
+    @Cacheable(cacheNames = CacheConfiguration.TEMPLATE_SEARCH_RESULT, key = "#templateSearchKey")
+    public TemplateIdPage findTemplateIds(TemplateSearchKey templateSearchKey) {
+        TemplateFilter templateFilter = templateSearchKey.templateFilter();
+        TemplateSearchPlan searchPlan = templateBitmapSearchService.plan(templateFilter);
+        Slice<Template> templates = templateRepository.findAllAsSlice(
+                toSpecification(templateFilter, searchPlan), templateSearchKey.toPageable());
+        List<Long> templateIds = templates.stream()
+                .map(Template::getId)
+                .toList();
+        return new TemplateIdPage(templateIds, templates.hasNext(), searchPlan.description());
+    }
+
+    @Cacheable(cacheNames = CacheConfiguration.TEMPLATE_COUNT, key = "#templateFilter")
+    public long count(TemplateFilter templateFilter) {
+        return templateRepository.count(toSpecification(templateFilter));
+    }
+
+    public List<Template> findAllByCursor(TemplateFilter templateFilter, TemplateCursor cursor, int limit) {
+        Specification<Template> specification = toSpecification(templateFilter)
+                .and(new TemplateCursorSpecification(cursor));
+        return templateRepository.findAll(specification, CURSOR_SORT, limit);
+    }
+
+    private Specification<Template> toSpecification(TemplateFilter templateFilter) {
+        return toSpecification(templateFilter, templateBitmapSearchService.plan(templateFilter));
+    }
+
+    private Specification<Template> toSpecification(TemplateFilter templateFilter, TemplateSearchPlan searchPlan) {
+        if (templateFilter.isIdentifierSearch()) {
+            Optional<List<Long>> identifierTemplateIds =
+                    sourceCodeSearchService.findTemplateIdsByIdentifier(templateFilter.keyword());
+            if (identifierTemplateIds.isPresent()) {
+                return toSpecification(templateFilter.withoutKeyword(), searchPlan)
+                        .and(new TemplateIdSpecification(identifierTemplateIds.get()));
+            }
+        }
+        List<Long> sourceCodeIds = sourceCodeSearchService.findSourceCodeIdsContaining(templateFilter.keyword())
+                .orElse(null);
+        if (searchPlan.usesTemplateIds()) {
+            return templateFilter.toSpecification(sourceCodeIds)
+                    .and(new TemplateIdSpecification(searchPlan.templateIds()));
+        }
+        return templateFilter.toSpecification(sourceCodeIds);
+    }
+
+    public List<Template> getAllAfter(Long lastTemplateId, int size) {
+        return templateRepository.findAllWithMemberAfter(lastTemplateId, PageRequest.ofSize(size));
     }
 
+    @CacheEvict(cacheNames = CacheConfiguration.TEMPLATE_COUNT, allEntries = true)
     public Template updateTemplate(
             Member member,
             Long templateId,
@@ -55,15 +129,19 @@ public class TemplateService {
         Template template = templateRepository.fetchById(templateId);
         template.validateAuthorization(member);
         template.updateTemplate(updateTemplateRequest.title(), updateTemplateRequest.description(), category);
+        templateRepository.flush();
+        templateBitmapSearchService.putTemplate(template);
         return template;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.TEMPLATE_COUNT, allEntries = true)
     public void deleteByMemberAndIds(Member member, List<Long> ids) {
         if (ids.size() != new HashSet<>(ids).size()) {
             throw new CodeZapException(HttpStatus.BAD_REQUEST, "삭제하고자 하는 템플릿 ID가 중복되었습니다.");
         }
         ids.forEach(id -> deleteById(member, id));
+        templateBitmapSearchService.removeTemplates(ids);
     }
 
     private void deleteById(Member member, Long id) {
@@ -0,0 +1,87 @@
+package codezap.template.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import codezap.tag.domain.Tag;
+import codezap.template.domain.Template;
+import codezap.template.domain.TemplateSummary;
+import codezap.template.dto.TemplateVersion;
+import codezap.template.dto.response.FindThumbnailResponse;
+import codezap.template.repository.TemplateSummaryRepository;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class TemplateSummaryService {
+    private final TemplateSummaryRepository templateSummaryRepository;
+
+    public void refresh(Template template, List<Tag> tags, FindThumbnailResponse thumbnail) {
+        TemplateSummary templateSummary = templateSummaryRepository.findById(template.getId()).orElse(null);
+        refresh(templateSummary, template, tags, thumbnail);
+    }
+
+    public void refreshAll(
+            List<Template> templates,
+            Map<Long, List<Tag>> tagsByTemplateId,
+            Map<Long, FindThumbnailResponse> thumbnailsByTemplateId
+    ) {
+        List<Long> templateIds = templates.stream()
+                .map(Template::getId)
+                .toList();
+        Map<Long, TemplateSummary> templateSummaries = getAllByTemplateIds(templateIds);
+        templates.forEach(template -> refresh(
+                templateSummaries.get(template.getId()),
+                template,
+                tagsByTemplateId.getOrDefault(template.getId(), List.of()),
+                thumbnailsByTemplateId.get(template.getId())
+        ));
+    }
+
+    private void refresh(
+            TemplateSummary templateSummary, Template template, List<Tag> tags, FindThumbnailResponse thumbnail
+    ) {
+        String thumbnailFilename = thumbnail == null ? null : thumbnail.filename();
+        String thumbnailContent = thumbnail == null ? null : thumbnail.content();
+        if (templateSummary == null) {
+            templateSummaryRepository.save(
+                    new TemplateSummary(template, tags, thumbnailFilename, thumbnailContent));
+            return;
+        }
+        templateSummary.update(template, tags, thumbnailFilename, thumbnailContent);
+    }
+
+    public Map<Long, TemplateSummary> getAllByTemplateIds(List<Long> templateIds) {
+        return templateSummaryRepository.findAllByTemplateIdIn(templateIds).stream()
+                .collect(Collectors.toMap(TemplateSummary::getTemplateId, Function.identity()));
+    }
+
+    @Transactional
+    public List<Long> touchAllByCategoryId(Long categoryId) {
+        List<TemplateSummary> templateSummaries = templateSummaryRepository.findAllByCategoryId(categoryId);
+        templateSummaries.forEach(TemplateSummary::touch);
+        return templateSummaries.stream()
+                .map(TemplateSummary::getTemplateId)
+                .toList();
+    }
+
+    public Optional<TemplateVersion> findVersion(Long templateId) {
+        return templateSummaryRepository.findVersionByTemplateId(templateId);
+    }
+
+    @Transactional
+    public void deleteByTemplateIds(List<Long> templateIds) {
+        templateSummaryRepository.deleteAllByIdInBatch(templateIds);
+    }
+
+    @Transactional
+    public int deleteAllWithoutTemplate() {
+        return templateSummaryRepository.deleteAllWithoutTemplate();
+    }
+}
@@ -1,6 +1,8 @@
 package codezap.template.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -8,7 +10,8 @@ import org.springframework.transaction.annotation.Transactional;
 import codezap.template.domain.SourceCode;
 import codezap.template.domain.Template;
 import codezap.template.domain.Thumbnail;
-import codezap.template.dto.response.ExploreTemplatesResponse;
+import codezap.template.dto.TemplateThumbnailDto;
+import codezap.template.dto.response.FindThumbnailResponse;
 import codezap.template.repository.ThumbnailRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -25,8 +28,9 @@ public class ThumbnailService {
         return thumbnailRepository.fetchByTemplate(template);
     }
 
-    public ExploreTemplatesResponse findAll() {
-        return ExploreTemplatesResponse.from(thumbnailRepository.findAll());
+    public Map<Long, FindThumbnailResponse> getAllByTemplateIds(List<Long> templateIds) {
+        return thumbnailRepository.findAllByTemplateIdsIn(templateIds).stream()
+                .collect(Collectors.toMap(TemplateThumbnailDto::templateId, FindThumbnailResponse::from));
     }
 
     @Transactional
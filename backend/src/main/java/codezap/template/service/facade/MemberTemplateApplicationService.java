@@ -1,18 +1,27 @@
 package codezap.template.service.facade;
 
 import java.util.List;
+import java.util.Optional;
 
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import codezap.member.domain.Member;
 import codezap.member.dto.MemberDto;
 import codezap.member.service.MemberService;
+import codezap.tag.dto.response.FindAllMemberTagsResponse;
 import codezap.tag.dto.response.FindAllTagsResponse;
+import codezap.template.dto.TemplateFields;
+import codezap.template.dto.TemplateListRequest;
+import codezap.template.dto.TemplateListVersion;
+import codezap.template.dto.TemplateVersion;
 import codezap.template.dto.request.CreateTemplateRequest;
 import codezap.template.dto.request.UpdateTemplateRequest;
-import codezap.template.dto.response.FindAllTemplateItemResponse;
+import codezap.template.dto.response.FindAllTemplateSuggestionsResponse;
+import codezap.template.dto.response.FindAllTemplatesCursorResponse;
+import codezap.template.dto.response.FindAllTemplatesFieldsResponse;
+import codezap.template.dto.response.FindAllTemplatesRelevanceResponse;
 import codezap.template.dto.response.FindAllTemplatesResponse;
+import codezap.template.dto.response.FindAllTemplatesSliceResponse;
 import codezap.template.dto.response.FindTemplateResponse;
 import lombok.RequiredArgsConstructor;
 
@@ -28,21 +37,54 @@ public class MemberTemplateApplicationService {
         return categoryTemplateApplicationService.createTemplate(member, createTemplateRequest);
     }
 
-    public FindAllTagsResponse getAllTagsByMemberId(Long memberId) {
+    public FindAllMemberTagsResponse getAllTagsByMemberId(Long memberId) {
         return templateApplicationService.getAllTagsByMemberId(memberId);
     }
 
-    public FindAllTemplatesResponse getAllTemplatesBy(Long memberId, String keyword, Long categoryId, List<Long> tagIds, Pageable pageable) {
-        FindAllTemplatesResponse findAllTemplatesResponse = templateApplicationService.findAllBy(memberId, keyword, categoryId, tagIds, pageable);
-        List<FindAllTemplateItemResponse> findAllTemplateItemResponsesWithMember = findAllTemplatesResponse.templates().stream()
-                .map(findAllTemplateItemResponse -> findAllTemplateItemResponse.updateMember(memberService.getByTemplateId(findAllTemplateItemResponse.id())))
-                .toList();
-        return findAllTemplatesResponse.updateTemplates(findAllTemplateItemResponsesWithMember);
+    public FindAllTagsResponse getTagSuggestions(Long memberId, String prefix, int size) {
+        return templateApplicationService.findTagSuggestions(memberId, prefix, size);
+    }
+
+    public FindAllTemplateSuggestionsResponse getTemplateSuggestions(Long memberId, String prefix, int size) {
+        return templateApplicationService.findTemplateSuggestions(memberId, prefix, size);
+    }
+
+    public FindAllTemplatesResponse getAllTemplatesBy(TemplateListRequest request) {
+        return templateApplicationService.findAllBy(request.memberId(), request.keyword(), request.categoryId(),
+                request.tagIds(), request.pageable(), request.searchMode());
+    }
+
+    public FindAllTemplatesFieldsResponse getAllTemplateFieldsBy(TemplateListRequest request) {
+        return templateApplicationService.findAllBy(request.memberId(), request.keyword(), request.categoryId(),
+                request.tagIds(), request.pageable(), request.searchMode(), TemplateFields.from(request.fields()));
+    }
+
+    public FindAllTemplatesSliceResponse getAllTemplateSliceBy(TemplateListRequest request) {
+        return templateApplicationService.findAllSliceBy(request.memberId(), request.keyword(), request.categoryId(),
+                request.tagIds(), request.pageable(), request.searchMode());
+    }
+
+    public FindAllTemplatesRelevanceResponse getAllTemplatesByRelevance(TemplateListRequest request) {
+        return templateApplicationService.findAllByRelevance(request.memberId(), request.keyword(),
+                request.categoryId(), request.tagIds(), request.pageable());
+    }
+
+    public FindAllTemplatesCursorResponse getAllTemplatesByCursor(TemplateListRequest request) {
+        return templateApplicationService.findAllByCursor(request.memberId(), request.keyword(), request.categoryId(),
+                request.tagIds(), request.cursor(), request.size(), request.searchMode());
+    }
+
+    public TemplateListVersion getTemplateListVersion(Long memberId) {
+        return templateApplicationService.getListVersion(memberId);
+    }
+
+    public Optional<TemplateVersion> findTemplateVersion(Long id) {
+        return templateApplicationService.findVersionById(id);
     }
 
     public FindTemplateResponse getTemplateById(Long id) {
         FindTemplateResponse findTemplateResponse = templateApplicationService.getById(id);
-        return findTemplateResponse.updateMember(memberService.getByTemplateId(id));
+        return findTemplateResponse.updateMember(memberService.getProfileById(findTemplateResponse.member().id()));
     }
 
     public void update(MemberDto memberDto, Long templateId, UpdateTemplateRequest updateTemplateRequest) {
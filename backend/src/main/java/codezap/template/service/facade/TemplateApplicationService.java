@@ -1,37 +1,87 @@
 package codezap.template.service.facade;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import jakarta.persistence.Tuple;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import codezap.category.domain.Category;
+import codezap.global.debug.DebugHeaders;
+import codezap.global.exception.CodeZapException;
 import codezap.member.domain.Member;
+import codezap.search.domain.RelevanceHit;
+import codezap.search.domain.RelevancePage;
+import codezap.search.service.RelevanceSearchService;
+import codezap.search.service.SuggestSearchService;
 import codezap.tag.domain.Tag;
+import codezap.tag.dto.response.FindAllMemberTagsResponse;
 import codezap.tag.dto.response.FindAllTagsResponse;
+import codezap.tag.dto.response.FindTagResponse;
 import codezap.tag.service.TemplateTagService;
 import codezap.template.domain.SourceCode;
 import codezap.template.domain.Template;
+import codezap.template.domain.TemplateEventType;
+import codezap.template.domain.TemplateSummary;
 import codezap.template.domain.Thumbnail;
+import codezap.template.dto.TemplateCursor;
+import codezap.template.dto.TemplateField;
+import codezap.template.dto.TemplateFields;
+import codezap.template.dto.TemplateFilter;
+import codezap.template.dto.TemplateIdPage;
+import codezap.template.dto.TemplateListVersion;
+import codezap.template.dto.TemplateSearchKey;
+import codezap.template.dto.TemplateSearchMode;
+import codezap.template.dto.TemplateVersion;
 import codezap.template.dto.request.CreateTemplateRequest;
 import codezap.template.dto.request.UpdateTemplateRequest;
 import codezap.template.dto.response.FindAllTemplateItemResponse;
+import codezap.template.dto.response.FindAllTemplateSuggestionsResponse;
+import codezap.template.dto.response.FindAllTemplatesCursorResponse;
+import codezap.template.dto.response.FindAllTemplatesFieldsResponse;
+import codezap.template.dto.response.FindAllTemplatesRelevanceResponse;
 import codezap.template.dto.response.FindAllTemplatesResponse;
+import codezap.template.dto.response.FindAllTemplatesSliceResponse;
+import codezap.template.dto.response.FindRelevantTemplateItemResponse;
 import codezap.template.dto.response.FindTemplateResponse;
+import codezap.template.dto.response.FindTemplateSuggestionResponse;
+import codezap.template.dto.response.FindThumbnailResponse;
 import codezap.template.service.SourceCodeService;
+import codezap.template.service.TemplateEventService;
+import codezap.template.service.TemplateSearchGeneration;
 import codezap.template.service.TemplateService;
+import codezap.template.service.TemplateSummaryService;
 import codezap.template.service.ThumbnailService;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class TemplateApplicationService {
+    private static final int MAX_CURSOR_SIZE = 100;
+    private static final Sort LATEST_SORT = Sort.by(Sort.Direction.DESC, "modifiedAt");
+
     private final TemplateTagService templateTagService;
     private final TemplateService templateService;
     private final ThumbnailService thumbnailService;
     private final SourceCodeService sourceCodeService;
+    private final TemplateSummaryService templateSummaryService;
+    private final TemplateSearchGeneration templateSearchGeneration;
+    private final RelevanceSearchService relevanceSearchService;
+    private final SuggestSearchService suggestSearchService;
+    private final TemplateEventService templateEventService;
+    private final DebugHeaders debugHeaders;
 
     @Transactional
     public Long createTemplate(Member member, Category category, CreateTemplateRequest createTemplateRequest) {
@@ -43,53 +93,232 @@ public class TemplateApplicationService {
                 createTemplateRequest.thumbnailOrdinal()
         );
         thumbnailService.createThumbnail(template, thumbnail);
+        List<Tag> tags = templateTagService.getByTemplate(template);
+        templateSummaryService.refresh(template, tags, FindThumbnailResponse.from(thumbnail));
+        templateEventService.publish(template, TemplateEventType.CREATED);
+        templateSearchGeneration.advance(member.getId());
         return template.getId();
     }
 
+    public Optional<TemplateVersion> findVersionById(Long id) {
+        return templateSummaryService.findVersion(id);
+    }
+
+    public TemplateListVersion getListVersion(Long memberId) {
+        return templateSearchGeneration.listVersion(memberId);
+    }
+
+    @Transactional(readOnly = true)
     public FindTemplateResponse getById(Long id) {
-        Template template = templateService.getById(id);
+        Template template = templateService.getWithDetailsById(id);
         List<Tag> tags = templateTagService.getByTemplate(template);
+        return FindTemplateResponse.of(template, template.getSourceCodes(), tags);
+    }
 
-        List<SourceCode> sourceCodes = sourceCodeService.findSourceCodesByTemplate(template);
-        return FindTemplateResponse.of(template, sourceCodes, tags);
+    public FindAllMemberTagsResponse getAllTagsByMemberId(Long memberId) {
+        return templateTagService.findAllByMemberId(memberId);
     }
 
-    public FindAllTagsResponse getAllTagsByMemberId(Long memberId) {
-        List<Template> template = templateService.getByMemberId(memberId);
-        return templateTagService.findAllByTemplates(template);
+    public FindAllTemplateSuggestionsResponse findTemplateSuggestions(Long memberId, String prefix, int size) {
+        List<FindTemplateSuggestionResponse> suggestions = suggestSearchService.findTitles(memberId, prefix, size)
+                .stream()
+                .map(FindTemplateSuggestionResponse::from)
+                .toList();
+        return new FindAllTemplateSuggestionsResponse(suggestions);
     }
 
+    public FindAllTagsResponse findTagSuggestions(Long memberId, String prefix, int size) {
+        List<FindTagResponse> suggestions = suggestSearchService.findTags(memberId, prefix, size)
+                .stream()
+                .map(suggestion -> new FindTagResponse(suggestion.id(), suggestion.value()))
+                .toList();
+        return new FindAllTagsResponse(suggestions);
+    }
+
+    @Transactional(readOnly = true)
     public FindAllTemplatesResponse findAllBy(
+            Long memberId, String keyword, Long categoryId, List<Long> tagIds, Pageable pageable,
+            TemplateSearchMode searchMode
+    ) {
+        TemplateFilter templateFilter = TemplateFilter.of(memberId, keyword, categoryId, tagIds, searchMode);
+        TemplateIdPage templateIdPage = findTemplateIds(templateFilter, pageable);
+        Page<Long> page = PageableExecutionUtils.getPage(
+                templateIdPage.templateIds(), pageable, () -> templateService.count(templateFilter));
+        return makeTemplatesResponse(page);
+    }
+
+    @Transactional(readOnly = true)
+    public FindAllTemplatesFieldsResponse findAllBy(
+            Long memberId, String keyword, Long categoryId, List<Long> tagIds, Pageable pageable,
+            TemplateSearchMode searchMode, TemplateFields templateFields
+    ) {
+        TemplateFilter templateFilter = TemplateFilter.of(memberId, keyword, categoryId, tagIds, searchMode);
+        Slice<Tuple> rows = templateService.findAll(templateFilter, pageable, templateFields.templateAttributes());
+        Page<Tuple> page = PageableExecutionUtils.getPage(
+                rows.getContent(), pageable, () -> templateService.count(templateFilter));
+        Map<Long, TemplateSummary> templateSummaries = findSummariesIfRequired(rows.getContent(), templateFields);
+        List<Map<String, Object>> items = page.stream()
+                .map(row -> templateFields.toItem(row, templateSummaries.get(getTemplateId(row))))
+                .toList();
+        return new FindAllTemplatesFieldsResponse(page.getTotalPages(), page.getTotalElements(), items);
+    }
+
+    private Map<Long, TemplateSummary> findSummariesIfRequired(List<Tuple> rows, TemplateFields templateFields) {
+        if (!templateFields.requiresSummary()) {
+            return Map.of();
+        }
+        List<Long> templateIds = rows.stream()
+                .map(this::getTemplateId)
+                .toList();
+        return templateSummaryService.getAllByTemplateIds(templateIds);
+    }
+
+    private Long getTemplateId(Tuple row) {
+        return row.get(TemplateField.ID.getAttribute(), Long.class);
+    }
+
+    @Transactional(readOnly = true)
+    public FindAllTemplatesSliceResponse findAllSliceBy(
+            Long memberId, String keyword, Long categoryId, List<Long> tagIds, Pageable pageable,
+            TemplateSearchMode searchMode
+    ) {
+        TemplateFilter templateFilter = TemplateFilter.of(memberId, keyword, categoryId, tagIds, searchMode);
+        TemplateIdPage templateIdPage = findTemplateIds(templateFilter, pageable);
+        return new FindAllTemplatesSliceResponse(
+                templateIdPage.hasNext(), makeTemplateItemsByIds(templateIdPage.templateIds()));
+    }
+
+    @Transactional(readOnly = true)
+    public FindAllTemplatesRelevanceResponse findAllByRelevance(
             Long memberId, String keyword, Long categoryId, List<Long> tagIds, Pageable pageable
     ) {
-        Page<Template> templates = templateService.findAll(memberId, keyword, categoryId, tagIds, pageable);
-        return makeTemplatesResponse(templates);
+        TemplateFilter templateFilter = TemplateFilter.of(memberId, keyword, categoryId, tagIds);
+        if (templateFilter.keyword() == null) {
+            throw new CodeZapException(HttpStatus.BAD_REQUEST, "관련도순 정렬에는 검색 키워드가 필요합니다.");
+        }
+        return relevanceSearchService.search(templateFilter, pageable)
+                .map(relevancePage -> makeRelevanceResponse(relevancePage, pageable))
+                .orElseGet(() -> findAllByLatest(templateFilter, pageable));
     }
 
-    private FindAllTemplatesResponse makeTemplatesResponse(Page<Template> page) {
-        List<FindAllTemplateItemResponse> findTemplateByAllResponse = page.stream()
-                .map(template -> FindAllTemplateItemResponse.of(
-                        template,
-                        templateTagService.getByTemplate(template),
-                        thumbnailService.getByTemplate(template).getSourceCode())
-                )
+    private FindAllTemplatesRelevanceResponse makeRelevanceResponse(RelevancePage relevancePage, Pageable pageable) {
+        List<Long> templateIds = relevancePage.hits().stream()
+                .map(RelevanceHit::templateId)
                 .toList();
+        Map<Long, TemplateSummary> templateSummaries = templateSummaryService.getAllByTemplateIds(templateIds);
+        List<FindRelevantTemplateItemResponse> items = relevancePage.hits().stream()
+                .filter(relevanceHit -> templateSummaries.containsKey(relevanceHit.templateId()))
+                .map(relevanceHit -> FindRelevantTemplateItemResponse.of(
+                        FindAllTemplateItemResponse.from(templateSummaries.get(relevanceHit.templateId())),
+                        relevanceHit))
+                .toList();
+        Page<FindRelevantTemplateItemResponse> page = new PageImpl<>(items, pageable, relevancePage.totalElements());
+        return new FindAllTemplatesRelevanceResponse(page.getTotalPages(), page.getTotalElements(), items);
+    }
+
+    private FindAllTemplatesRelevanceResponse findAllByLatest(TemplateFilter templateFilter, Pageable pageable) {
+        Pageable latestPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), LATEST_SORT);
+        TemplateIdPage templateIdPage = findTemplateIds(templateFilter, latestPageable);
+        Page<Long> page = PageableExecutionUtils.getPage(
+                templateIdPage.templateIds(), latestPageable, () -> templateService.count(templateFilter));
+        List<FindRelevantTemplateItemResponse> items = makeTemplateItemsByIds(page.getContent()).stream()
+                .map(FindRelevantTemplateItemResponse::withoutScore)
+                .toList();
+        return new FindAllTemplatesRelevanceResponse(page.getTotalPages(), page.getTotalElements(), items);
+    }
+
+    private TemplateIdPage findTemplateIds(TemplateFilter templateFilter, Pageable pageable) {
+        long generation = templateSearchGeneration.current(templateFilter.memberId());
+        TemplateIdPage templateIdPage =
+                templateService.findTemplateIds(TemplateSearchKey.of(templateFilter, pageable, generation));
+        debugHeaders.set(DebugHeaders.TEMPLATE_SEARCH_PLAN, templateIdPage.searchPlan());
+        return templateIdPage;
+    }
+
+    private FindAllTemplatesResponse makeTemplatesResponse(Page<Long> page) {
+        List<FindAllTemplateItemResponse> findTemplateByAllResponse = makeTemplateItemsByIds(page.getContent());
         return new FindAllTemplatesResponse(page.getTotalPages(), page.getTotalElements(), findTemplateByAllResponse);
     }
 
+    @Transactional(readOnly = true)
+    public FindAllTemplatesCursorResponse findAllByCursor(
+            Long memberId, String keyword, Long categoryId, List<Long> tagIds, String cursor, int size,
+            TemplateSearchMode searchMode
+    ) {
+        validateCursorSize(size);
+        TemplateFilter templateFilter = TemplateFilter.of(memberId, keyword, categoryId, tagIds, searchMode);
+        List<Template> templates = templateService.findAllByCursor(templateFilter, decodeCursor(cursor), size + 1);
+        if (templates.size() <= size) {
+            return new FindAllTemplatesCursorResponse(null, makeTemplateItems(templates));
+        }
+        List<Template> content = templates.subList(0, size);
+        String nextCursor = TemplateCursor.from(content.get(size - 1)).encode();
+        return new FindAllTemplatesCursorResponse(nextCursor, makeTemplateItems(content));
+    }
+
+    private void validateCursorSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new CodeZapException(
+                    HttpStatus.BAD_REQUEST, "템플릿 개수는 1 이상 " + MAX_CURSOR_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    private TemplateCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        return TemplateCursor.decode(cursor);
+    }
+
+    private List<FindAllTemplateItemResponse> makeTemplateItems(List<Template> templates) {
+        return makeTemplateItemsByIds(templates.stream()
+                .map(Template::getId)
+                .toList());
+    }
+
+    private List<FindAllTemplateItemResponse> makeTemplateItemsByIds(List<Long> templateIds) {
+        Map<Long, TemplateSummary> templateSummaries = templateSummaryService.getAllByTemplateIds(templateIds);
+        return templateIds.stream()
+                .map(templateSummaries::get)
+                .filter(Objects::nonNull)
+                .map(FindAllTemplateItemResponse::from)
+                .toList();
+    }
+
+    @Transactional
+    public List<Long> rebuildSummaries(Long lastTemplateId, int batchSize) {
+        List<Template> templates = templateService.getAllAfter(lastTemplateId, batchSize);
+        List<Long> templateIds = templates.stream()
+                .map(Template::getId)
+                .toList();
+        templateSummaryService.refreshAll(
+                templates,
+                templateTagService.getAllByTemplateIds(templateIds),
+                thumbnailService.getAllByTemplateIds(templateIds)
+        );
+        return templateIds;
+    }
+
     @Transactional
     public void update(Member member, Long templateId, UpdateTemplateRequest updateTemplateRequest, Category category) {
         Template template = templateService.updateTemplate(member, templateId, updateTemplateRequest, category);
         templateTagService.updateTags(template, updateTemplateRequest.tags());
         Thumbnail thumbnail = thumbnailService.getByTemplate(template);
         sourceCodeService.updateSourceCodes(updateTemplateRequest, template, thumbnail);
+        List<Tag> tags = templateTagService.getByTemplate(template);
+        templateSummaryService.refresh(template, tags, FindThumbnailResponse.from(thumbnail.getSourceCode()));
+        templateEventService.publish(template, TemplateEventType.UPDATED);
+        templateSearchGeneration.advance(member.getId());
     }
 
     @Transactional
     public void deleteByMemberAndIds(Member member, List<Long> ids) {
+        templateSummaryService.deleteByTemplateIds(ids);
         thumbnailService.deleteByTemplateIds(ids);
         sourceCodeService.deleteByIds(ids);
-        templateTagService.deleteByIds(ids);
+        templateTagService.deleteByMemberAndIds(member, ids);
         templateService.deleteByMemberAndIds(member, ids);
+        templateEventService.publishAll(member, ids, TemplateEventType.DELETED);
+        templateSearchGeneration.advance(member.getId());
     }
 }
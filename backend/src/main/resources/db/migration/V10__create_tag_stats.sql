@@ -0,0 +1,13 @@
+CREATE TABLE tag_stats
+(
+    tag_id           BIGINT      NOT NULL,
+    usage_count      BIGINT      NOT NULL,
+    trend_score      DOUBLE      NOT NULL,
+    trend_updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (tag_id)
+) ENGINE=InnoDB;
+
+INSERT INTO tag_stats (tag_id, usage_count, trend_score, trend_updated_at)
+SELECT tag_id, COUNT(*), 0, NOW(6)
+FROM template_tag
+GROUP BY tag_id;
@@ -0,0 +1,11 @@
+CREATE TABLE template_related
+(
+    template_id         BIGINT      NOT NULL,
+    ranking             INT         NOT NULL,
+    related_template_id BIGINT      NOT NULL,
+    score               DOUBLE      NOT NULL,
+    computed_at         DATETIME(6) NOT NULL,
+    PRIMARY KEY (template_id, ranking)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_template_related_computed_at ON template_related (computed_at);
@@ -0,0 +1,9 @@
+ALTER TABLE template_event DROP COLUMN attempts;
+
+CREATE TABLE template_event_offset
+(
+    consumer_id   VARCHAR(36) NOT NULL,
+    last_event_id BIGINT      NOT NULL,
+    heartbeat_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (consumer_id)
+) ENGINE=InnoDB;
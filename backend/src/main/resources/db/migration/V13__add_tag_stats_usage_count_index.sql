@@ -0,0 +1 @@
+CREATE INDEX idx_tag_stats_usage_count_tag_id ON tag_stats (usage_count DESC, tag_id);
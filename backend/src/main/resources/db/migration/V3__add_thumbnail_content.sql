@@ -0,0 +1,6 @@
+ALTER TABLE source_code ADD COLUMN thumbnail_content TEXT;
+
+UPDATE source_code
+SET thumbnail_content = SUBSTRING_INDEX(content, '\n', 5);
+
+ALTER TABLE source_code MODIFY thumbnail_content TEXT NOT NULL;
@@ -0,0 +1,42 @@
+CREATE TABLE template_summary
+(
+    template_id         BIGINT       NOT NULL,
+    member_id           BIGINT       NOT NULL,
+    member_name         VARCHAR(255) NOT NULL,
+    category_id         BIGINT       NOT NULL,
+    title               VARCHAR(255) NOT NULL,
+    description_excerpt VARCHAR(255),
+    tags                JSON         NOT NULL,
+    thumbnail_filename  VARCHAR(255),
+    thumbnail_content   TEXT,
+    created_at          DATETIME(6)  NOT NULL,
+    modified_at         DATETIME(6)  NOT NULL,
+    PRIMARY KEY (template_id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_template_summary_member_modified_at ON template_summary (member_id, modified_at);
+CREATE INDEX idx_template_summary_category_modified_at ON template_summary (category_id, modified_at);
+
+INSERT INTO template_summary (template_id, member_id, member_name, category_id, title, description_excerpt, tags,
+                              thumbnail_filename, thumbnail_content, created_at, modified_at)
+SELECT t.id,
+       t.member_id,
+       m.name,
+       t.category_id,
+       t.title,
+       LEFT(t.description, 255),
+       COALESCE(
+               (SELECT JSON_ARRAYAGG(JSON_OBJECT('id', tg.id, 'name', tg.name))
+                FROM template_tag tt
+                         JOIN tag tg ON tg.id = tt.tag_id
+                WHERE tt.template_id = t.id),
+               JSON_ARRAY()
+       ),
+       sc.filename,
+       sc.thumbnail_content,
+       t.created_at,
+       t.modified_at
+FROM template t
+         JOIN member m ON m.id = t.member_id
+         LEFT JOIN thumbnail th ON th.template_id = t.id
+         LEFT JOIN source_code sc ON sc.id = th.source_code_id;
@@ -0,0 +1,3 @@
+CREATE INDEX idx_template_modified_at_id ON template (modified_at, id);
+CREATE INDEX idx_template_member_modified_at_id ON template (member_id, modified_at, id);
+CREATE INDEX idx_template_category_modified_at_id ON template (category_id, modified_at, id);
@@ -0,0 +1,11 @@
+ALTER TABLE template_summary
+    ADD COLUMN revision BIGINT NOT NULL DEFAULT 1,
+    ADD COLUMN synced_at DATETIME(6) NULL;
+
+UPDATE template_summary
+SET synced_at = modified_at;
+
+ALTER TABLE template_summary
+    MODIFY synced_at DATETIME(6) NOT NULL;
+
+CREATE INDEX idx_template_summary_synced_at ON template_summary (synced_at);
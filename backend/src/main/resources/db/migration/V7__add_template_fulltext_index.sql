@@ -0,0 +1,2 @@
+CREATE FULLTEXT INDEX ft_template_title_description ON template (title, description) WITH PARSER ngram;
+CREATE FULLTEXT INDEX ft_source_code_filename_content ON source_code (filename, content) WITH PARSER ngram;
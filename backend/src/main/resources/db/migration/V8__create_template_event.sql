@@ -0,0 +1,10 @@
+CREATE TABLE template_event
+(
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    template_id BIGINT      NOT NULL,
+    member_id   BIGINT      NOT NULL,
+    event_type  VARCHAR(20) NOT NULL,
+    attempts    INT         NOT NULL DEFAULT 0,
+    created_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
@@ -0,0 +1,25 @@
+ALTER TABLE tag MODIFY name VARCHAR(255) COLLATE utf8mb4_bin NOT NULL;
+
+CREATE TEMPORARY TABLE duplicate_tag AS
+SELECT t.id AS tag_id, canonical.tag_id AS canonical_tag_id
+FROM tag t
+         JOIN (SELECT name, MIN(id) AS tag_id FROM tag GROUP BY name) canonical ON canonical.name = t.name
+WHERE t.id <> canonical.tag_id;
+
+INSERT IGNORE INTO template_tag (template_id, tag_id, created_at, modified_at)
+SELECT tt.template_id, dt.canonical_tag_id, tt.created_at, tt.modified_at
+FROM template_tag tt
+         JOIN duplicate_tag dt ON dt.tag_id = tt.tag_id;
+
+DELETE tt
+FROM template_tag tt
+         JOIN duplicate_tag dt ON dt.tag_id = tt.tag_id;
+
+DELETE t
+FROM tag t
+         JOIN duplicate_tag dt ON dt.tag_id = t.id;
+
+DROP TEMPORARY TABLE duplicate_tag;
+
+ALTER TABLE tag
+    ADD CONSTRAINT uk_tag_name UNIQUE (name);
@@ -0,0 +1,54 @@
+package codezap.global.debug;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class DebugHeadersTest {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest(), response));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("성공: 설정을 켜지 않으면 디버그 헤더를 응답하지 않음")
+    void setDisabled() {
+        // given
+        DebugHeaders debugHeaders = new DebugHeaders(new DebugHeaderProperties(false));
+
+        // when
+        debugHeaders.set(DebugHeaders.TEMPLATE_SEARCH_PLAN, "database(keyword)");
+
+        // then
+        assertThat(response.getHeader(DebugHeaders.TEMPLATE_SEARCH_PLAN)).isNull();
+    }
+
+    @Test
+    @DisplayName("성공: 설정을 켜면 디버그 헤더를 응답")
+    void setEnabled() {
+        // given
+        DebugHeaders debugHeaders = new DebugHeaders(new DebugHeaderProperties(true));
+
+        // when
+        debugHeaders.set(DebugHeaders.TEMPLATE_SEARCH_PLAN, "database(keyword)");
+
+        // then
+        assertThat(response.getHeader(DebugHeaders.TEMPLATE_SEARCH_PLAN)).isEqualTo("database(keyword)");
+    }
+}
@@ -0,0 +1,45 @@
+package codezap.global.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import codezap.global.repository.JpaRepositoryTest;
+
+@JpaRepositoryTest
+class DatabaseLockExecutorTest {
+
+    private static final String LOCK_NAME = "database_lock_executor_test";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("성공: 다른 세션이 락을 잡고 있는 동안에는 작업을 실행하지 않음")
+    void executeIfAcquired() {
+        // given
+        DatabaseLockExecutor databaseLockExecutor = new DatabaseLockExecutor(dataSource);
+        AtomicBoolean nestedExecuted = new AtomicBoolean();
+        AtomicBoolean nestedAcquired = new AtomicBoolean();
+
+        // when
+        boolean acquired = databaseLockExecutor.executeIfAcquired(LOCK_NAME, () -> nestedAcquired.set(
+                databaseLockExecutor.executeIfAcquired(LOCK_NAME, () -> nestedExecuted.set(true))));
+        boolean acquiredAfterRelease = databaseLockExecutor.executeIfAcquired(LOCK_NAME, () -> { });
+
+        // then
+        assertAll(
+                () -> assertThat(acquired).isTrue(),
+                () -> assertThat(nestedAcquired).isFalse(),
+                () -> assertThat(nestedExecuted).isFalse(),
+                () -> assertThat(acquiredAfterRelease).isTrue()
+        );
+    }
+}
@@ -0,0 +1,65 @@
+package codezap.search.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CodeTokenizerTest {
+
+    @Test
+    @DisplayName("성공: camelCase, snake_case, 약어를 단어 단위로 분리")
+    void tokenizeIdentifierParts() {
+        // given
+        CodeTokenizer codeTokenizer = new CodeTokenizer();
+
+        // when
+        List<Identifier> identifiers = codeTokenizer.tokenizeIdentifiers("parseHTTPRequest(USER_NAME, utf8String);");
+
+        // then
+        assertThat(identifiers).containsExactly(
+                new Identifier(List.of("parse", "http", "request")),
+                new Identifier(List.of("user", "name")),
+                new Identifier(List.of("utf8", "string"))
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 분리한 단어의 원문 위치를 함께 응답")
+    void tokenizeWithOffset() {
+        // given
+        CodeTokenizer codeTokenizer = new CodeTokenizer();
+
+        // when
+        List<Token> tokens = codeTokenizer.tokenize("a.findById");
+
+        // then
+        assertThat(tokens).containsExactly(
+                new Token("a", 0, 1),
+                new Token("find", 2, 6),
+                new Token("by", 6, 8),
+                new Token("id", 8, 10)
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 파일 확장자에 따라 kebab-case를 하나의 식별자로 분리")
+    void tokenizeByLanguage() {
+        // given
+        String text = "font-size";
+
+        // when
+        List<Identifier> stylesheetIdentifiers = CodeTokenizer.forFilename("style.css").tokenizeIdentifiers(text);
+        List<Identifier> javaIdentifiers = CodeTokenizer.forFilename("Main.java").tokenizeIdentifiers(text);
+
+        // then
+        assertAll(
+                () -> assertThat(stylesheetIdentifiers).containsExactly(new Identifier(List.of("font", "size"))),
+                () -> assertThat(javaIdentifiers).containsExactly(
+                        new Identifier(List.of("font")), new Identifier(List.of("size")))
+        );
+    }
+}
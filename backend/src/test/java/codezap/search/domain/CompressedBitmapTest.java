@@ -0,0 +1,79 @@
+package codezap.search.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CompressedBitmapTest {
+
+    @Test
+    @DisplayName("성공: 추가한 값은 중복 없이 정렬되어 조회")
+    void add() {
+        // given
+        CompressedBitmap bitmap = new CompressedBitmap();
+
+        // when
+        bitmap.add(70_000L);
+        bitmap.add(3L);
+        boolean added = bitmap.add(3L);
+
+        // then
+        assertAll(
+                () -> assertThat(added).isFalse(),
+                () -> assertThat(bitmap.cardinality()).isEqualTo(2),
+                () -> assertThat(bitmap.toArray()).containsExactly(3L, 70_000L)
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 밀집된 값을 추가하고 삭제해도 값이 유지")
+    void addAndRemoveDenseValues() {
+        // given
+        CompressedBitmap bitmap = CompressedBitmap.of(LongStream.range(0, 10_000).toArray());
+
+        // when
+        LongStream.range(0, 10_000).filter(value -> value % 2 == 0).forEach(bitmap::remove);
+
+        // then
+        assertAll(
+                () -> assertThat(bitmap.cardinality()).isEqualTo(5_000),
+                () -> assertThat(bitmap.contains(9_999L)).isTrue(),
+                () -> assertThat(bitmap.contains(9_998L)).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 교집합")
+    void and() {
+        // given
+        CompressedBitmap multiplesOfTwo = CompressedBitmap.of(
+                LongStream.range(0, 100_000).filter(value -> value % 2 == 0).toArray());
+        CompressedBitmap multiplesOfThree = CompressedBitmap.of(
+                LongStream.range(0, 100_000).filter(value -> value % 3 == 0).toArray());
+
+        // when
+        CompressedBitmap intersection = multiplesOfTwo.and(multiplesOfThree);
+
+        // then
+        assertThat(intersection.toArray())
+                .containsExactly(LongStream.range(0, 100_000).filter(value -> value % 6 == 0).toArray());
+    }
+
+    @Test
+    @DisplayName("성공: 모든 값을 삭제하면 비어 있음")
+    void removeAll() {
+        // given
+        CompressedBitmap bitmap = CompressedBitmap.of(1L, 2L);
+
+        // when
+        bitmap.remove(1L);
+        bitmap.remove(2L);
+
+        // then
+        assertThat(bitmap.isEmpty()).isTrue();
+    }
+}
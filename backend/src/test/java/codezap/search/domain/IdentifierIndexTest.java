@@ -0,0 +1,66 @@
+package codezap.search.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import codezap.template.dto.SourceCodeDocument;
+
+class IdentifierIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 11, 11, 12, 0);
+
+    @Test
+    @DisplayName("성공: 표기법이 달라도 같은 단어로 이루어진 식별자로 조회")
+    void findTemplateIdsAcrossNamingConventions() {
+        // given
+        IdentifierIndex identifierIndex = new IdentifierIndex();
+        identifierIndex.put(new SourceCodeDocument(1L, 10L, "User.java", "String userName;", NOW));
+        identifierIndex.put(new SourceCodeDocument(2L, 20L, "user.py", "user_name = None", NOW));
+        identifierIndex.put(new SourceCodeDocument(3L, 30L, "name.py", "name = user", NOW));
+
+        // when & then
+        assertThat(identifierIndex.findTemplateIds("user_name").toArray()).containsExactly(10L, 20L);
+    }
+
+    @Test
+    @DisplayName("성공: 식별자의 연속된 일부 단어로 조회")
+    void findTemplateIdsByIdentifierParts() {
+        // given
+        IdentifierIndex identifierIndex = new IdentifierIndex();
+        identifierIndex.put(new SourceCodeDocument(1L, 10L, "a.java", "repository.findById(id);", NOW));
+        identifierIndex.put(new SourceCodeDocument(2L, 20L, "b.java", "repository.fetchById(id);", NOW));
+        identifierIndex.put(new SourceCodeDocument(3L, 30L, "c.java", "findAll(); getById(); byId();", NOW));
+
+        // when & then
+        assertAll(
+                () -> assertThat(identifierIndex.findTemplateIds("ById").toArray()).containsExactly(10L, 20L, 30L),
+                () -> assertThat(identifierIndex.findTemplateIds("findById").toArray()).containsExactly(10L)
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 수정하거나 삭제한 소스 코드는 이전 내용으로 조회되지 않음")
+    void putAndRemove() {
+        // given
+        IdentifierIndex identifierIndex = new IdentifierIndex();
+        identifierIndex.put(new SourceCodeDocument(1L, 10L, "a.java", "oldName", NOW));
+        identifierIndex.put(new SourceCodeDocument(2L, 20L, "b.java", "otherName", NOW));
+
+        // when
+        identifierIndex.put(new SourceCodeDocument(1L, 10L, "a.java", "newName", NOW.plusSeconds(1)));
+        identifierIndex.removeByTemplateId(20L);
+
+        // then
+        assertAll(
+                () -> assertThat(identifierIndex.findTemplateIds("oldName").isEmpty()).isTrue(),
+                () -> assertThat(identifierIndex.findTemplateIds("new_name").toArray()).containsExactly(10L),
+                () -> assertThat(identifierIndex.findTemplateIds("otherName").isEmpty()).isTrue(),
+                () -> assertThat(identifierIndex.size()).isEqualTo(1)
+        );
+    }
+}
@@ -0,0 +1,76 @@
+package codezap.search.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LongPostingListTest {
+
+    @Test
+    @DisplayName("성공: 추가한 값은 중복 없이 정렬되어 저장")
+    void add() {
+        // given
+        LongPostingList postingList = new LongPostingList();
+
+        // when
+        postingList.add(5L);
+        postingList.add(1L);
+        postingList.add(3L);
+        boolean added = postingList.add(3L);
+
+        // then
+        assertAll(
+                () -> assertThat(added).isFalse(),
+                () -> assertThat(postingList.toArray()).containsExactly(1L, 3L, 5L)
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 값 삭제")
+    void remove() {
+        // given
+        LongPostingList postingList = LongPostingList.of(1L, 2L, 3L);
+
+        // when
+        boolean removed = postingList.remove(2L);
+
+        // then
+        assertAll(
+                () -> assertThat(removed).isTrue(),
+                () -> assertThat(postingList.contains(2L)).isFalse(),
+                () -> assertThat(postingList.toArray()).containsExactly(1L, 3L)
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 비슷한 크기의 목록 교집합")
+    void intersectByMerge() {
+        // given
+        LongPostingList first = LongPostingList.of(1L, 2L, 4L, 6L, 8L);
+        LongPostingList second = LongPostingList.of(2L, 3L, 6L, 9L);
+
+        // when
+        LongPostingList intersection = first.intersect(second);
+
+        // then
+        assertThat(intersection.toArray()).containsExactly(2L, 6L);
+    }
+
+    @Test
+    @DisplayName("성공: 크기 차이가 큰 목록 교집합")
+    void intersectBySearch() {
+        // given
+        LongPostingList small = LongPostingList.of(7L, 500L, 1001L);
+        LongPostingList large = LongPostingList.of(LongStream.range(0, 1000).toArray());
+
+        // when
+        LongPostingList intersection = small.intersect(large);
+
+        // then
+        assertThat(intersection.toArray()).containsExactly(7L, 500L);
+    }
+}
@@ -0,0 +1,138 @@
+package codezap.search.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import codezap.search.dto.TemplateSearchDocument;
+import codezap.template.dto.SourceCodeDocument;
+
+class RelevanceIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 11, 11, 12, 0);
+
+    @Test
+    @DisplayName("성공: 템플릿명에 일치한 템플릿이 소스 코드에 일치한 템플릿보다 먼저 조회")
+    void searchRanksTitleMatchFirst() {
+        // given
+        RelevanceIndex relevanceIndex = new RelevanceIndex(new TextTokenizer());
+        relevanceIndex.put(document(1L, 1L, "Spring 설정", "설명", "application.yml", "server: port"));
+        relevanceIndex.put(document(2L, 1L, "설정 모음", "설명", "Config.java", "class Spring {}"));
+
+        // when
+        RelevancePage relevancePage = relevanceIndex.search("spring", null, null, null, 0, 20);
+
+        // then
+        assertAll(
+                () -> assertThat(relevancePage.totalElements()).isEqualTo(2),
+                () -> assertThat(relevancePage.hits()).extracting(RelevanceHit::templateId).containsExactly(1L, 2L)
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 키워드의 단어 중 하나라도 포함하면 조회")
+    void searchMatchesAnyTerm() {
+        // given
+        RelevanceIndex relevanceIndex = new RelevanceIndex(new TextTokenizer());
+        relevanceIndex.put(document(1L, 1L, "java stream", "", "a.java", ""));
+        relevanceIndex.put(document(2L, 1L, "kotlin flow", "", "b.kt", ""));
+        relevanceIndex.put(document(3L, 1L, "python", "", "c.py", ""));
+
+        // when
+        RelevancePage relevancePage = relevanceIndex.search("stream flow", null, null, null, 0, 20);
+
+        // then
+        assertThat(relevancePage.hits()).extracting(RelevanceHit::templateId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("성공: 멤버, 카테고리, 태그 조건에 맞는 템플릿만 조회")
+    void searchWithFilter() {
+        // given
+        RelevanceIndex relevanceIndex = new RelevanceIndex(new TextTokenizer());
+        relevanceIndex.put(new TemplateSearchDocument(1L, 1L, 10L, List.of(100L, 200L), "java", "", List.of()));
+        relevanceIndex.put(new TemplateSearchDocument(2L, 1L, 10L, List.of(100L), "java", "", List.of()));
+        relevanceIndex.put(new TemplateSearchDocument(3L, 2L, 10L, List.of(100L, 200L), "java", "", List.of()));
+
+        // when
+        RelevancePage relevancePage = relevanceIndex.search("java", 1L, 10L, List.of(100L, 200L), 0, 20);
+
+        // then
+        assertThat(relevancePage.hits()).extracting(RelevanceHit::templateId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("성공: 일치한 위치를 강조한 발췌 응답")
+    void searchWithHighlight() {
+        // given
+        RelevanceIndex relevanceIndex = new RelevanceIndex(new TextTokenizer());
+        relevanceIndex.put(document(1L, 1L, "제목", "설명", "Main.java", "public static void main(String[] args)"));
+
+        // when
+        RelevanceHit relevanceHit = relevanceIndex.search("MAIN", null, null, null, 0, 20).hits().get(0);
+
+        // then
+        Highlight contentHighlight = relevanceHit.highlights().stream()
+                .filter(highlight -> highlight.field() == SearchField.CONTENT)
+                .findFirst()
+                .orElseThrow();
+        HighlightRange range = contentHighlight.ranges().get(0);
+        assertAll(
+                () -> assertThat(contentHighlight.filename()).isEqualTo("Main.java"),
+                () -> assertThat(contentHighlight.snippet().substring(range.start(), range.end())).isEqualTo("main")
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 페이지 범위의 결과만 조회하고 전체 개수 응답")
+    void searchWithOffset() {
+        // given
+        RelevanceIndex relevanceIndex = new RelevanceIndex(new TextTokenizer());
+        relevanceIndex.put(document(1L, 1L, "java", "", "a", ""));
+        relevanceIndex.put(document(2L, 1L, "java", "", "b", ""));
+        relevanceIndex.put(document(3L, 1L, "java", "", "c", ""));
+
+        // when
+        RelevancePage relevancePage = relevanceIndex.search("java", null, null, null, 1, 1);
+
+        // then
+        assertAll(
+                () -> assertThat(relevancePage.totalElements()).isEqualTo(3),
+                () -> assertThat(relevancePage.hits()).extracting(RelevanceHit::templateId).containsExactly(2L)
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 수정한 템플릿은 이전 내용으로 조회되지 않고 삭제한 템플릿은 조회되지 않음")
+    void putAndRemove() {
+        // given
+        RelevanceIndex relevanceIndex = new RelevanceIndex(new TextTokenizer());
+        relevanceIndex.put(document(1L, 1L, "old", "", "a", ""));
+        relevanceIndex.put(document(2L, 1L, "other", "", "b", ""));
+
+        // when
+        relevanceIndex.put(document(1L, 1L, "new", "", "a", ""));
+        relevanceIndex.remove(2L);
+
+        // then
+        assertAll(
+                () -> assertThat(relevanceIndex.search("old", null, null, null, 0, 20).hits()).isEmpty(),
+                () -> assertThat(relevanceIndex.search("new", null, null, null, 0, 20).hits()).hasSize(1),
+                () -> assertThat(relevanceIndex.search("other", null, null, null, 0, 20).hits()).isEmpty(),
+                () -> assertThat(relevanceIndex.size()).isEqualTo(1)
+        );
+    }
+
+    private TemplateSearchDocument document(
+            long templateId, long memberId, String title, String description, String filename, String content
+    ) {
+        SourceCodeDocument sourceCode = new SourceCodeDocument(templateId, templateId, filename, content, NOW);
+        return new TemplateSearchDocument(
+                templateId, memberId, 1L, List.of(), title, description, List.of(sourceCode));
+    }
+}
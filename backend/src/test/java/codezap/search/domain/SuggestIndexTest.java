@@ -0,0 +1,106 @@
+package codezap.search.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SuggestIndexTest {
+
+    @Test
+    @DisplayName("성공: 대소문자 구분 없이 prefix로 시작하는 템플릿명을 이름순으로 조회")
+    void findTitles() {
+        // given
+        SuggestIndex suggestIndex = new SuggestIndex();
+        suggestIndex.put(1L, 1L, "Spring Transaction", List.of());
+        suggestIndex.put(2L, 1L, "spring cache", List.of());
+        suggestIndex.put(3L, 1L, "Java Stream", List.of());
+
+        // when
+        List<Suggestion> suggestions = suggestIndex.findTitles(1L, "SPR", 10);
+
+        // then
+        assertThat(suggestions).containsExactly(
+                new Suggestion(2L, "spring cache"),
+                new Suggestion(1L, "Spring Transaction")
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 다른 멤버의 템플릿명은 조회되지 않음")
+    void findTitlesByMember() {
+        // given
+        SuggestIndex suggestIndex = new SuggestIndex();
+        suggestIndex.put(1L, 1L, "spring", List.of());
+        suggestIndex.put(2L, 2L, "spring", List.of());
+
+        // when & then
+        assertAll(
+                () -> assertThat(suggestIndex.findTitles(1L, "s", 10)).containsExactly(new Suggestion(1L, "spring")),
+                () -> assertThat(suggestIndex.findTitles(3L, "s", 10)).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 추천 개수만큼만 조회하고 빈 prefix는 조회하지 않음")
+    void findTitlesWithLimit() {
+        // given
+        SuggestIndex suggestIndex = new SuggestIndex();
+        suggestIndex.put(1L, 1L, "a1", List.of());
+        suggestIndex.put(2L, 1L, "a2", List.of());
+        suggestIndex.put(3L, 1L, "a3", List.of());
+
+        // when & then
+        assertAll(
+                () -> assertThat(suggestIndex.findTitles(1L, "a", 2)).hasSize(2),
+                () -> assertThat(suggestIndex.findTitles(1L, " ", 10)).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 여러 템플릿에 포함된 태그는 한 번만 조회되고 모든 템플릿이 삭제되면 조회되지 않음")
+    void findTagsWithReferenceCount() {
+        // given
+        SuggestIndex suggestIndex = new SuggestIndex();
+        Suggestion spring = new Suggestion(10L, "spring");
+        suggestIndex.put(1L, 1L, "title1", List.of(spring));
+        suggestIndex.put(2L, 1L, "title2", List.of(spring, new Suggestion(20L, "sql")));
+
+        // when
+        List<Suggestion> beforeRemove = suggestIndex.findTags(1L, "s", 10);
+        suggestIndex.remove(1L);
+        List<Suggestion> afterFirstRemove = suggestIndex.findTags(1L, "sp", 10);
+        suggestIndex.remove(2L);
+        List<Suggestion> afterSecondRemove = suggestIndex.findTags(1L, "s", 10);
+
+        // then
+        assertAll(
+                () -> assertThat(beforeRemove).containsExactly(spring, new Suggestion(20L, "sql")),
+                () -> assertThat(afterFirstRemove).containsExactly(spring),
+                () -> assertThat(afterSecondRemove).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 수정한 템플릿은 이전 템플릿명과 태그로 조회되지 않음")
+    void putReplacesPreviousTemplate() {
+        // given
+        SuggestIndex suggestIndex = new SuggestIndex();
+        suggestIndex.put(1L, 1L, "old title", List.of(new Suggestion(10L, "old")));
+
+        // when
+        suggestIndex.put(1L, 1L, "new title", List.of(new Suggestion(20L, "new")));
+
+        // then
+        assertAll(
+                () -> assertThat(suggestIndex.findTitles(1L, "old", 10)).isEmpty(),
+                () -> assertThat(suggestIndex.findTags(1L, "old", 10)).isEmpty(),
+                () -> assertThat(suggestIndex.findTitles(1L, "new", 10))
+                        .containsExactly(new Suggestion(1L, "new title")),
+                () -> assertThat(suggestIndex.findTags(1L, "new", 10)).containsExactly(new Suggestion(20L, "new"))
+        );
+    }
+}
@@ -0,0 +1,129 @@
+package codezap.search.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TemplateBitmapIndexTest {
+
+    private TemplateBitmapIndex templateBitmapIndex;
+
+    @BeforeEach
+    void setUp() {
+        templateBitmapIndex = new TemplateBitmapIndex();
+        templateBitmapIndex.putTemplate(1L, 100L, 1000L);
+        templateBitmapIndex.putTemplate(2L, 100L, 2000L);
+        templateBitmapIndex.putTemplate(3L, 200L, 1000L);
+        templateBitmapIndex.addTags(1L, List.of(10L, 20L));
+        templateBitmapIndex.addTags(2L, List.of(10L, 20L));
+        templateBitmapIndex.addTags(3L, List.of(20L));
+    }
+
+    @Test
+    @DisplayName("성공: 모든 태그를 가진 템플릿 조회")
+    void findTemplateIdsWithAllTags() {
+        // when
+        long[] templateIds = templateBitmapIndex.findTemplateIds(null, null, List.of(10L, 20L));
+
+        // then
+        assertThat(templateIds).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("성공: 회원, 카테고리, 태그 조건을 모두 만족하는 템플릿 조회")
+    void findTemplateIdsWithMemberAndCategory() {
+        // when
+        long[] templateIds = templateBitmapIndex.findTemplateIds(100L, 1000L, List.of(20L));
+
+        // then
+        assertThat(templateIds).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("성공: 존재하지 않는 태그가 포함되면 빈 결과")
+    void findTemplateIdsWithUnknownTag() {
+        // when
+        long[] templateIds = templateBitmapIndex.findTemplateIds(null, null, List.of(10L, 30L));
+
+        // then
+        assertThat(templateIds).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 카테고리를 변경하면 이전 카테고리에서 제외")
+    void putTemplateReplacesScope() {
+        // when
+        templateBitmapIndex.putTemplate(1L, 100L, 2000L);
+
+        // then
+        assertThat(templateBitmapIndex.findTemplateIds(null, 1000L, List.of(20L))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("성공: 삭제한 템플릿은 조회되지 않음")
+    void removeTemplate() {
+        // when
+        templateBitmapIndex.removeTemplate(2L);
+
+        // then
+        assertThat(templateBitmapIndex.findTemplateIds(100L, null, List.of(10L))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("성공: 템플릿 수가 적은 조건부터 교집합한 ID로 실행 계획 생성")
+    void planWithTemplateIds() {
+        // when
+        TemplateSearchPlan searchPlan = templateBitmapIndex.plan(null, 1000L, List.of(20L), false, 10);
+
+        // then
+        assertAll(
+                () -> assertThat(searchPlan.usesTemplateIds()).isTrue(),
+                () -> assertThat(searchPlan.templateIds()).containsExactly(1L, 3L),
+                () -> assertThat(searchPlan.description()).isEqualTo("ids(2; category:1000=2,tag:20=3)")
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 키워드가 있고 가장 적은 조건도 후보가 많으면 데이터베이스 실행 계획 생성")
+    void planKeywordFirst() {
+        // when
+        TemplateSearchPlan searchPlan = templateBitmapIndex.plan(null, null, List.of(20L), true, 2);
+
+        // then
+        assertAll(
+                () -> assertThat(searchPlan.usesTemplateIds()).isFalse(),
+                () -> assertThat(searchPlan.description()).isEqualTo("database(keyword-first; tag:20=3)")
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 교집합한 후보가 많으면 데이터베이스 실행 계획 생성")
+    void planWithTooManyCandidates() {
+        // when
+        TemplateSearchPlan searchPlan = templateBitmapIndex.plan(null, null, List.of(20L), false, 2);
+
+        // then
+        assertAll(
+                () -> assertThat(searchPlan.usesTemplateIds()).isFalse(),
+                () -> assertThat(searchPlan.description()).isEqualTo("database(candidates=3; tag:20=3)")
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 조건에 맞는 템플릿이 없는 조건이 있으면 빈 ID로 실행 계획 생성")
+    void planWithUnknownFilter() {
+        // when
+        TemplateSearchPlan searchPlan = templateBitmapIndex.plan(300L, null, List.of(20L), true, 10);
+
+        // then
+        assertAll(
+                () -> assertThat(searchPlan.templateIds()).isEmpty(),
+                () -> assertThat(searchPlan.description()).isEqualTo("ids(0; member:300=0,tag:20=3)")
+        );
+    }
+}
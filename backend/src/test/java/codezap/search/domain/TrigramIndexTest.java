@@ -0,0 +1,116 @@
+package codezap.search.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import codezap.template.dto.SourceCodeDocument;
+
+class TrigramIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 11, 11, 12, 0);
+    private static final int MAX_SIZE = 100;
+
+    @Test
+    @DisplayName("성공: 소스 코드 내용의 트라이그램을 모두 가진 소스 코드를 후보로 조회")
+    void findSourceCodeIdsByContent() {
+        // given
+        TrigramIndex trigramIndex = new TrigramIndex();
+        trigramIndex.put(new SourceCodeDocument(1L, 10L, "Service.java", "@Transactional\npublic void save()", NOW));
+        trigramIndex.put(new SourceCodeDocument(2L, 20L, "App.jsx", "useEffect(() => {}, []);", NOW));
+
+        // when & then
+        assertThat(trigramIndex.findSourceCodeIds("@transactional", MAX_SIZE))
+                .hasValueSatisfying(sourceCodeIds -> assertThat(sourceCodeIds.toArray()).containsExactly(1L));
+        assertThat(trigramIndex.findSourceCodeIds("useEffect(", MAX_SIZE))
+                .hasValueSatisfying(sourceCodeIds -> assertThat(sourceCodeIds.toArray()).containsExactly(2L));
+    }
+
+    @Test
+    @DisplayName("성공: 트라이그램은 모두 포함하지만 부분 문자열이 아닌 소스 코드도 후보에 포함")
+    void findSourceCodeIdsReturnsCandidates() {
+        // given
+        TrigramIndex trigramIndex = new TrigramIndex();
+        trigramIndex.put(new SourceCodeDocument(1L, 10L, "a.txt", "abcd bcde", NOW));
+
+        // when & then
+        assertThat(trigramIndex.findSourceCodeIds("abcde", MAX_SIZE))
+                .hasValueSatisfying(sourceCodeIds -> assertThat(sourceCodeIds.toArray()).containsExactly(1L));
+    }
+
+    @Test
+    @DisplayName("성공: 세 글자 미만 키워드는 인덱스로 후보를 줄일 수 없어 조회하지 않음")
+    void findSourceCodeIdsWithShortKeyword() {
+        // given
+        TrigramIndex trigramIndex = new TrigramIndex();
+        trigramIndex.put(new SourceCodeDocument(1L, 10L, "a.py", "if x:", NOW));
+
+        // when & then
+        assertThat(trigramIndex.findSourceCodeIds("if", MAX_SIZE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 후보가 최대 개수를 넘으면 조회하지 않음")
+    void findSourceCodeIdsOverMaxSize() {
+        // given
+        TrigramIndex trigramIndex = new TrigramIndex();
+        trigramIndex.put(new SourceCodeDocument(1L, 10L, "a.java", "sharedToken", NOW));
+        trigramIndex.put(new SourceCodeDocument(2L, 20L, "b.java", "sharedToken", NOW));
+
+        // when & then
+        assertThat(trigramIndex.findSourceCodeIds("sharedToken", 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 수정한 소스 코드는 이전 내용으로 조회되지 않음")
+    void putReplacesPreviousContent() {
+        // given
+        TrigramIndex trigramIndex = new TrigramIndex();
+        trigramIndex.put(new SourceCodeDocument(1L, 10L, "a.java", "oldContent", NOW));
+
+        // when
+        trigramIndex.put(new SourceCodeDocument(1L, 10L, "a.java", "newContent", NOW.plusSeconds(1)));
+
+        // then
+        assertThat(trigramIndex.findSourceCodeIds("oldContent", MAX_SIZE))
+                .hasValueSatisfying(sourceCodeIds -> assertThat(sourceCodeIds.isEmpty()).isTrue());
+        assertThat(trigramIndex.findSourceCodeIds("newContent", MAX_SIZE))
+                .hasValueSatisfying(sourceCodeIds -> assertThat(sourceCodeIds.toArray()).containsExactly(1L));
+    }
+
+    @Test
+    @DisplayName("성공: 이전 시점의 소스 코드는 최신 내용을 덮어쓰지 않음")
+    void putIgnoresStaleDocument() {
+        // given
+        TrigramIndex trigramIndex = new TrigramIndex();
+        trigramIndex.put(new SourceCodeDocument(1L, 10L, "a.java", "newContent", NOW));
+
+        // when
+        trigramIndex.put(new SourceCodeDocument(1L, 10L, "a.java", "oldContent", NOW.minusSeconds(1)));
+
+        // then
+        assertThat(trigramIndex.findSourceCodeIds("newContent", MAX_SIZE))
+                .hasValueSatisfying(sourceCodeIds -> assertThat(sourceCodeIds.toArray()).containsExactly(1L));
+    }
+
+    @Test
+    @DisplayName("성공: 템플릿 식별자로 소스 코드 삭제")
+    void removeByTemplateId() {
+        // given
+        TrigramIndex trigramIndex = new TrigramIndex();
+        trigramIndex.put(new SourceCodeDocument(1L, 10L, "a.java", "sharedToken", NOW));
+        trigramIndex.put(new SourceCodeDocument(2L, 10L, "b.java", "sharedToken", NOW));
+        trigramIndex.put(new SourceCodeDocument(3L, 20L, "c.java", "sharedToken", NOW));
+
+        // when
+        trigramIndex.removeByTemplateId(10L);
+
+        // then
+        assertThat(trigramIndex.findSourceCodeIds("sharedToken", MAX_SIZE))
+                .hasValueSatisfying(sourceCodeIds -> assertThat(sourceCodeIds.toArray()).containsExactly(3L));
+        assertThat(trigramIndex.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,43 @@
+package codezap.tag.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TagDictionaryTest {
+
+    @Test
+    @DisplayName("성공: 저장한 태그를 식별자와 이름 양방향으로 조회")
+    void find() {
+        // given
+        TagDictionary tagDictionary = new TagDictionary(10);
+
+        // when
+        tagDictionary.put(new Tag(1L, "Java"));
+
+        // then
+        assertAll(
+                () -> assertThat(tagDictionary.findById(1L)).map(Tag::getName).contains("Java"),
+                () -> assertThat(tagDictionary.findByName("Java")).map(Tag::getId).contains(1L),
+                () -> assertThat(tagDictionary.findById(2L)).isEmpty(),
+                () -> assertThat(tagDictionary.findByName("java")).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 최대 크기를 넘으면 일부 태그를 내보내 크기를 유지")
+    void maximumSize() {
+        // given
+        TagDictionary tagDictionary = new TagDictionary(100);
+
+        // when
+        for (long id = 1; id <= 1000; id++) {
+            tagDictionary.put(new Tag(id, "tag" + id));
+        }
+
+        // then
+        assertThat(tagDictionary.size()).isLessThanOrEqualTo(100);
+    }
+}
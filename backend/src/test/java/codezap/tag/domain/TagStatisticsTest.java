@@ -0,0 +1,94 @@
+package codezap.tag.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TagStatisticsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 10, 1, 0, 0);
+
+    @Test
+    @DisplayName("성공: 기록한 변경량을 태그별로 합산하여 꺼내고 초기화")
+    void drain() {
+        // given
+        TagStatistics tagStatistics = new TagStatistics(Duration.ofDays(7));
+        tagStatistics.record(List.of(), List.of(1L, 2L));
+        tagStatistics.record(List.of(2L), List.of(1L));
+
+        // when
+        List<TagStatDelta> deltas = tagStatistics.drain();
+
+        // then
+        assertAll(
+                () -> assertThat(deltas).containsExactlyInAnyOrder(
+                        new TagStatDelta(1L, 2, 2),
+                        new TagStatDelta(2L, 0, 1)
+                ),
+                () -> assertThat(tagStatistics.drain()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 반영에 실패한 변경량을 되돌리면 다음에 함께 꺼냄")
+    void restore() {
+        // given
+        TagStatistics tagStatistics = new TagStatistics(Duration.ofDays(7));
+        tagStatistics.record(List.of(), List.of(1L));
+        List<TagStatDelta> failedDeltas = tagStatistics.drain();
+        tagStatistics.record(List.of(), List.of(1L));
+
+        // when
+        tagStatistics.restore(failedDeltas);
+
+        // then
+        assertThat(tagStatistics.drain()).containsExactly(new TagStatDelta(1L, 2, 2));
+    }
+
+    @Test
+    @DisplayName("성공: 인기 태그는 템플릿 수 내림차순, 같으면 식별자 오름차순으로 조회")
+    void findPopular() {
+        // given
+        TagStatistics tagStatistics = new TagStatistics(Duration.ofDays(7));
+        tagStatistics.rebuild(List.of(
+                new TagStat(1L, 3, 0, NOW),
+                new TagStat(2L, 5, 0, NOW),
+                new TagStat(3L, 3, 0, NOW),
+                new TagStat(4L, 0, 0, NOW)
+        ), List.of(), NOW);
+
+        // when
+        List<TagRanking> tagRankings = tagStatistics.findPopular(10);
+
+        // then
+        assertThat(tagRankings).extracting(TagRanking::tagId).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("성공: 급상승 태그 점수는 마지막 갱신 이후 반감기마다 절반으로 감쇠")
+    void findTrending() {
+        // given
+        TagStatistics tagStatistics = new TagStatistics(Duration.ofDays(7));
+        tagStatistics.rebuild(List.of(), List.of(
+                new TagStat(1L, 100, 10, NOW.minusDays(14)),
+                new TagStat(2L, 1, 4, NOW),
+                new TagStat(3L, 1, 0, NOW)
+        ), NOW);
+
+        // when
+        List<TagRanking> tagRankings = tagStatistics.findTrending(10);
+
+        // then
+        assertAll(
+                () -> assertThat(tagRankings).extracting(TagRanking::tagId).containsExactly(2L, 1L),
+                () -> assertThat(tagRankings.get(1).trendScore()).isCloseTo(2.5, within(1e-9))
+        );
+    }
+}
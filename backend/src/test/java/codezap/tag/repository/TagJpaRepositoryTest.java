@@ -0,0 +1,84 @@
+package codezap.tag.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import codezap.global.repository.JpaRepositoryTest;
+import codezap.tag.domain.Tag;
+
+@JpaRepositoryTest
+class TagJpaRepositoryTest {
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("성공: 이미 존재하는 이름은 건너뛰고 없는 태그만 한 번에 저장")
+    void insertAllIfAbsent() {
+        // given
+        Tag savedTag = tagRepository.save(new Tag("Java"));
+
+        // when
+        tagRepository.insertAllIfAbsent(List.of("Java", "Spring", "JPA"));
+
+        // then
+        List<Tag> tags = tagRepository.findAllByNameIn(List.of("Java", "Spring", "JPA"));
+        assertAll(
+                () -> assertThat(tags).extracting(Tag::getName).containsExactlyInAnyOrder("Java", "Spring", "JPA"),
+                () -> assertThat(tags).filteredOn(tag -> tag.getName().equals("Java"))
+                        .extracting(Tag::getId)
+                        .containsExactly(savedTag.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 태그 이름은 대소문자를 구분하여 조회")
+    void findAllByNameInCaseSensitive() {
+        // given
+        tagRepository.insertAllIfAbsent(List.of("java", "Java"));
+
+        // when
+        List<Tag> tags = tagRepository.findAllByNameIn(List.of("Java"));
+
+        // then
+        assertThat(tags).extracting(Tag::getName).containsExactly("Java");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("성공: 스냅샷 이후 다른 트랜잭션이 먼저 커밋한 태그도 잠금 읽기로 조회")
+    void findAllByNameInForShareAfterConcurrentInsert() {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<String> names = List.of("Kotlin");
+
+        // when
+        List<List<Tag>> results = transactionTemplate.execute(status -> {
+            tagRepository.findAllByNameIn(names);
+            CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+                    otherStatus -> tagRepository.insertAllIfAbsent(names))).join();
+            tagRepository.insertAllIfAbsent(names);
+            return List.of(tagRepository.findAllByNameIn(names), tagRepository.findAllByNameInForShare(names));
+        });
+
+        // then
+        assertAll(
+                () -> assertThat(results.get(0)).isEmpty(),
+                () -> assertThat(results.get(1)).extracting(Tag::getName).containsExactly("Kotlin")
+        );
+    }
+}
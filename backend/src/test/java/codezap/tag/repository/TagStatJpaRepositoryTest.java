@@ -0,0 +1,61 @@
+package codezap.tag.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import codezap.global.repository.JpaRepositoryTest;
+import codezap.tag.domain.TagStat;
+import codezap.tag.domain.TagStatDelta;
+
+@JpaRepositoryTest
+class TagStatJpaRepositoryTest {
+
+    private static final Duration TREND_HALF_LIFE = Duration.ofDays(7);
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 11, 11, 12, 0);
+
+    @Autowired
+    private TagStatRepository tagStatRepository;
+
+    @Test
+    @DisplayName("성공: 템플릿 수 내림차순으로 상위 태그 통계만 조회")
+    void findAllPopular() {
+        // given
+        tagStatRepository.upsertAll(List.of(
+                new TagStatDelta(1L, 3, 0),
+                new TagStatDelta(2L, 5, 0),
+                new TagStatDelta(3L, 3, 0),
+                new TagStatDelta(4L, 1, 0)
+        ), NOW, TREND_HALF_LIFE);
+
+        // when
+        List<TagStat> tagStats = tagStatRepository.findAllPopular(PageRequest.ofSize(3));
+
+        // then
+        assertThat(tagStats).extracting(TagStat::getTagId).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("성공: 조회 시점까지 감쇠한 급상승 점수 내림차순으로 상위 태그 통계만 조회")
+    void findAllTrending() {
+        // given
+        tagStatRepository.upsertAll(List.of(new TagStatDelta(1L, 1, 10)), NOW.minusDays(14), TREND_HALF_LIFE);
+        tagStatRepository.upsertAll(List.of(
+                new TagStatDelta(2L, 1, 4),
+                new TagStatDelta(3L, 1, 1)
+        ), NOW, TREND_HALF_LIFE);
+
+        // when
+        List<TagStat> tagStats = tagStatRepository.findAllTrending(NOW, TREND_HALF_LIFE, 2);
+
+        // then
+        assertThat(tagStats).extracting(TagStat::getTagId).containsExactly(2L, 1L);
+    }
+}
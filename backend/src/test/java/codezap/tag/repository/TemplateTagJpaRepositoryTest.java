@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -14,6 +15,7 @@ import codezap.global.repository.JpaRepositoryTest;
 import codezap.member.domain.Member;
 import codezap.member.repository.MemberRepository;
 import codezap.tag.domain.Tag;
+import codezap.tag.dto.TagUsageDto;
 import codezap.template.domain.Template;
 import codezap.template.domain.TemplateTag;
 import codezap.template.repository.TemplateRepository;
@@ -80,4 +82,17 @@ class TemplateTagJpaRepositoryTest {
         assertThat(result.stream().distinct().count())
                 .isEqualTo(result.size());
     }
+
+    @Test
+    @DisplayName("성공: 회원의 템플릿에 달린 태그와 태그별 템플릿 수를 한 번에 조회")
+    void findAllTagUsagesByMemberId() {
+        // when
+        List<TagUsageDto> result = templateTagRepository.findAllTagUsagesByMemberId(member1.getId());
+
+        // then
+        assertThat(result).containsExactly(
+                new TagUsageDto(tag1.getId(), "Tag 1", 2L),
+                new TagUsageDto(tag2.getId(), "Tag 2", 2L)
+        );
+    }
 }
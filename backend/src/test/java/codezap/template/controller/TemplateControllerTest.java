@@ -34,7 +34,10 @@ import codezap.category.repository.FakeCategoryRepository;
 import codezap.category.service.CategoryService;
 import codezap.fixture.CategoryFixture;
 import codezap.fixture.MemberFixture;
+import codezap.global.debug.DebugHeaderProperties;
+import codezap.global.debug.DebugHeaders;
 import codezap.global.exception.GlobalExceptionHandler;
+import codezap.global.scheduling.DatabaseLockExecutor;
 import codezap.member.domain.Member;
 import codezap.member.dto.MemberDto;
 import codezap.member.repository.FakeMemberRepository;
@@ -44,6 +47,14 @@ import codezap.auth.encryption.PasswordEncryptor;
 import codezap.auth.encryption.RandomSaltGenerator;
 import codezap.auth.encryption.SHA2PasswordEncryptor;
 import codezap.auth.encryption.SaltGenerator;
+import codezap.search.service.RelevanceSearchService;
+import codezap.search.service.SourceCodeSearchService;
+import codezap.search.service.SuggestSearchService;
+import codezap.search.service.TemplateBitmapSearchService;
+import codezap.tag.repository.TagRepository;
+import codezap.tag.repository.TemplateTagRepository;
+import codezap.tag.service.TagDictionaryService;
+import codezap.tag.service.TagStatisticsService;
 import codezap.tag.service.TemplateTagService;
 import codezap.template.dto.request.CreateSourceCodeRequest;
 import codezap.template.dto.request.CreateTemplateRequest;
@@ -51,12 +62,22 @@ import codezap.template.dto.request.UpdateSourceCodeRequest;
 import codezap.template.dto.request.UpdateTemplateRequest;
 import codezap.template.repository.FakeSourceCodeRepository;
 import codezap.template.repository.FakeTagRepository;
+import codezap.template.repository.FakeTagStatRepository;
+import codezap.template.repository.FakeTemplateEventOffsetRepository;
+import codezap.template.repository.FakeTemplateEventRepository;
+import codezap.template.repository.FakeTemplateRelatedRepository;
 import codezap.template.repository.FakeTemplateRepository;
+import codezap.template.repository.FakeTemplateSummaryRepository;
 import codezap.template.repository.FakeTemplateTagRepository;
 import codezap.template.repository.FakeThumbnailRepository;
+import codezap.template.repository.SourceCodeRepository;
 import codezap.template.repository.TemplateRepository;
+import codezap.template.service.RelatedTemplateService;
 import codezap.template.service.SourceCodeService;
+import codezap.template.service.TemplateEventService;
+import codezap.template.service.TemplateSearchGeneration;
 import codezap.template.service.TemplateService;
+import codezap.template.service.TemplateSummaryService;
 import codezap.template.service.ThumbnailService;
 import codezap.template.service.facade.CategoryTemplateApplicationService;
 import codezap.template.service.facade.MemberTemplateApplicationService;
@@ -76,18 +97,52 @@ class TemplateControllerTest {
 
     private final SaltGenerator saltGenerator = new RandomSaltGenerator();
     private final PasswordEncryptor passwordEncryptor = new SHA2PasswordEncryptor();
-    private final TemplateService templateService = new TemplateService(templateRepository);
+    private final SourceCodeRepository sourceCodeRepository = new FakeSourceCodeRepository();
+    private final SourceCodeSearchService sourceCodeSearchService = new SourceCodeSearchService(sourceCodeRepository);
+    private final TagRepository tagRepository = new FakeTagRepository();
+    private final TemplateTagRepository templateTagRepository = new FakeTemplateTagRepository();
+    private final TagDictionaryService tagDictionaryService = new TagDictionaryService(tagRepository);
+    private final TemplateBitmapSearchService templateBitmapSearchService =
+            new TemplateBitmapSearchService(templateRepository, templateTagRepository);
+    private final TemplateService templateService =
+            new TemplateService(templateRepository, sourceCodeSearchService, templateBitmapSearchService);
     private final CategoryService categoryService = new CategoryService(categoryRepository);
 
-    private final SourceCodeService sourceCodeService = new SourceCodeService(new FakeSourceCodeRepository());
+    private final SourceCodeService sourceCodeService =
+            new SourceCodeService(sourceCodeRepository, sourceCodeSearchService);
     private final ThumbnailService thumbnailService = new ThumbnailService(new FakeThumbnailRepository());
+    private final RelatedTemplateService relatedTemplateService = new RelatedTemplateService(
+            templateRepository,
+            templateTagRepository,
+            new FakeTemplateRelatedRepository(templateRepository),
+            new DatabaseLockExecutor(null) {
+                @Override
+                public boolean executeIfAcquired(String lockName, Runnable action) {
+                    action.run();
+                    return true;
+                }
+            }
+    );
 
     private final TemplateApplicationService templateApplicationService =
             new TemplateApplicationService(
-                    new TemplateTagService(new FakeTagRepository(), new FakeTemplateTagRepository()),
+                    new TemplateTagService(
+                            tagRepository,
+                            templateTagRepository,
+                            templateBitmapSearchService,
+                            tagDictionaryService,
+                            new TagStatisticsService(new FakeTagStatRepository(), tagDictionaryService)
+                    ),
                     templateService,
                     thumbnailService,
-                    sourceCodeService
+                    sourceCodeService,
+                    new TemplateSummaryService(new FakeTemplateSummaryRepository()),
+                    new TemplateSearchGeneration(),
+                    new RelevanceSearchService(templateRepository, templateTagRepository, sourceCodeRepository),
+                    new SuggestSearchService(templateRepository, templateTagRepository),
+                    new TemplateEventService(
+                            new FakeTemplateEventRepository(), new FakeTemplateEventOffsetRepository()),
+                    new DebugHeaders(new DebugHeaderProperties(false))
             );
 
     private final CategoryTemplateApplicationService categoryTemplateApplicationService =
@@ -105,7 +160,11 @@ class TemplateControllerTest {
 
     private final MockMvc mvc =
             MockMvcBuilders.standaloneSetup(
-                            new TemplateController(memberTemplateApplicationService, templateApplicationService))
+                            new TemplateController(
+                                    memberTemplateApplicationService,
+                                    templateApplicationService,
+                                    relatedTemplateService
+                            ))
                     .setControllerAdvice(new GlobalExceptionHandler())
                     .setCustomArgumentResolvers(
                             new AuthArgumentResolver(
@@ -369,6 +428,45 @@ class TemplateControllerTest {
 //                .andExpect(jsonPath("$.templates.size()").value(2));
 //    }
 
+    @Nested
+    @DisplayName("템플릿 목록 조회 테스트")
+    class findAllTemplatesTest {
+
+        @Test
+        @DisplayName("템플릿 목록 조회 실패: 커서 조회에 필드 선택을 함께 요청")
+        void findAllTemplatesFailWithCursorAndFields() throws Exception {
+            // when & then
+            mvc.perform(get("/templates")
+                            .param("cursor", "")
+                            .param("fields", "id,title"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.detail").value("cursor와 fields는 함께 사용할 수 없습니다."));
+        }
+
+        @Test
+        @DisplayName("템플릿 목록 조회 실패: 관련도순 정렬에 식별자 검색을 함께 요청")
+        void findAllTemplatesFailWithRelevanceAndIdentifierMode() throws Exception {
+            // when & then
+            mvc.perform(get("/templates")
+                            .param("keyword", "findById")
+                            .param("sort", "relevance")
+                            .param("mode", "identifier"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.detail").value("sort=relevance와 mode=identifier는 함께 사용할 수 없습니다."));
+        }
+
+        @Test
+        @DisplayName("템플릿 목록 조회 실패: 필드 선택에 개수 생략을 함께 요청")
+        void findAllTemplatesFailWithFieldsAndWithoutCount() throws Exception {
+            // when & then
+            mvc.perform(get("/templates")
+                            .param("fields", "id,title")
+                            .param("count", "false"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.detail").value("fields와 count=false는 함께 사용할 수 없습니다."));
+        }
+    }
+
     @Nested
     @DisplayName("템플릿 단건 조회 테스트")
     class findTemplateTest {
@@ -393,6 +491,26 @@ class TemplateControllerTest {
 //                    .andExpect(jsonPath("$.tags.size()").value(2));
 //        }
 
+        @Test
+        @DisplayName("템플릿 단건 조회 성공: 바뀌지 않은 템플릿은 304 응답")
+        void findOneTemplateNotModified() throws Exception {
+            // given
+            Member member = MemberFixture.getFirstMember();
+            MemberDto memberDto = MemberDto.from(member);
+            categoryService.create(member, new CreateCategoryRequest("category"));
+            memberTemplateApplicationService.createTemplate(memberDto, createTemplateRequestWithTwoSourceCodes("title"));
+            String eTag = mvc.perform(get("/templates/1"))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getHeader(HttpHeaders.ETAG);
+
+            // when & then
+            mvc.perform(get("/templates/1")
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified());
+        }
+
         @Test
         @DisplayName("템플릿 단건 조회 실패: 존재하지 않는 템플릿 조회")
         void findOneTemplateFailWithNotFoundTemplate() throws Exception {
@@ -404,6 +522,28 @@ class TemplateControllerTest {
                     .andExpect(status().isNotFound())
                     .andExpect(jsonPath("$.detail").value("식별자 1에 해당하는 템플릿이 존재하지 않습니다."));
         }
+
+        @Test
+        @DisplayName("연관 템플릿 조회 성공: 태그가 겹치는 다른 템플릿 조회")
+        void findRelatedTemplatesSuccess() throws Exception {
+            // given
+            Member member = MemberFixture.getFirstMember();
+            MemberDto memberDto = MemberDto.from(member);
+            categoryService.create(member, new CreateCategoryRequest("category"));
+            CreateTemplateRequest templateRequest1 = createTemplateRequestWithTwoSourceCodes("title1");
+            CreateTemplateRequest templateRequest2 = createTemplateRequestWithTwoSourceCodes("title2");
+            memberTemplateApplicationService.createTemplate(memberDto, templateRequest1);
+            memberTemplateApplicationService.createTemplate(memberDto, templateRequest2);
+            relatedTemplateService.refresh();
+
+            // when & then
+            mvc.perform(get("/templates/1/related"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.templates.size()").value(1))
+                    .andExpect(jsonPath("$.templates[0].id").value(2))
+                    .andExpect(jsonPath("$.templates[0].title").value("title2"))
+                    .andExpect(jsonPath("$.templates[0].score").value(1.0));
+        }
     }
 
     @Nested
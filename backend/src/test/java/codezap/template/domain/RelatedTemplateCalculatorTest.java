@@ -0,0 +1,96 @@
+package codezap.template.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RelatedTemplateCalculatorTest {
+
+    private final ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+
+    @Test
+    @DisplayName("성공: 희소한 태그를 공유할수록 높은 유사도로 정렬")
+    void calculate() {
+        // given
+        RelatedTemplateCalculator calculator = new RelatedTemplateCalculator(10, 100, forkJoinPool);
+        Map<Long, List<Long>> tagIdsByTemplateId = Map.of(
+                1L, List.of(1L, 2L),
+                2L, List.of(1L, 2L),
+                3L, List.of(1L, 3L),
+                4L, List.of(3L),
+                5L, List.of(4L)
+        );
+
+        // when
+        RelatedTemplates relatedTemplates = calculator.calculate(tagIdsByTemplateId);
+
+        // then
+        assertAll(
+                () -> assertThat(relatedTemplates.findAllAt(0))
+                        .extracting(RelatedTemplate::relatedTemplateId)
+                        .containsExactly(2L, 3L),
+                () -> assertThat(relatedTemplates.findAllAt(0).get(0).score()).isCloseTo(1.0, within(1e-9)),
+                () -> assertThat(relatedTemplates.findAllAt(0))
+                        .extracting(RelatedTemplate::ranking)
+                        .containsExactly(1, 2),
+                () -> assertThat(relatedTemplates.findAllAt(4)).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 유사도가 같으면 식별자 순으로 최대 개수까지만 계산")
+    void calculateWithMaxRelatedSize() {
+        // given
+        RelatedTemplateCalculator calculator = new RelatedTemplateCalculator(3, 100, forkJoinPool);
+        Map<Long, List<Long>> tagIdsByTemplateId = LongStream.rangeClosed(1, 10)
+                .boxed()
+                .collect(Collectors.toMap(templateId -> templateId, templateId -> List.of(1L)));
+
+        // when
+        RelatedTemplates relatedTemplates = calculator.calculate(tagIdsByTemplateId);
+
+        // then
+        assertAll(
+                () -> assertThat(relatedTemplates.findAllAt(0))
+                        .extracting(RelatedTemplate::relatedTemplateId)
+                        .containsExactly(2L, 3L, 4L),
+                () -> assertThat(relatedTemplates.findAllAt(9))
+                        .extracting(RelatedTemplate::relatedTemplateId)
+                        .containsExactly(1L, 2L, 3L)
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 너무 흔한 태그로는 후보를 찾지 않지만 유사도에는 반영")
+    void calculateWithFrequentTag() {
+        // given
+        RelatedTemplateCalculator calculator = new RelatedTemplateCalculator(10, 2, forkJoinPool);
+        Map<Long, List<Long>> tagIdsByTemplateId = Map.of(
+                1L, List.of(1L, 2L),
+                2L, List.of(1L, 2L),
+                3L, List.of(1L),
+                4L, List.of(1L)
+        );
+
+        // when
+        RelatedTemplates relatedTemplates = calculator.calculate(tagIdsByTemplateId);
+
+        // then
+        assertAll(
+                () -> assertThat(relatedTemplates.findAllAt(0))
+                        .extracting(RelatedTemplate::relatedTemplateId)
+                        .containsExactly(2L),
+                () -> assertThat(relatedTemplates.findAllAt(0).get(0).score()).isCloseTo(1.0, within(1e-9)),
+                () -> assertThat(relatedTemplates.findAllAt(2)).isEmpty()
+        );
+    }
+}
@@ -33,4 +33,20 @@ class SourceCodeTest {
         // then
         assertThat(thumbnail).isEqualTo("1\n2\n3\n4\n5");
     }
+
+    @Test
+    @DisplayName("성공: 소스 코드 수정 시 썸네일도 함께 갱신")
+    void updateThumbnailContent() {
+        // given
+        Member member = MemberFixture.getFirstMember();
+        Category category = CategoryFixture.getFirstCategory();
+        Template template = new Template(member, "title", "description", category);
+        SourceCode sourceCode = new SourceCode(1L, template, "file", "1\n2\n3\n4\n5\n6\n", 1);
+
+        // when
+        sourceCode.updateSourceCode("file", "a\nb", 1);
+
+        // then
+        assertThat(sourceCode.getThumbnailContent()).isEqualTo("a\nb");
+    }
 }
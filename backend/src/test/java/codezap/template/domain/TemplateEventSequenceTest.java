@@ -0,0 +1,105 @@
+package codezap.template.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TemplateEventSequenceTest {
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(4);
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("성공: 빈 번호 없이 읽은 이벤트까지 오프셋을 옮김")
+    void read() {
+        // given
+        TemplateEventSequence sequence = new TemplateEventSequence(1L, INITIAL_BACKOFF, MAX_BACKOFF);
+
+        // when
+        sequence.read(events(2L, 3L, 4L), NOW);
+
+        // then
+        assertAll(
+                () -> assertThat(sequence.lastReadId()).isEqualTo(4L),
+                () -> assertThat(sequence.lastEventId()).isEqualTo(4L),
+                () -> assertThat(sequence.countGaps()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 아직 커밋되지 않았을 수 있는 빈 번호 앞에 오프셋을 남겨 둠")
+    void readKeepsOffsetBeforeGap() {
+        // given
+        TemplateEventSequence sequence = new TemplateEventSequence(1L, INITIAL_BACKOFF, MAX_BACKOFF);
+
+        // when
+        sequence.read(events(2L, 4L, 5L), NOW);
+
+        // then
+        assertAll(
+                () -> assertThat(sequence.lastReadId()).isEqualTo(5L),
+                () -> assertThat(sequence.lastEventId()).isEqualTo(2L),
+                () -> assertThat(sequence.countGaps()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 빈 번호는 건너뛰지 않고 최대 간격까지 늘려 가며 계속 다시 확인")
+    void deferGap() {
+        // given
+        TemplateEventSequence sequence = new TemplateEventSequence(1L, INITIAL_BACKOFF, MAX_BACKOFF);
+        sequence.read(events(3L), NOW);
+
+        // when
+        List<Long> beforeBackoff = sequence.findDueEventIds(NOW);
+        List<Long> afterBackoff = sequence.findDueEventIds(NOW.plusSeconds(1));
+        for (int i = 0; i < 10; i++) {
+            sequence.deferGap(2L, NOW);
+        }
+
+        // then
+        assertAll(
+                () -> assertThat(beforeBackoff).isEmpty(),
+                () -> assertThat(afterBackoff).containsExactly(2L),
+                () -> assertThat(sequence.findDueEventIds(NOW.plusSeconds(3))).isEmpty(),
+                () -> assertThat(sequence.findDueEventIds(NOW.plusSeconds(4))).containsExactly(2L),
+                () -> assertThat(sequence.lastEventId()).isEqualTo(1L)
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 보류한 이벤트를 반영할 때까지 오프셋을 그 앞에 남겨 둠")
+    void park() {
+        // given
+        TemplateEventSequence sequence = new TemplateEventSequence(1L, INITIAL_BACKOFF, MAX_BACKOFF);
+        sequence.read(events(2L, 3L, 4L), NOW);
+        sequence.applied(2L);
+        sequence.applied(4L);
+
+        // when
+        sequence.park(3L, NOW);
+        long parkedOffset = sequence.lastEventId();
+        sequence.applied(3L);
+
+        // then
+        assertAll(
+                () -> assertThat(parkedOffset).isEqualTo(2L),
+                () -> assertThat(sequence.lastEventId()).isEqualTo(4L),
+                () -> assertThat(sequence.countParked()).isZero()
+        );
+    }
+
+    private List<TemplateEvent> events(Long... ids) {
+        return Arrays.stream(ids)
+                .map(id -> new TemplateEvent(id, 1L, 1L, TemplateEventType.CREATED, NOW))
+                .toList();
+    }
+}
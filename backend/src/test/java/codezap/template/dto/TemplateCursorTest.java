@@ -0,0 +1,38 @@
+package codezap.template.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import codezap.global.exception.CodeZapException;
+
+class TemplateCursorTest {
+
+    @Test
+    @DisplayName("성공: 인코딩한 커서를 디코딩하면 같은 값")
+    void encodeAndDecode() {
+        // given
+        TemplateCursor cursor = new TemplateCursor(LocalDateTime.of(2024, 11, 11, 12, 0, 0, 123_456_000), 134L);
+
+        // when
+        TemplateCursor decoded = TemplateCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"invalid_cursor!", "MjAyNC0xMS0xMVQxMjowMA", "YWJjX2RlZg"})
+    @DisplayName("실패: 잘못된 형식의 커서")
+    void decodeFailWithInvalidCursor(String cursor) {
+        assertThatThrownBy(() -> TemplateCursor.decode(cursor))
+                .isInstanceOf(CodeZapException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+}
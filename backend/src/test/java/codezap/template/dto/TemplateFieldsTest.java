@@ -0,0 +1,48 @@
+package codezap.template.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import codezap.global.exception.CodeZapException;
+
+class TemplateFieldsTest {
+
+    @Test
+    @DisplayName("성공: 템플릿 컬럼 필드만 요청하면 요약 정보를 조회하지 않음")
+    void fromTemplateAttributes() {
+        // when
+        TemplateFields templateFields = TemplateFields.from("title, id");
+
+        // then
+        assertAll(
+                () -> assertThat(templateFields.fields()).containsExactly(TemplateField.TITLE, TemplateField.ID),
+                () -> assertThat(templateFields.templateAttributes()).containsExactly("id", "title"),
+                () -> assertThat(templateFields.requiresSummary()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 요약 필드를 요청하면 id 컬럼을 함께 조회")
+    void fromSummaryField() {
+        // when
+        TemplateFields templateFields = TemplateFields.from("tags");
+
+        // then
+        assertAll(
+                () -> assertThat(templateFields.templateAttributes()).containsExactly("id"),
+                () -> assertThat(templateFields.requiresSummary()).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("실패: 지원하지 않는 필드")
+    void fromUnknownField() {
+        assertThatThrownBy(() -> TemplateFields.from("id,name"))
+                .isInstanceOf(CodeZapException.class)
+                .hasMessage("지원하지 않는 필드 name 입니다.");
+    }
+}
@@ -0,0 +1,63 @@
+package codezap.template.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import codezap.global.exception.CodeZapException;
+
+class TemplateFilterTest {
+
+    @Test
+    @DisplayName("성공: 같은 조건이면 키워드 공백과 태그 순서가 달라도 같은 필터")
+    void normalize() {
+        // given
+        TemplateFilter templateFilter = TemplateFilter.of(1L, " java ", 2L, List.of(3L, 1L, 3L));
+
+        // when
+        TemplateFilter otherTemplateFilter = TemplateFilter.of(1L, "java", 2L, List.of(1L, 3L));
+
+        // then
+        assertThat(templateFilter).isEqualTo(otherTemplateFilter);
+    }
+
+    @Test
+    @DisplayName("성공: 빈 키워드와 빈 태그 목록은 조건 없음으로 정규화")
+    void normalizeEmptyCondition() {
+        // when
+        TemplateFilter templateFilter = TemplateFilter.of(null, "  ", null, List.of());
+
+        // then
+        assertThat(templateFilter).isEqualTo(new TemplateFilter(null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("성공: 검색 방식이 다르면 다른 필터")
+    void differentSearchMode() {
+        // given
+        TemplateFilter templateFilter = TemplateFilter.of(1L, "userName", null, null, TemplateSearchMode.IDENTIFIER);
+
+        // when
+        TemplateFilter otherTemplateFilter = TemplateFilter.of(1L, "userName", null, null);
+
+        // then
+        assertAll(
+                () -> assertThat(templateFilter).isNotEqualTo(otherTemplateFilter),
+                () -> assertThat(templateFilter.isIdentifierSearch()).isTrue(),
+                () -> assertThat(otherTemplateFilter.isIdentifierSearch()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("실패: 지원하지 않는 검색 방식")
+    void fromUnknownSearchMode() {
+        assertThatThrownBy(() -> TemplateSearchMode.from("regex"))
+                .isInstanceOf(CodeZapException.class)
+                .hasMessage("지원하지 않는 검색 방식 regex 입니다.");
+    }
+}
@@ -1,16 +1,19 @@
 package codezap.template.repository;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 
 import codezap.global.exception.CodeZapException;
 import codezap.template.domain.SourceCode;
 import codezap.template.domain.Template;
+import codezap.template.dto.SourceCodeDocument;
 
 public class FakeSourceCodeRepository implements SourceCodeRepository {
 
@@ -36,6 +39,26 @@ public class FakeSourceCodeRepository implements SourceCodeRepository {
         return sourceCodes;
     }
 
+    @Override
+    public List<SourceCodeDocument> findAllDocumentsAfter(Long lastId, Pageable pageable) {
+        return sourceCodes.stream()
+                .filter(sourceCode -> sourceCode.getId() > lastId)
+                .sorted(Comparator.comparing(SourceCode::getId))
+                .limit(pageable.getPageSize())
+                .map(SourceCodeDocument::from)
+                .toList();
+    }
+
+    @Override
+    public List<SourceCodeDocument> findAllDocumentsByTemplateIdIn(List<Long> templateIds) {
+        return sourceCodes.stream()
+                .filter(sourceCode -> templateIds.contains(sourceCode.getTemplate().getId()))
+                .sorted(Comparator.comparing((SourceCode sourceCode) -> sourceCode.getTemplate().getId())
+                        .thenComparing(SourceCode::getOrdinal))
+                .map(SourceCodeDocument::from)
+                .toList();
+    }
+
     @Override
     public List<SourceCode> findAllByTemplate(Template template) {
         return sourceCodes.stream()
@@ -1,11 +1,13 @@
 package codezap.template.repository;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 
 import codezap.global.exception.CodeZapException;
@@ -31,12 +33,38 @@ public class FakeTagRepository implements TagRepository {
     }
 
     @Override
-    public List<String> findNameByNamesIn(List<String> names) {
-        return names.stream()
-                .filter(this::existsByName)
+    public Optional<Tag> findTagById(Long id) {
+        return tags.stream().filter(tag -> Objects.equals(tag.getId(), id)).findFirst();
+    }
+
+    @Override
+    public List<Tag> findAllAfter(Long lastTagId, Pageable pageable) {
+        return tags.stream()
+                .filter(tag -> tag.getId() > lastTagId)
+                .sorted(Comparator.comparing(Tag::getId))
+                .limit(pageable.getPageSize())
                 .toList();
     }
 
+    @Override
+    public List<Tag> findAllByNameIn(List<String> names) {
+        return tags.stream()
+                .filter(tag -> names.contains(tag.getName()))
+                .toList();
+    }
+
+    @Override
+    public List<Tag> findAllByNameInForShare(List<String> names) {
+        return findAllByNameIn(names);
+    }
+
+    @Override
+    public void insertAllIfAbsent(List<String> names) {
+        names.stream()
+                .filter(name -> !existsByName(name))
+                .forEach(name -> save(new Tag(name)));
+    }
+
     @Override
     public boolean existsByName(String name) {
         return tags.stream().anyMatch(tag -> Objects.equals(tag.getName(), name));
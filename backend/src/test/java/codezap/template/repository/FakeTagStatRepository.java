@@ -0,0 +1,58 @@
+package codezap.template.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+
+import codezap.tag.domain.TagStat;
+import codezap.tag.domain.TagStatDelta;
+import codezap.tag.repository.TagStatRepository;
+
+public class FakeTagStatRepository implements TagStatRepository {
+
+    private final Map<Long, TagStat> tagStats = new LinkedHashMap<>();
+
+    @Override
+    public List<TagStat> findAllPopular(Pageable pageable) {
+        return tagStats.values().stream()
+                .filter(tagStat -> tagStat.getUsageCount() > 0)
+                .sorted(Comparator.comparingLong(TagStat::getUsageCount).reversed()
+                        .thenComparingLong(TagStat::getTagId))
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    @Override
+    public List<TagStat> findAllTrending(LocalDateTime now, Duration trendHalfLife, int size) {
+        return tagStats.values().stream()
+                .filter(tagStat -> tagStat.getTrendScore() > 0)
+                .sorted(Comparator.comparingDouble((TagStat tagStat) -> decay(tagStat, now, trendHalfLife)).reversed()
+                        .thenComparingLong(TagStat::getTagId))
+                .limit(size)
+                .toList();
+    }
+
+    @Override
+    public void upsertAll(List<TagStatDelta> deltas, LocalDateTime now, Duration trendHalfLife) {
+        deltas.forEach(delta -> tagStats.merge(
+                delta.tagId(),
+                new TagStat(delta.tagId(), delta.usageDelta(), delta.additions(), now),
+                (saved, added) -> new TagStat(
+                        saved.getTagId(),
+                        saved.getUsageCount() + added.getUsageCount(),
+                        decay(saved, now, trendHalfLife) + added.getTrendScore(),
+                        now
+                )
+        ));
+    }
+
+    private double decay(TagStat tagStat, LocalDateTime now, Duration trendHalfLife) {
+        double elapsedSeconds = Math.max(0, Duration.between(tagStat.getTrendUpdatedAt(), now).toSeconds());
+        return tagStat.getTrendScore() * Math.pow(0.5, elapsedSeconds / trendHalfLife.toSeconds());
+    }
+}
@@ -0,0 +1,40 @@
+package codezap.template.repository;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import codezap.template.domain.TemplateEventOffset;
+
+public class FakeTemplateEventOffsetRepository implements TemplateEventOffsetRepository {
+
+    private final Map<String, TemplateEventOffset> templateEventOffsets = new LinkedHashMap<>();
+
+    @Override
+    public Optional<Long> findMinLastEventIdByHeartbeatAtAfter(LocalDateTime heartbeatAt) {
+        return templateEventOffsets.values().stream()
+                .filter(templateEventOffset -> templateEventOffset.getHeartbeatAt().isAfter(heartbeatAt))
+                .map(TemplateEventOffset::getLastEventId)
+                .min(Long::compare);
+    }
+
+    @Override
+    public TemplateEventOffset save(TemplateEventOffset templateEventOffset) {
+        templateEventOffsets.put(templateEventOffset.getConsumerId(), templateEventOffset);
+        return templateEventOffset;
+    }
+
+    @Override
+    public void deleteById(String consumerId) {
+        templateEventOffsets.remove(consumerId);
+    }
+
+    @Override
+    public int deleteAllByHeartbeatAtBefore(LocalDateTime heartbeatAt) {
+        int size = templateEventOffsets.size();
+        templateEventOffsets.values().removeIf(templateEventOffset ->
+                templateEventOffset.getHeartbeatAt().isBefore(heartbeatAt));
+        return size - templateEventOffsets.size();
+    }
+}
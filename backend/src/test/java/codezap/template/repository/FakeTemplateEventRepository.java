@@ -0,0 +1,84 @@
+package codezap.template.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.domain.Pageable;
+
+import codezap.template.domain.TemplateEvent;
+
+public class FakeTemplateEventRepository implements TemplateEventRepository {
+
+    private final AtomicLong idCounter = new AtomicLong(1);
+
+    private final List<TemplateEvent> templateEvents;
+
+    public FakeTemplateEventRepository() {
+        this.templateEvents = new ArrayList<>();
+    }
+
+    @Override
+    public List<TemplateEvent> findAllAfter(Long lastEventId, Pageable pageable) {
+        return templateEvents.stream()
+                .filter(templateEvent -> templateEvent.getId() > lastEventId)
+                .sorted(Comparator.comparing(TemplateEvent::getId))
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    @Override
+    public List<TemplateEvent> findAllById(Iterable<Long> ids) {
+        List<Long> eventIds = new ArrayList<>();
+        ids.forEach(eventIds::add);
+        return templateEvents.stream()
+                .filter(templateEvent -> eventIds.contains(templateEvent.getId()))
+                .sorted(Comparator.comparing(TemplateEvent::getId))
+                .toList();
+    }
+
+    @Override
+    public long countByIdGreaterThan(Long lastEventId) {
+        return templateEvents.stream()
+                .filter(templateEvent -> templateEvent.getId() > lastEventId)
+                .count();
+    }
+
+    @Override
+    public Optional<Long> findLastId() {
+        return templateEvents.stream()
+                .map(TemplateEvent::getId)
+                .max(Comparator.naturalOrder());
+    }
+
+    @Override
+    public <S extends TemplateEvent> List<S> saveAll(Iterable<S> entities) {
+        entities.forEach(this::save);
+        return (List<S>) templateEvents;
+    }
+
+    @Override
+    public int deleteAllUpTo(Long eventId, LocalDateTime createdBefore) {
+        int size = templateEvents.size();
+        templateEvents.removeIf(templateEvent ->
+                templateEvent.getId() <= eventId && templateEvent.getCreatedAt().isBefore(createdBefore));
+        return size - templateEvents.size();
+    }
+
+    public long count() {
+        return templateEvents.size();
+    }
+
+    private void save(TemplateEvent entity) {
+        templateEvents.add(new TemplateEvent(
+                idCounter.getAndIncrement(),
+                entity.getTemplateId(),
+                entity.getMemberId(),
+                entity.getEventType(),
+                entity.getCreatedAt()
+        ));
+    }
+}
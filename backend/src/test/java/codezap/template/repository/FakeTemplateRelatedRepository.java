@@ -0,0 +1,52 @@
+package codezap.template.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import codezap.template.domain.RelatedTemplate;
+import codezap.template.dto.RelatedTemplateDto;
+
+public class FakeTemplateRelatedRepository implements TemplateRelatedRepository {
+
+    private final TemplateRepository templateRepository;
+    private final List<ComputedRelatedTemplate> relatedTemplates = new ArrayList<>();
+
+    public FakeTemplateRelatedRepository(TemplateRepository templateRepository) {
+        this.templateRepository = templateRepository;
+    }
+
+    @Override
+    public List<RelatedTemplateDto> findAllByTemplateId(Long templateId) {
+        return relatedTemplates.stream()
+                .map(ComputedRelatedTemplate::relatedTemplate)
+                .filter(relatedTemplate -> relatedTemplate.templateId() == templateId)
+                .filter(relatedTemplate -> !templateRepository
+                        .findAllWithMemberByIdIn(List.of(relatedTemplate.relatedTemplateId())).isEmpty())
+                .sorted(Comparator.comparingInt(RelatedTemplate::ranking))
+                .map(relatedTemplate -> new RelatedTemplateDto(
+                        relatedTemplate.relatedTemplateId(),
+                        templateRepository.fetchById(relatedTemplate.relatedTemplateId()).getTitle(),
+                        relatedTemplate.score()
+                ))
+                .toList();
+    }
+
+    @Override
+    public void replaceAll(List<Long> templateIds, List<RelatedTemplate> relatedTemplates, LocalDateTime computedAt) {
+        this.relatedTemplates.removeIf(computed -> templateIds.contains(computed.relatedTemplate().templateId()));
+        relatedTemplates.forEach(relatedTemplate ->
+                this.relatedTemplates.add(new ComputedRelatedTemplate(relatedTemplate, computedAt)));
+    }
+
+    @Override
+    public int deleteAllComputedBefore(LocalDateTime computedAt) {
+        int size = relatedTemplates.size();
+        relatedTemplates.removeIf(computed -> computed.computedAt().isBefore(computedAt));
+        return size - relatedTemplates.size();
+    }
+
+    private record ComputedRelatedTemplate(RelatedTemplate relatedTemplate, LocalDateTime computedAt) {
+    }
+}
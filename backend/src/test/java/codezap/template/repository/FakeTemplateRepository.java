@@ -1,18 +1,25 @@
 package codezap.template.repository;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
 
+import jakarta.persistence.Tuple;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 
 import codezap.global.exception.CodeZapException;
 import codezap.template.domain.Template;
+import codezap.template.dto.TemplateScopeDto;
 
 public class FakeTemplateRepository implements TemplateRepository {
 
@@ -32,6 +39,11 @@ public class FakeTemplateRepository implements TemplateRepository {
                 .orElseThrow(() -> new CodeZapException(HttpStatus.NOT_FOUND, "식별자 " + id + "에 해당하는 템플릿이 존재하지 않습니다."));
     }
 
+    @Override
+    public Template fetchWithDetailsById(Long id) {
+        return fetchById(id);
+    }
+
     @Override
     public boolean existsByCategoryId(Long categoryId) {
         return templates.stream().anyMatch(template -> Objects.equals(template.getCategory().getId(), categoryId));
@@ -50,6 +62,56 @@ public class FakeTemplateRepository implements TemplateRepository {
         return new PageImpl<>(pageContent, pageable, filteredTemplates.size());
     }
 
+    @Override
+    public List<Template> findAll(Specification<Template> specification, Sort sort, int limit) {
+        return templates.stream()
+                .sorted(Comparator.comparing(Template::getId).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public Slice<Template> findAllAsSlice(Specification<Template> specification, Pageable pageable) {
+        Page<Template> page = findAll(specification, pageable);
+        return new SliceImpl<>(page.getContent(), pageable, page.hasNext());
+    }
+
+    @Override
+    public Slice<Tuple> findAllAsSlice(
+            Specification<Template> specification, Pageable pageable, List<String> attributes
+    ) {
+        return new SliceImpl<>(List.of(), pageable, false);
+    }
+
+    @Override
+    public long count(Specification<Template> specification) {
+        return templates.size();
+    }
+
+    @Override
+    public List<Template> findAllWithMemberAfter(Long lastTemplateId, Pageable pageable) {
+        return templates.stream()
+                .filter(template -> template.getId() > lastTemplateId)
+                .sorted(Comparator.comparing(Template::getId))
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    @Override
+    public List<Template> findAllWithMemberByIdIn(List<Long> templateIds) {
+        return templates.stream()
+                .filter(template -> templateIds.contains(template.getId()))
+                .sorted(Comparator.comparing(Template::getId))
+                .toList();
+    }
+
+    @Override
+    public List<TemplateScopeDto> findAllScopesAfter(Long lastTemplateId, Pageable pageable) {
+        return findAllWithMemberAfter(lastTemplateId, pageable).stream()
+                .map(TemplateScopeDto::from)
+                .toList();
+    }
+
     @Override
     public List<Template> findAll() {
         return templates;
@@ -77,6 +139,10 @@ public class FakeTemplateRepository implements TemplateRepository {
         return saved;
     }
 
+    @Override
+    public void flush() {
+    }
+
     @Override
     public void deleteById(Long id) {
         templates.removeIf(template -> Objects.equals(template.getId(), id));
@@ -0,0 +1,68 @@
+package codezap.template.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import codezap.template.domain.TemplateSummary;
+import codezap.template.dto.TemplateVersion;
+
+public class FakeTemplateSummaryRepository implements TemplateSummaryRepository {
+
+    private final List<TemplateSummary> templateSummaries;
+
+    public FakeTemplateSummaryRepository() {
+        this.templateSummaries = new ArrayList<>();
+    }
+
+    @Override
+    public Optional<TemplateSummary> findById(Long templateId) {
+        return templateSummaries.stream()
+                .filter(templateSummary -> Objects.equals(templateSummary.getTemplateId(), templateId))
+                .findFirst();
+    }
+
+    @Override
+    public List<TemplateSummary> findAllByTemplateIdIn(List<Long> templateIds) {
+        return templateSummaries.stream()
+                .filter(templateSummary -> templateIds.contains(templateSummary.getTemplateId()))
+                .toList();
+    }
+
+    @Override
+    public List<TemplateSummary> findAllByCategoryId(Long categoryId) {
+        return templateSummaries.stream()
+                .filter(templateSummary -> Objects.equals(templateSummary.getCategoryId(), categoryId))
+                .toList();
+    }
+
+    @Override
+    public Optional<TemplateVersion> findVersionByTemplateId(Long templateId) {
+        return findById(templateId)
+                .map(templateSummary -> new TemplateVersion(
+                        templateSummary.getTemplateId(),
+                        templateSummary.getRevision(),
+                        templateSummary.getSyncedAt()
+                ));
+    }
+
+    @Override
+    public TemplateSummary save(TemplateSummary entity) {
+        templateSummaries.removeIf(
+                templateSummary -> Objects.equals(templateSummary.getTemplateId(), entity.getTemplateId()));
+        templateSummaries.add(entity);
+        return entity;
+    }
+
+    @Override
+    public void deleteAllByIdInBatch(Iterable<Long> templateIds) {
+        templateIds.forEach(templateId -> templateSummaries.removeIf(
+                templateSummary -> Objects.equals(templateSummary.getTemplateId(), templateId)));
+    }
+
+    @Override
+    public int deleteAllWithoutTemplate() {
+        return 0;
+    }
+}
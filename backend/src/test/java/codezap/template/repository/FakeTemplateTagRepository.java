@@ -1,9 +1,15 @@
 package codezap.template.repository;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
+import codezap.tag.domain.Tag;
+import codezap.tag.dto.TagUsageDto;
+import codezap.tag.dto.TemplateTagIdDto;
 import codezap.tag.repository.TemplateTagRepository;
 import codezap.template.domain.Template;
 import codezap.template.domain.TemplateTag;
@@ -23,6 +29,13 @@ public class FakeTemplateTagRepository implements TemplateTagRepository {
                 .toList();
     }
 
+    @Override
+    public List<TemplateTag> findAllByTemplateIdsIn(List<Long> templateIds) {
+        return templateTags.stream()
+                .filter(templateTag -> templateIds.contains(templateTag.getTemplate().getId()))
+                .toList();
+    }
+
     @Override
     public TemplateTag save(TemplateTag entity) {
         var saved = new TemplateTag(
@@ -40,6 +53,11 @@ public class FakeTemplateTagRepository implements TemplateTagRepository {
         return (List<S>) templateTags;
     }
 
+    @Override
+    public void insertAll(Template template, List<Tag> tags) {
+        tags.forEach(tag -> save(new TemplateTag(template, tag)));
+    }
+
     @Override
     public void deleteAllByTemplateId(Long id) {
         templateTags.removeIf(templateTag -> Objects.equals(templateTag.getTemplate().getId(), id));
@@ -63,4 +81,23 @@ public class FakeTemplateTagRepository implements TemplateTagRepository {
     public List<Long> findAllTemplateIdInTagIds(List<Long> tagIds, long tagSize) {
         return List.of();
     }
+
+    @Override
+    public List<TemplateTagIdDto> findAllTagIdsByTemplateIdsIn(List<Long> templateIds) {
+        return templateTags.stream()
+                .filter(templateTag -> templateIds.contains(templateTag.getTemplate().getId()))
+                .map(templateTag -> new TemplateTagIdDto(templateTag.getTemplate().getId(), templateTag.getTag().getId()))
+                .toList();
+    }
+
+    @Override
+    public List<TagUsageDto> findAllTagUsagesByMemberId(Long memberId) {
+        Map<Tag, Long> templateCounts = templateTags.stream()
+                .filter(templateTag -> Objects.equals(templateTag.getTemplate().getMember().getId(), memberId))
+                .collect(Collectors.groupingBy(TemplateTag::getTag, Collectors.counting()));
+        return templateCounts.entrySet().stream()
+                .map(entry -> new TagUsageDto(entry.getKey().getId(), entry.getKey().getName(), entry.getValue()))
+                .sorted(Comparator.comparing(TagUsageDto::tagId))
+                .toList();
+    }
 }
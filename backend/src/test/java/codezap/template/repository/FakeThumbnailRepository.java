@@ -6,11 +6,14 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 
 import codezap.global.exception.CodeZapException;
 import codezap.template.domain.Template;
 import codezap.template.domain.Thumbnail;
+import codezap.template.dto.ExploreTemplateDto;
+import codezap.template.dto.TemplateThumbnailDto;
 
 public class FakeThumbnailRepository implements ThumbnailRepository {
 
@@ -45,6 +48,32 @@ public class FakeThumbnailRepository implements ThumbnailRepository {
                 .findFirst();
     }
 
+    @Override
+    public List<TemplateThumbnailDto> findAllByTemplateIdsIn(List<Long> templateIds) {
+        return thumbnails.stream()
+                .filter(thumbnail -> templateIds.contains(thumbnail.getTemplate().getId()))
+                .map(thumbnail -> new TemplateThumbnailDto(
+                        thumbnail.getTemplate().getId(),
+                        thumbnail.getSourceCode().getFilename(),
+                        thumbnail.getSourceCode().getThumbnailContent()
+                ))
+                .toList();
+    }
+
+    @Override
+    public List<ExploreTemplateDto> findAllExploreTemplates(Pageable pageable) {
+        return thumbnails.stream()
+                .map(thumbnail -> new ExploreTemplateDto(
+                        thumbnail.getTemplate().getId(),
+                        thumbnail.getTemplate().getTitle(),
+                        thumbnail.getSourceCode().getFilename(),
+                        thumbnail.getSourceCode().getThumbnailContent(),
+                        thumbnail.getTemplate().getModifiedAt()
+                ))
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
     @Override
     public List<Thumbnail> findAll() {
         return thumbnails;
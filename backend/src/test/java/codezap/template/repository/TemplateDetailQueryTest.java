@@ -0,0 +1,91 @@
+package codezap.template.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import codezap.category.domain.Category;
+import codezap.category.repository.CategoryRepository;
+import codezap.global.repository.JpaRepositoryTest;
+import codezap.member.domain.Member;
+import codezap.member.repository.MemberRepository;
+import codezap.tag.domain.Tag;
+import codezap.tag.repository.TagRepository;
+import codezap.tag.repository.TemplateTagRepository;
+import codezap.template.domain.SourceCode;
+import codezap.template.domain.Template;
+import codezap.template.domain.TemplateTag;
+
+@JpaRepositoryTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TemplateDetailQueryTest {
+
+    @Autowired
+    private TemplateRepository templateRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private SourceCodeRepository sourceCodeRepository;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private TemplateTagRepository templateTagRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Template template;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(new Member("user1@test.com", "pp", "salt1"));
+        Category category = categoryRepository.save(new Category("Category 1", member));
+        template = templateRepository.save(new Template(member, "Template 1", "Description 1", category));
+        sourceCodeRepository.save(new SourceCode(template, "Second.java", "content2", 2));
+        sourceCodeRepository.save(new SourceCode(template, "First.java", "content1", 1));
+        templateTagRepository.save(new TemplateTag(template, tagRepository.save(new Tag("Tag 1"))));
+        templateTagRepository.save(new TemplateTag(template, tagRepository.save(new Tag("Tag 2"))));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("성공: 템플릿 상세 조회는 템플릿과 태그 두 번의 쿼리로 조회")
+    void fetchWithDetailsByIdWithTwoStatements() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        Template foundTemplate = templateRepository.fetchWithDetailsById(template.getId());
+        List<Tag> tags = templateTagRepository.findAllByTemplate(foundTemplate).stream()
+                .map(TemplateTag::getTag)
+                .toList();
+
+        // then
+        assertAll(
+                () -> assertThat(Hibernate.isInitialized(foundTemplate.getCategory())).isTrue(),
+                () -> assertThat(foundTemplate.getSourceCodes()).extracting(SourceCode::getFilename)
+                        .containsExactly("First.java", "Second.java"),
+                () -> assertThat(tags).extracting(Tag::getName)
+                        .containsExactlyInAnyOrder("Tag 1", "Tag 2"),
+                () -> assertThat(statistics.getPrepareStatementCount()).isEqualTo(2)
+        );
+    }
+}
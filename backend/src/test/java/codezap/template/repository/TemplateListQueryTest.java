@@ -0,0 +1,141 @@
+package codezap.template.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import codezap.category.domain.Category;
+import codezap.category.repository.CategoryRepository;
+import codezap.global.repository.JpaRepositoryTest;
+import codezap.member.domain.Member;
+import codezap.member.repository.MemberRepository;
+import codezap.tag.domain.Tag;
+import codezap.tag.repository.TagRepository;
+import codezap.tag.repository.TemplateTagRepository;
+import codezap.template.domain.SourceCode;
+import codezap.template.domain.Template;
+import codezap.template.domain.TemplateSummary;
+import codezap.template.domain.TemplateTag;
+import codezap.template.domain.Thumbnail;
+import codezap.template.dto.TemplateThumbnailDto;
+
+@JpaRepositoryTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TemplateListQueryTest {
+
+    private static final int TEMPLATE_COUNT = 10;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private SourceCodeRepository sourceCodeRepository;
+    @Autowired
+    private ThumbnailRepository thumbnailRepository;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private TemplateTagRepository templateTagRepository;
+    @Autowired
+    private TemplateSummaryRepository templateSummaryRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> templateIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(new Member("user1@test.com", "pp", "salt1"));
+        Category category = categoryRepository.save(new Category("Category 1", member));
+        Tag firstTag = tagRepository.save(new Tag("Tag 1"));
+        Tag secondTag = tagRepository.save(new Tag("Tag 2"));
+        for (int i = 0; i < TEMPLATE_COUNT; i++) {
+            Template template = templateRepository.save(
+                    new Template(member, "Template " + i, "Description " + i, category));
+            SourceCode sourceCode = sourceCodeRepository.save(new SourceCode(template, "Main.java", "content", 1));
+            thumbnailRepository.save(new Thumbnail(template, sourceCode));
+            templateTagRepository.save(new TemplateTag(template, firstTag));
+            templateTagRepository.save(new TemplateTag(template, secondTag));
+            templateSummaryRepository.save(
+                    new TemplateSummary(template, List.of(firstTag, secondTag), "Main.java", "content"));
+            templateIds.add(template.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("성공: 목록 페이지는 페이지 크기와 관계없이 템플릿 요약 한 번의 쿼리로 조회")
+    void findAllByTemplateIdInWithOneStatement() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // when
+        long smallPageStatementCount = countStatementsToFindSummaries(templateIds.subList(0, 2), statistics);
+        long largePageStatementCount = countStatementsToFindSummaries(templateIds, statistics);
+
+        // then
+        assertAll(
+                () -> assertThat(smallPageStatementCount).isEqualTo(1),
+                () -> assertThat(largePageStatementCount).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 요약을 만들 때 태그와 썸네일은 페이지 크기와 관계없이 두 번의 쿼리로 조회")
+    void findAllByTemplateIdsInWithConstantStatements() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // when
+        long smallPageStatementCount = countStatementsToHydrate(templateIds.subList(0, 2), statistics);
+        long largePageStatementCount = countStatementsToHydrate(templateIds, statistics);
+
+        // then
+        assertAll(
+                () -> assertThat(smallPageStatementCount).isEqualTo(2),
+                () -> assertThat(largePageStatementCount).isEqualTo(2)
+        );
+    }
+
+    private long countStatementsToFindSummaries(List<Long> pageTemplateIds, Statistics statistics) {
+        entityManager.clear();
+        statistics.clear();
+        List<TemplateSummary> templateSummaries = templateSummaryRepository.findAllByTemplateIdIn(pageTemplateIds);
+        assertThat(templateSummaries).extracting(TemplateSummary::getTags)
+                .allSatisfy(tags -> assertThat(tags).hasSize(2));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long countStatementsToHydrate(List<Long> pageTemplateIds, Statistics statistics) {
+        entityManager.clear();
+        statistics.clear();
+        List<String> tagNames = templateTagRepository.findAllByTemplateIdsIn(pageTemplateIds).stream()
+                .map(templateTag -> templateTag.getTag().getName())
+                .toList();
+        List<TemplateThumbnailDto> thumbnails = thumbnailRepository.findAllByTemplateIdsIn(pageTemplateIds);
+        assertAll(
+                () -> assertThat(tagNames).hasSize(pageTemplateIds.size() * 2),
+                () -> assertThat(thumbnails).hasSize(pageTemplateIds.size())
+        );
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -21,6 +21,7 @@ import codezap.member.repository.MemberRepository;
 import codezap.tag.domain.Tag;
 import codezap.tag.repository.TagRepository;
 import codezap.tag.repository.TemplateTagRepository;
+import codezap.template.domain.SourceCode;
 import codezap.template.domain.Template;
 import codezap.template.domain.TemplateTag;
 
@@ -37,6 +38,8 @@ class TemplateRepositoryFindAllTest {
     private TagRepository tagRepository;
     @Autowired
     private TemplateTagRepository templateTagRepository;
+    @Autowired
+    private SourceCodeRepository sourceCodeRepository;
 
     private Member member1, member2;
     private Category category1, category2;
@@ -94,6 +97,31 @@ class TemplateRepositoryFindAllTest {
                 template.getTitle().contains("Template") || template.getDescription().contains("Template"));
     }
 
+    @Test
+    @DisplayName("전문 검색 모드에서 짧은 키워드는 LIKE 검색으로 조회")
+    void testFindByShortKeywordInFullTextMode() {
+        Specification<Template> spec = new TemplateSpecification(null, "1", null, null, KeywordSearchMode.FULLTEXT);
+        Page<Template> result = templateRepository.findAll(spec, PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent()).allMatch(template -> template.getTitle().contains("1"));
+    }
+
+    @Test
+    @DisplayName("소스 코드 후보 ID 중 키워드를 실제로 포함하는 소스 코드의 템플릿만 조회")
+    void testFindBySourceCodeCandidates() {
+        Template template1 = templateRepository.fetchById(1L);
+        Template template2 = templateRepository.fetchById(2L);
+        SourceCode matched = sourceCodeRepository.save(new SourceCode(template1, "a.txt", "abcde", 1));
+        SourceCode unmatched = sourceCodeRepository.save(new SourceCode(template2, "b.txt", "abcd bcde", 1));
+
+        Specification<Template> spec = new TemplateSpecification(null, "abcde", null, null,
+                KeywordSearchMode.FULLTEXT, List.of(matched.getId(), unmatched.getId()));
+        Page<Template> result = templateRepository.findAll(spec, PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).containsExactly(template1);
+    }
+
     @Test
     @DisplayName("카테고리 ID로 템플릿 조회")
     void testFindByCategoryId() {
@@ -0,0 +1,62 @@
+package codezap.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import codezap.template.dto.ExploreTemplateDto;
+import codezap.template.dto.response.ExploreTemplatesResponse;
+
+class ExploreTemplateSnapshotTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("성공: 페이지 크기만큼 나누어 직렬화하고 마지막 페이지는 다음 페이지가 없음")
+    void getPage() throws Exception {
+        // given
+        List<ExploreTemplateDto> exploreTemplates = LongStream.rangeClosed(1, 3)
+                .mapToObj(id -> new ExploreTemplateDto(id, "title" + id, "Main.java", "content", LocalDateTime.now()))
+                .toList();
+
+        // when
+        ExploreTemplateSnapshot snapshot = ExploreTemplateSnapshot.of(exploreTemplates, 2, objectMapper);
+
+        // then
+        ExploreTemplatesResponse firstPage = read(snapshot.getPage(1));
+        ExploreTemplatesResponse secondPage = read(snapshot.getPage(2));
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(firstPage.templates()).extracting(ExploreTemplatesResponse.ItemResponse::id)
+                .containsExactly(1L, 2L);
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.templates()).extracting(ExploreTemplatesResponse.ItemResponse::id)
+                .containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("성공: 스냅샷 범위를 벗어난 페이지는 빈 페이지")
+    void getPageOutOfRange() throws Exception {
+        // given
+        ExploreTemplateSnapshot snapshot = ExploreTemplateSnapshot.empty(objectMapper);
+
+        // when
+        ExploreTemplatesResponse page = read(snapshot.getPage(3));
+
+        // then
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.templates()).isEmpty();
+    }
+
+    private ExploreTemplatesResponse read(byte[] page) throws IOException {
+        return objectMapper.readValue(page, ExploreTemplatesResponse.class);
+    }
+}
@@ -0,0 +1,192 @@
+package codezap.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import codezap.template.domain.TemplateEvent;
+import codezap.template.domain.TemplateEventType;
+import codezap.template.repository.FakeTemplateEventOffsetRepository;
+import codezap.template.repository.FakeTemplateEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TemplateEventDispatcherTest {
+
+    private final FakeTemplateEventRepository templateEventRepository = new FakeTemplateEventRepository();
+    private final TemplateEventService templateEventService =
+            new TemplateEventService(templateEventRepository, new FakeTemplateEventOffsetRepository());
+    private final TemplateSearchGeneration templateSearchGeneration = new TemplateSearchGeneration();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("성공: 쌓인 이벤트를 발행 순서대로 모든 소비자에게 전달하고 검색 세대를 올림")
+    void dispatch() {
+        // given
+        RecordingConsumer firstConsumer = new RecordingConsumer(Set.of());
+        RecordingConsumer secondConsumer = new RecordingConsumer(Set.of());
+        TemplateEventDispatcher dispatcher = createDispatcher(List.of(firstConsumer, secondConsumer));
+        publish(1L, TemplateEventType.CREATED);
+        publish(2L, TemplateEventType.CREATED);
+        publish(1L, TemplateEventType.UPDATED);
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertAll(
+                () -> assertThat(firstConsumer.templateIds).containsExactly(1L, 2L, 1L),
+                () -> assertThat(secondConsumer.templateIds).containsExactly(1L, 2L, 1L),
+                () -> assertThat(templateSearchGeneration.current(1L)).isEqualTo(3),
+                () -> assertThat(meterRegistry.counter("template.event.dispatched").count()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 인스턴스마다 자신의 오프셋으로 모든 이벤트를 전달받음")
+    void dispatchPerInstance() {
+        // given
+        RecordingConsumer firstConsumer = new RecordingConsumer(Set.of());
+        RecordingConsumer secondConsumer = new RecordingConsumer(Set.of());
+        TemplateEventDispatcher firstDispatcher = createDispatcher(List.of(firstConsumer));
+        TemplateEventDispatcher secondDispatcher = createDispatcher(List.of(secondConsumer));
+        publish(1L, TemplateEventType.CREATED);
+        publish(2L, TemplateEventType.CREATED);
+
+        // when
+        firstDispatcher.dispatch();
+        secondDispatcher.dispatch();
+
+        // then
+        assertAll(
+                () -> assertThat(firstConsumer.templateIds).containsExactly(1L, 2L),
+                () -> assertThat(secondConsumer.templateIds).containsExactly(1L, 2L),
+                () -> assertThat(templateEventRepository.count()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 전달에 실패한 이벤트는 보류하고 다음 이벤트를 전달한 뒤 대기 시간이 지나면 다시 시도")
+    void dispatchRetry() {
+        // given
+        RecordingConsumer consumer = new RecordingConsumer(new HashSet<>(Set.of(1L)));
+        TemplateEventDispatcher dispatcher = createDispatcher(List.of(consumer));
+        publish(2L, TemplateEventType.CREATED);
+        publish(1L, TemplateEventType.CREATED);
+        publish(2L, TemplateEventType.UPDATED);
+        LocalDateTime now = LocalDateTime.now();
+        dispatcher.dispatch(now);
+        List<Long> firstTemplateIds = List.copyOf(consumer.templateIds);
+        consumer.failingTemplateIds.clear();
+
+        // when
+        dispatcher.dispatch(now);
+        List<Long> beforeBackoffTemplateIds = List.copyOf(consumer.templateIds);
+        dispatcher.dispatch(now.plusSeconds(1));
+
+        // then
+        assertAll(
+                () -> assertThat(firstTemplateIds).containsExactly(2L, 2L),
+                () -> assertThat(beforeBackoffTemplateIds).containsExactly(2L, 2L),
+                () -> assertThat(consumer.templateIds).containsExactly(2L, 2L, 1L),
+                () -> assertThat(meterRegistry.counter("template.event.failed").count()).isEqualTo(1),
+                () -> assertThat(meterRegistry.get("template.event.parked").gauge().value()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 보류한 이벤트는 반영할 때까지 오프셋을 넘기지 않아 정리되지 않음")
+    void dispatchParkedEventKeepsOffset() {
+        // given
+        RecordingConsumer consumer = new RecordingConsumer(new HashSet<>(Set.of(1L)));
+        TemplateEventDispatcher dispatcher = createDispatcher(List.of(consumer));
+        publish(1L, TemplateEventType.DELETED);
+        publish(2L, TemplateEventType.CREATED);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 20; i++) {
+            dispatcher.dispatch(now.plusMinutes(i * 5L));
+        }
+        dispatcher.heartbeat();
+
+        // when
+        int prunedWhileParked = templateEventService.prune(Duration.ofMinutes(5), Duration.ofMinutes(1));
+        consumer.failingTemplateIds.clear();
+        dispatcher.dispatch(now.plusHours(2));
+        dispatcher.heartbeat();
+        int prunedAfterApplied = templateEventService.prune(Duration.ofMinutes(5), Duration.ofMinutes(1));
+
+        // then
+        assertAll(
+                () -> assertThat(prunedWhileParked).isZero(),
+                () -> assertThat(prunedAfterApplied).isEqualTo(2),
+                () -> assertThat(consumer.templateIds).containsExactly(2L, 1L),
+                () -> assertThat(meterRegistry.counter("template.event.failed").count()).isEqualTo(20)
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 모든 인스턴스가 전달받은 이벤트만 정리")
+    void prune() {
+        // given
+        TemplateEventDispatcher firstDispatcher = createDispatcher(List.of(new RecordingConsumer(Set.of())));
+        TemplateEventDispatcher secondDispatcher = createDispatcher(List.of(new RecordingConsumer(Set.of())));
+        publish(1L, TemplateEventType.CREATED);
+        publish(2L, TemplateEventType.CREATED);
+        firstDispatcher.dispatch();
+        firstDispatcher.heartbeat();
+
+        // when
+        int prunedBeforeSecond = templateEventService.prune(Duration.ofMinutes(5), Duration.ofMinutes(1));
+        secondDispatcher.dispatch();
+        secondDispatcher.heartbeat();
+        int prunedAfterSecond = templateEventService.prune(Duration.ofMinutes(5), Duration.ofMinutes(1));
+
+        // then
+        assertAll(
+                () -> assertThat(prunedBeforeSecond).isZero(),
+                () -> assertThat(prunedAfterSecond).isEqualTo(2),
+                () -> assertThat(templateEventRepository.count()).isZero()
+        );
+    }
+
+    private TemplateEventDispatcher createDispatcher(List<TemplateEventConsumer> consumers) {
+        TemplateEventDispatcher dispatcher =
+                new TemplateEventDispatcher(templateEventService, consumers, templateSearchGeneration, meterRegistry);
+        dispatcher.register();
+        return dispatcher;
+    }
+
+    private void publish(Long templateId, TemplateEventType eventType) {
+        templateEventRepository.saveAll(List.of(
+                new TemplateEvent(null, templateId, 1L, eventType, LocalDateTime.now().minusHours(1))));
+    }
+
+    private static class RecordingConsumer implements TemplateEventConsumer {
+
+        private final Set<Long> failingTemplateIds;
+        private final List<Long> templateIds = new ArrayList<>();
+
+        private RecordingConsumer(Set<Long> failingTemplateIds) {
+            this.failingTemplateIds = failingTemplateIds;
+        }
+
+        @Override
+        public void consume(List<TemplateEvent> templateEvents) {
+            boolean failed = templateEvents.stream()
+                    .anyMatch(templateEvent -> failingTemplateIds.contains(templateEvent.getTemplateId()));
+            if (failed) {
+                throw new IllegalStateException("전달 실패");
+            }
+            templateEvents.forEach(templateEvent -> templateIds.add(templateEvent.getTemplateId()));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package codezap.template.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TemplateSearchGenerationTest {
+
+    @Test
+    @DisplayName("성공: 회원의 세대를 올리면 해당 회원과 전체 세대만 증가")
+    void advance() {
+        // given
+        TemplateSearchGeneration templateSearchGeneration = new TemplateSearchGeneration();
+
+        // when
+        templateSearchGeneration.advance(1L);
+
+        // then
+        assertAll(
+                () -> assertThat(templateSearchGeneration.current(1L)).isEqualTo(1L),
+                () -> assertThat(templateSearchGeneration.current(2L)).isZero(),
+                () -> assertThat(templateSearchGeneration.current(null)).isEqualTo(1L)
+        );
+    }
+
+    @Test
+    @DisplayName("성공: 회원의 세대가 바뀔 때만 목록 ETag가 바뀜")
+    void listVersion() {
+        // given
+        TemplateSearchGeneration templateSearchGeneration = new TemplateSearchGeneration();
+        String before = templateSearchGeneration.listVersion(1L).eTag();
+
+        // when
+        templateSearchGeneration.advance(2L);
+        String afterOtherMember = templateSearchGeneration.listVersion(1L).eTag();
+        templateSearchGeneration.advance(1L);
+        String afterMember = templateSearchGeneration.listVersion(1L).eTag();
+
+        // then
+        assertAll(
+                () -> assertThat(afterOtherMember).isEqualTo(before),
+                () -> assertThat(afterMember).isNotEqualTo(before),
+                () -> assertThat(new TemplateSearchGeneration().listVersion(1L).eTag()).isNotEqualTo(before)
+        );
+    }
+}
@@ -18,6 +18,8 @@ import codezap.global.exception.CodeZapException;
 import codezap.member.domain.Member;
 import codezap.member.repository.FakeMemberRepository;
 import codezap.member.repository.MemberRepository;
+import codezap.search.service.SourceCodeSearchService;
+import codezap.search.service.TemplateBitmapSearchService;
 import codezap.tag.domain.Tag;
 import codezap.tag.repository.TagRepository;
 import codezap.tag.repository.TemplateTagRepository;
@@ -53,7 +55,11 @@ class TemplateServiceTest {
     private final MemberRepository memberRepository = new FakeMemberRepository(
             List.of(MemberFixture.getFirstMember(), MemberFixture.getSecondMember())
     );
-    private final TemplateService templateService = new TemplateService(templateRepository);
+    private final TemplateService templateService = new TemplateService(
+            templateRepository,
+            new SourceCodeSearchService(sourceCodeRepository),
+            new TemplateBitmapSearchService(templateRepository, templateTagRepository)
+    );
 
     private CreateTemplateRequest makeTemplateRequest(String title) {
         return new CreateTemplateRequest(